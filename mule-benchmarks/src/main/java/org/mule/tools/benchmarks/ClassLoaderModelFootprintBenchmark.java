@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.tools.api.classloader.model.ModelInterner.INTERNING_PROPERTY;
+import static org.mule.tools.api.classloader.model.util.ArtifactUtils.updatePackagesResources;
+import static org.mule.tools.benchmarks.SyntheticArtifacts.GROUP_ID;
+import static org.mule.tools.benchmarks.SyntheticArtifacts.VERSION;
+
+import org.mule.tools.api.classloader.model.Artifact;
+import org.mule.tools.api.classloader.model.ArtifactCoordinates;
+import org.mule.tools.api.classloader.model.ClassLoaderModel;
+import org.mule.tools.api.util.FileJarExplorer;
+import org.mule.tools.api.util.JarExplorer;
+import org.mule.tools.api.util.JarInfo;
+import org.mule.tools.api.util.MemoizingJarExplorer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Heap retained by the class loader models of an application and its plugins, which depend on overlapping sets of libraries.
+ * <p>
+ * {@code shared} builds the models as the packager does, interning the coordinates and package names and exploring each jar
+ * once. {@code unshared} builds them with interning disabled and a new exploration of each jar per model, as they were built
+ * before. The retained bytes are reported in the {@code retainedBytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClassLoaderModelFootprintBenchmark {
+
+  private static final int PLUGINS = 20;
+  private static final int CLASSES = 200;
+
+  @Param({"100", "1000"})
+  public int dependencies;
+
+  private Path folder;
+  private List<URI> libraries;
+  private List<URI> plugins;
+
+  @Setup
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("footprint");
+    libraries = new ArrayList<>();
+    for (int i = 0; i < dependencies; i++) {
+      libraries.add(SyntheticArtifacts.createJar(folder.resolve("library-" + i + "-" + VERSION + ".jar"), CLASSES, CLASSES / 10)
+          .toUri());
+    }
+    plugins = new ArrayList<>();
+    for (int i = 0; i < PLUGINS; i++) {
+      plugins.add(SyntheticArtifacts.createJar(folder.resolve("plugin-" + i + "-" + VERSION + ".jar"), CLASSES, 10).toUri());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SyntheticArtifacts.deleteRecursively(folder);
+  }
+
+  @Benchmark
+  public List<ClassLoaderModel> shared(Footprint footprint) {
+    return measure(footprint, new MemoizingJarExplorer());
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-D" + INTERNING_PROPERTY + "=false")
+  public List<ClassLoaderModel> unshared(Footprint footprint) {
+    return measure(footprint, new FileJarExplorer());
+  }
+
+  private List<ClassLoaderModel> measure(Footprint footprint, JarExplorer jarExplorer) {
+    long before = usedHeap();
+    List<ClassLoaderModel> models = buildModels(jarExplorer);
+    footprint.retainedBytes = usedHeap() - before;
+    return models;
+  }
+
+  /**
+   * Builds the application model, depending on every library, and the model of each plugin, depending on a quarter of the
+   * libraries, plus their copies with parameterized URIs.
+   */
+  private List<ClassLoaderModel> buildModels(JarExplorer jarExplorer) {
+    List<ClassLoaderModel> models = new ArrayList<>();
+    ClassLoaderModel application = model("application");
+    application.setDependencies(updatePackagesResources(artifacts(0, dependencies), jarExplorer));
+    models.add(application);
+    models.add(application.getParametrizedUriModel());
+
+    int pluginDependencies = Math.max(1, dependencies / 4);
+    for (int i = 0; i < PLUGINS; i++) {
+      ClassLoaderModel plugin = model("plugin-" + i);
+      JarInfo jarInfo = jarExplorer.explore(plugins.get(i));
+      plugin.setPackages(jarInfo.getPackagesArray());
+      plugin.setResources(jarInfo.getResourcesArray());
+      int first = (i * pluginDependencies / 2) % dependencies;
+      plugin.setDependencies(updatePackagesResources(artifacts(first, pluginDependencies), jarExplorer));
+      models.add(plugin);
+      models.add(plugin.getParametrizedUriModel());
+    }
+    return models;
+  }
+
+  /**
+   * Artifacts are created from new strings, as the coordinates of each model are read from a different dependency descriptor.
+   */
+  private List<Artifact> artifacts(int first, int count) {
+    List<Artifact> artifacts = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int index = (first + i) % dependencies;
+      artifacts.add(new Artifact(new ArtifactCoordinates(new String(GROUP_ID), "library-" + index, new String(VERSION)),
+                                 libraries.get(index)));
+    }
+    return artifacts;
+  }
+
+  private ClassLoaderModel model(String artifactId) {
+    return new ClassLoaderModel("1.2.0", new ArtifactCoordinates(new String(GROUP_ID), artifactId, new String(VERSION), "jar",
+                                                                 "mule-plugin"));
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Secondary result with the heap retained by the models built in the iteration.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.tools.api.classloader.ClassLoaderModelJsonSerializer;
+import org.mule.tools.api.classloader.model.ClassLoaderModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes and reads the {@code classloader-model.json} descriptor of an application with a growing number of dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClassLoaderModelJsonSerializerBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int dependencies;
+
+  @Param({"false", "true"})
+  public boolean prettyPrinting;
+
+  private Path folder;
+  private ClassLoaderModel classLoaderModel;
+  private File descriptor;
+
+  @Setup
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("classloader-model");
+    classLoaderModel = SyntheticArtifacts.createClassLoaderModel(folder.resolve("dependencies"), dependencies, 50);
+    descriptor = ClassLoaderModelJsonSerializer.serializeToFile(classLoaderModel,
+                                                                Files.createDirectories(folder.resolve("descriptor")).toFile(),
+                                                                prettyPrinting);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SyntheticArtifacts.deleteRecursively(folder);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return ClassLoaderModelJsonSerializer.serialize(classLoaderModel, prettyPrinting);
+  }
+
+  @Benchmark
+  public ClassLoaderModel deserialize() {
+    return ClassLoaderModelJsonSerializer.deserialize(descriptor);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.tools.api.util.FileJarExplorer;
+import org.mule.tools.api.util.JarInfo;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scans a jar for its packages and resources, as done for every dependency of an application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileJarExplorerBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  public int classes;
+
+  private Path folder;
+  private URI jar;
+
+  @Setup
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("jar-explorer");
+    jar = SyntheticArtifacts.createJar(folder.resolve("library.jar"), classes, classes / 10).toUri();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SyntheticArtifacts.deleteRecursively(folder);
+  }
+
+  @Benchmark
+  public JarInfo explore() {
+    return new FileJarExplorer().explore(jar);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.tools.api.packager.archiver.MuleArchiver;
+import org.mule.tools.api.packager.archiver.ParallelZipArchiver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Archives the classes and the repository of an application, with the default archiver and with the parallel one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MuleArchiverBenchmark {
+
+  @Param({"10", "100"})
+  public int dependencies;
+
+  @Param({"false", "true"})
+  public boolean parallelCompression;
+
+  private Path folder;
+  private File classes;
+  private File repository;
+  private File destination;
+
+  @Setup
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("mule-archiver");
+    classes = SyntheticArtifacts.createProject(folder.resolve("classes"), 500).toFile();
+    repository = folder.resolve("repository").toFile();
+    SyntheticArtifacts.createArtifacts(repository.toPath(), dependencies, 200);
+  }
+
+  @Setup(Level.Invocation)
+  public void deleteArchive() throws IOException {
+    destination = folder.resolve("application.jar").toFile();
+    Files.deleteIfExists(destination.toPath());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SyntheticArtifacts.deleteRecursively(folder);
+  }
+
+  @Benchmark
+  public File createArchive() throws IOException {
+    MuleArchiver archiver = parallelCompression ? new MuleArchiver(new ParallelZipArchiver(emptyList())) : new MuleArchiver();
+    archiver.addToRoot(classes, null, null);
+    archiver.addRepository(repository, null, null);
+    archiver.setDestFile(destination);
+    archiver.createArchive();
+    return destination;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.tools.api.util.exclude.MuleExclusionMatcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matches every file of a project against the patterns of its {@code _muleExclude} file, as done when copying the sources of an
+ * application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MuleExclusionMatcherBenchmark {
+
+  private static final String MULE_EXCLUDE = String.join("\n", "**/.settings/**", "**/target/**", "**/*.txt", "api/**");
+
+  @Param({"100", "1000", "10000"})
+  public int files;
+
+  private Path project;
+  private MuleExclusionMatcher matcher;
+  private List<Path> paths;
+
+  @Setup
+  public void setUp() throws IOException {
+    project = SyntheticArtifacts.createProject(Files.createTempDirectory("exclusion-matcher"), files);
+    Files.write(project.resolve("_muleExclude"), MULE_EXCLUDE.getBytes(UTF_8));
+    matcher = new MuleExclusionMatcher(project);
+    try (Stream<Path> walk = Files.walk(project)) {
+      paths = walk.map(project::relativize).collect(Collectors.toList());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SyntheticArtifacts.deleteRecursively(project);
+  }
+
+  @Benchmark
+  public int matchProject() {
+    int excluded = 0;
+    for (Path path : paths) {
+      if (matcher.matches(path)) {
+        excluded++;
+      }
+    }
+    return excluded;
+  }
+}
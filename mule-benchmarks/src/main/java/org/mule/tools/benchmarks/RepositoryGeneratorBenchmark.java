@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.tools.api.classloader.model.ApplicationClassloaderModel;
+import org.mule.tools.api.repository.ArtifactInstaller;
+import org.mule.tools.api.repository.RepositoryGenerator;
+import org.mule.tools.api.util.PackagerLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Installs the dependencies of an application into its {@code repository} folder. Every invocation installs into an empty
+ * folder, as a clean build does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class RepositoryGeneratorBenchmark {
+
+  @Param({"10", "100", "500"})
+  public int dependencies;
+
+  private Path folder;
+  private Path repository;
+  private ApplicationClassloaderModel appModel;
+  private BenchmarkRepositoryGenerator generator;
+  private ArtifactInstaller installer;
+
+  @Setup
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("repository-generator");
+    appModel = new ApplicationClassloaderModel(SyntheticArtifacts.createClassLoaderModel(folder.resolve("dependencies"),
+                                                                                         dependencies, 100));
+    installer = new ArtifactInstaller(new QuietPackagerLog());
+    generator = new BenchmarkRepositoryGenerator(folder.toFile());
+  }
+
+  @Setup(Level.Invocation)
+  public void cleanRepository() throws IOException {
+    repository = folder.resolve("repository");
+    SyntheticArtifacts.deleteRecursively(repository);
+    Files.createDirectories(repository);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SyntheticArtifacts.deleteRecursively(folder);
+  }
+
+  @Benchmark
+  public Path installArtifacts() throws IOException {
+    generator.installArtifacts(repository.toFile(), installer, appModel);
+    return repository;
+  }
+
+  /**
+   * Exposes {@link RepositoryGenerator#installArtifacts}, which is only reachable from the packager otherwise.
+   */
+  private static class BenchmarkRepositoryGenerator extends RepositoryGenerator {
+
+    private BenchmarkRepositoryGenerator(File outputDirectory) {
+      super(null, outputDirectory, null, null, null, emptyList());
+    }
+
+    private void installArtifacts(File repositoryFile, ArtifactInstaller installer, ApplicationClassloaderModel appModel)
+        throws IOException {
+      installArtifacts(repositoryFile, installer, appModel, false);
+    }
+  }
+
+  private static class QuietPackagerLog implements PackagerLog {
+
+    @Override
+    public void info(String s) {}
+
+    @Override
+    public void error(String s) {}
+
+    @Override
+    public void warn(String s) {}
+
+    @Override
+    public void debug(String s) {}
+
+    @Override
+    public void error(String s, Throwable e) {}
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.tools.api.classloader.Constants.ARTIFACT_ID;
+import static org.mule.tools.api.classloader.Constants.GROUP_ID;
+import static org.mule.tools.api.classloader.Constants.MULE_MAVEN_PLUGIN_ARTIFACT_ID;
+import static org.mule.tools.api.classloader.Constants.MULE_MAVEN_PLUGIN_GROUP_ID;
+import static org.mule.tools.api.classloader.Constants.SHARED_LIBRARIES_FIELD;
+import static org.mule.tools.api.classloader.Constants.SHARED_LIBRARY_FIELD;
+
+import org.mule.maven.pom.parser.api.model.BundleDependency;
+import org.mule.maven.pom.parser.api.model.BundleDescriptor;
+import org.mule.tools.api.classloader.model.Artifact;
+import org.mule.tools.api.classloader.model.util.ArtifactUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flags the shared libraries declared in the mule-maven-plugin configuration, and their transitive dependencies, as shared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SharedLibrariesBenchmark {
+
+  private static final int TRANSITIVE_DEPTH = 3;
+
+  @Param({"10", "100", "1000"})
+  public int dependencies;
+
+  @Param({"1", "10"})
+  public int sharedLibraries;
+
+  private Path folder;
+  private List<Artifact> artifacts;
+  private List<BundleDependency> appDependencies;
+  private Model pomModel;
+
+  @Setup
+  public void setUp() throws IOException {
+    folder = Files.createTempDirectory("shared-libraries");
+    artifacts = SyntheticArtifacts.createArtifacts(folder, dependencies, 10);
+    appDependencies = new ArrayList<>();
+    for (int i = 0; i < artifacts.size(); i++) {
+      appDependencies.add(bundleDependency(i));
+    }
+    pomModel = pomModel();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    SyntheticArtifacts.deleteRecursively(folder);
+  }
+
+  @Benchmark
+  public List<Artifact> updateArtifactsSharedState() {
+    return ArtifactUtils.updateArtifactsSharedState(appDependencies, artifacts, pomModel, emptyList());
+  }
+
+  /**
+   * Each dependency depends on the next {@value #TRANSITIVE_DEPTH} ones, so shared libraries drag a chain of transitive
+   * dependencies along.
+   */
+  private BundleDependency bundleDependency(int index) {
+    BundleDependency.Builder builder = new BundleDependency.Builder()
+        .setDescriptor(bundleDescriptor(index))
+        .setBundleUri(artifacts.get(index).getUri());
+    for (int transitive = index + 1; transitive <= index + TRANSITIVE_DEPTH && transitive < artifacts.size(); transitive++) {
+      builder.addTransitiveDependency(new BundleDependency.Builder()
+          .setDescriptor(bundleDescriptor(transitive))
+          .setBundleUri(artifacts.get(transitive).getUri())
+          .build());
+    }
+    return builder.build();
+  }
+
+  private BundleDescriptor bundleDescriptor(int index) {
+    return new BundleDescriptor.Builder()
+        .setGroupId(SyntheticArtifacts.GROUP_ID)
+        .setArtifactId(SyntheticArtifacts.coordinates(index).getArtifactId())
+        .setVersion(SyntheticArtifacts.VERSION)
+        .setBaseVersion(SyntheticArtifacts.VERSION)
+        .setType("jar")
+        .build();
+  }
+
+  private Model pomModel() {
+    Xpp3Dom sharedLibrariesDom = new Xpp3Dom(SHARED_LIBRARIES_FIELD);
+    int step = Math.max(1, dependencies / sharedLibraries);
+    for (int i = 0; i < dependencies; i += step) {
+      Xpp3Dom sharedLibrary = new Xpp3Dom(SHARED_LIBRARY_FIELD);
+      sharedLibrary.addChild(value(GROUP_ID, SyntheticArtifacts.GROUP_ID));
+      sharedLibrary.addChild(value(ARTIFACT_ID, SyntheticArtifacts.coordinates(i).getArtifactId()));
+      sharedLibrariesDom.addChild(sharedLibrary);
+    }
+    Xpp3Dom configuration = new Xpp3Dom("configuration");
+    configuration.addChild(sharedLibrariesDom);
+
+    Plugin plugin = new Plugin();
+    plugin.setGroupId(MULE_MAVEN_PLUGIN_GROUP_ID);
+    plugin.setArtifactId(MULE_MAVEN_PLUGIN_ARTIFACT_ID);
+    plugin.setConfiguration(configuration);
+    Build build = new Build();
+    build.addPlugin(plugin);
+    Model model = new Model();
+    model.setBuild(build);
+    return model;
+  }
+
+  private static Xpp3Dom value(String name, String value) {
+    Xpp3Dom dom = new Xpp3Dom(name);
+    dom.setValue(value);
+    return dom;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.mule.tools.api.classloader.model.Artifact;
+import org.mule.tools.api.classloader.model.ArtifactCoordinates;
+import org.mule.tools.api.classloader.model.ClassLoaderModel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Generates the synthetic jars, projects and models the benchmarks run against, so they do not need any artifact from a Maven
+ * repository and can run offline.
+ * <p>
+ * Contents are generated from a fixed seed, so every run of a benchmark measures the same inputs and results of different commits
+ * can be compared.
+ */
+public final class SyntheticArtifacts {
+
+  public static final String GROUP_ID = "org.mule.benchmarks";
+  public static final String VERSION = "1.0.0";
+
+  private static final int CLASSES_PER_PACKAGE = 10;
+  private static final long SEED = 42;
+
+  private SyntheticArtifacts() {}
+
+  /**
+   * Creates a jar with {@code classes} class entries, spread over packages of {@value #CLASSES_PER_PACKAGE} classes, and
+   * {@code resources} resource entries.
+   */
+  public static Path createJar(Path jar, int classes, int resources) throws IOException {
+    Files.createDirectories(jar.toAbsolutePath().getParent());
+    Random random = new Random(SEED);
+    byte[] content = new byte[512];
+    try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(jar))) {
+      outputStream.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+      outputStream.write("Manifest-Version: 1.0\n".getBytes(UTF_8));
+      outputStream.closeEntry();
+      for (int i = 0; i < classes; i++) {
+        random.nextBytes(content);
+        outputStream.putNextEntry(new ZipEntry(packageName(i / CLASSES_PER_PACKAGE).replace('.', '/') + "/Class" + i + ".class"));
+        outputStream.write(content);
+        outputStream.closeEntry();
+      }
+      for (int i = 0; i < resources; i++) {
+        random.nextBytes(content);
+        outputStream.putNextEntry(new ZipEntry("resources/folder" + (i % 10) + "/resource" + i + ".properties"));
+        outputStream.write(content);
+        outputStream.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  /**
+   * Creates a project folder with {@code files} files spread over {@code src/main/mule}, {@code src/main/resources} and folders
+   * usually excluded from the package, such as {@code .settings}.
+   */
+  public static Path createProject(Path project, int files) throws IOException {
+    String[] folders = {"src/main/mule", "src/main/resources", "src/main/resources/api", ".settings", "target/classes"};
+    for (int i = 0; i < files; i++) {
+      Path file = project.resolve(folders[i % folders.length]).resolve("file" + i + (i % 3 == 0 ? ".xml" : ".txt"));
+      Files.createDirectories(file.getParent());
+      Files.write(file, ("<file id=\"" + i + "\"/>").getBytes(UTF_8));
+    }
+    return project;
+  }
+
+  /**
+   * Creates {@code count} artifacts, each one backed by a jar in {@code folder} with {@code classes} classes.
+   */
+  public static List<Artifact> createArtifacts(Path folder, int count, int classes) throws IOException {
+    List<Artifact> artifacts = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ArtifactCoordinates coordinates = coordinates(i);
+      Path jar = createJar(folder.resolve(coordinates.getArtifactId() + "-" + VERSION + ".jar"), classes, classes / 10);
+      Artifact artifact = new Artifact(coordinates, jar.toUri());
+      artifact.setPackages(packages(classes));
+      artifact.setResources(new String[] {"resources/folder0/resource0.properties"});
+      artifacts.add(artifact);
+    }
+    return artifacts;
+  }
+
+  /**
+   * Creates a class loader model with {@code dependencies} dependencies, each one exporting the packages of {@code classes}
+   * classes.
+   */
+  public static ClassLoaderModel createClassLoaderModel(Path folder, int dependencies, int classes) throws IOException {
+    ClassLoaderModel classLoaderModel =
+        new ClassLoaderModel("1.2.0", new ArtifactCoordinates(GROUP_ID, "application", VERSION, "jar", "mule-application"));
+    classLoaderModel.setDependencies(createArtifacts(folder, dependencies, classes));
+    classLoaderModel.setPackages(packages(classes));
+    return classLoaderModel;
+  }
+
+  public static ArtifactCoordinates coordinates(int index) {
+    return new ArtifactCoordinates(GROUP_ID, "library-" + index, VERSION);
+  }
+
+  public static void deleteRecursively(Path folder) throws IOException {
+    if (!Files.exists(folder)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(folder)) {
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private static String[] packages(int classes) {
+    int packages = Math.max(1, classes / CLASSES_PER_PACKAGE);
+    String[] names = new String[packages];
+    for (int i = 0; i < packages; i++) {
+      names[i] = packageName(i);
+    }
+    return names;
+  }
+
+  private static String packageName(int index) {
+    return "org.mule.benchmarks.module" + (index % 7) + ".package" + index;
+  }
+}
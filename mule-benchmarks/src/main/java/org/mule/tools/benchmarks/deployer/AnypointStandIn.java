@@ -0,0 +1,660 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks.deployer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in of the Anypoint Platform APIs used by the deployers: accounts, CloudHub, ARM, Runtime Fabric, CloudHub 2.0 and
+ * the Mule agent.
+ * <p>
+ * It keeps the deployed applications in memory and moves them from in progress to started (or failed) after the startup time of
+ * its {@link StandInSettings}, so deployments can be verified as they are against the real platform. It only implements what the
+ * clients of this project read from the responses, and accepts any credentials.
+ */
+public class AnypointStandIn implements AutoCloseable {
+
+  public static final String ORGANIZATION_ID = "2c9a8b43-0f7e-4d3a-9a7c-5f4e3d2c1b0a";
+  public static final String ORGANIZATION = "Stand-in";
+  public static final String ENVIRONMENT_ID = "7d6c5b4a-3e2f-4a1b-8c9d-0e1f2a3b4c5d";
+  public static final String ENVIRONMENT = "Sandbox";
+  public static final String MULE_VERSION = "4.4.0";
+  public static final String ARM_SERVER = "server";
+  public static final String ARM_SERVER_GROUP = "server-group";
+  public static final String ARM_CLUSTER = "cluster";
+  public static final String RUNTIME_FABRIC_TARGET = "rtf-target";
+  public static final String RUNTIME_FABRIC_TARGET_ID = "5e4d3c2b-1a0f-4e9d-8c7b-6a5f4e3d2c1b";
+
+  static final String RTF_ALREADY_DEPLOYED_MESSAGE =
+      "This target has an application with the same name already deployed. Please delete it in order to create a new deployment.";
+
+  private static final Gson GSON = new Gson();
+  private static final Pattern PATH_PARAMETER = Pattern.compile("\\{[^/]+}");
+
+  private final StandInSettings settings;
+  private final Random random;
+  private final RequestStatistics statistics = new RequestStatistics();
+  private final List<Route> routes = new ArrayList<>();
+  private final Map<String, StandInApplication> applications = new ConcurrentHashMap<>();
+  private final AtomicInteger armIds = new AtomicInteger(1);
+  private final AtomicInteger tokens = new AtomicInteger();
+
+  private HttpServer server;
+  private ExecutorService executor;
+
+  public AnypointStandIn(StandInSettings settings) {
+    this.settings = settings;
+    this.random = new Random(settings.getSeed());
+    accountRoutes();
+    cloudHubRoutes();
+    armRoutes();
+    runtimeFabricRoutes("/hybrid/api/v2/organizations/{org}/environments/{env}/deployments", "rtf");
+    runtimeFabricRoutes("/amc/application-manager/api/v2/organizations/{org}/environments/{env}/deployments", "ch2");
+    agentRoutes();
+  }
+
+  /**
+   * Starts listening on a free port of the loopback interface.
+   *
+   * @return the base URI of the stand-in
+   */
+  public String start() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "anypoint-stand-in");
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.createContext("/", this::handle);
+    server.start();
+    return getUri();
+  }
+
+  public String getUri() {
+    return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+  }
+
+  public RequestStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public void close() {
+    if (server != null) {
+      server.stop(0);
+      executor.shutdownNow();
+    }
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    long start = System.nanoTime();
+    String method = exchange.getRequestMethod();
+    String path = exchange.getRequestURI().getPath();
+    String routeName = "UNMATCHED " + method;
+    Reply reply;
+    try {
+      byte[] body = readBody(exchange.getRequestBody());
+      waitLatency();
+      Route route = null;
+      Matcher matcher = null;
+      for (Route candidate : routes) {
+        matcher = candidate.match(method, path);
+        if (matcher != null) {
+          route = candidate;
+          break;
+        }
+      }
+      if (route == null) {
+        reply = Reply.error(404, "No stand-in route for " + method + " " + path);
+      } else {
+        routeName = route.name;
+        if (settings.isErrorPath(path) && nextDouble() < settings.getErrorRate()) {
+          reply = Reply.error(settings.getErrorStatus(), "Injected error");
+        } else {
+          reply = route.handler.handle(new Request(matcher, body));
+        }
+      }
+    } catch (RuntimeException e) {
+      reply = Reply.error(500, e.toString());
+    }
+    send(exchange, reply);
+    statistics.record(routeName, reply.status, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  private void waitLatency() {
+    long latency = settings.getLatencyMillis();
+    if (settings.getLatencyJitterMillis() > 0) {
+      latency += (long) (nextDouble() * settings.getLatencyJitterMillis());
+    }
+    if (latency > 0) {
+      try {
+        Thread.sleep(latency);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private double nextDouble() {
+    synchronized (random) {
+      return random.nextDouble();
+    }
+  }
+
+  private static byte[] readBody(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      body.write(buffer, 0, read);
+    }
+    return body.toByteArray();
+  }
+
+  private static void send(HttpExchange exchange, Reply reply) throws IOException {
+    byte[] body = reply.body != null ? reply.body.getBytes(UTF_8) : new byte[0];
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    boolean noContent = reply.status == 204 || reply.status == 304 || body.length == 0;
+    exchange.sendResponseHeaders(reply.status, noContent ? -1 : body.length);
+    if (!noContent) {
+      try (OutputStream outputStream = exchange.getResponseBody()) {
+        outputStream.write(body);
+      }
+    }
+    exchange.close();
+  }
+
+  private void route(String method, String template, Handler handler) {
+    routes.add(new Route(method, template, handler));
+  }
+
+  // Accounts
+
+  private void accountRoutes() {
+    route("POST", "/accounts/login", request -> token());
+    route("POST", "/accounts/api/v2/oauth2/token", request -> token());
+    route("GET", "/accounts/api/me", request -> {
+      JsonObject organization = object("id", ORGANIZATION_ID, "name", ORGANIZATION);
+      JsonObject member = object("id", ORGANIZATION_ID, "name", ORGANIZATION, "subOrganizationIds", new JsonArray());
+      JsonArray members = new JsonArray();
+      members.add(member);
+      JsonObject user = object("id", "stand-in-user", "organization", organization, "memberOfOrganizations", members);
+      return Reply.ok(object("user", user));
+    });
+    route("GET", "/accounts/api/organizations", request -> {
+      JsonArray organizations = new JsonArray();
+      organizations.add(object("id", ORGANIZATION_ID, "name", ORGANIZATION));
+      return Reply.ok(organizations);
+    });
+    route("GET", "/accounts/api/organizations/{org}/environments", request -> {
+      JsonArray environments = new JsonArray();
+      environments.add(object("id", ENVIRONMENT_ID, "name", ENVIRONMENT, "organizationId", ORGANIZATION_ID,
+                              "isProduction", false));
+      return Reply.ok(object("data", environments));
+    });
+  }
+
+  private Reply token() {
+    return Reply.ok(object("access_token", "stand-in-token-" + tokens.incrementAndGet(), "token_type", "bearer"));
+  }
+
+  // CloudHub
+
+  private void cloudHubRoutes() {
+    String applicationsPath = "/cloudhub/api/v2/applications";
+    route("GET", "/cloudhub/api/mule-versions", request -> {
+      JsonObject flags = object("objectStoreV1", false);
+      JsonArray versions = new JsonArray();
+      versions.add(object("version", MULE_VERSION, "state", "SUPPORTED", "latestUpdate", object("id", "update", "flags", flags)));
+      return Reply.ok(object("data", versions, "total", 1));
+    });
+    route("GET", "/cloudhub/api/applications/domains/{domain}",
+          request -> Reply.ok(object("available", !applications.containsKey(key("cloudhub", request.parameter(1))))));
+    route("GET", "/cloudhub/api/buildinfo/environment", request -> Reply.ok(object("id", ENVIRONMENT_ID, "name", ENVIRONMENT)));
+    route("GET", applicationsPath, request -> {
+      JsonArray list = new JsonArray();
+      applications("cloudhub").forEach(application -> list.add(cloudHubApplication(application)));
+      return Reply.ok(list);
+    });
+    route("POST", applicationsPath, request -> {
+      JsonObject appInfo = JsonParser.parseString(request.formField("appInfoJson")).getAsJsonObject();
+      String domain = appInfo.get("domain").getAsString();
+      StandInApplication application = new StandInApplication(domain, domain, null);
+      if (applications.putIfAbsent(key("cloudhub", domain), application) != null) {
+        return Reply.error(409, "Domain " + domain + " is not available");
+      }
+      return Reply.ok(cloudHubApplication(application));
+    });
+    route("GET", applicationsPath + "/{domain}", request -> {
+      StandInApplication application = applications.get(key("cloudhub", request.parameter(1)));
+      return application != null ? Reply.ok(cloudHubApplication(application)) : Reply.error(404, "Application not found");
+    });
+    route("PUT", applicationsPath + "/{domain}", request -> {
+      StandInApplication application = applications.get(key("cloudhub", request.parameter(1)));
+      if (application == null) {
+        return Reply.error(404, "Application not found");
+      }
+      deploy(application);
+      return Reply.ok(cloudHubApplication(application));
+    });
+    route("DELETE", applicationsPath + "/{domain}",
+          request -> applications.remove(key("cloudhub", request.parameter(1))) != null ? Reply.noContent()
+              : Reply.error(404, "Application not found"));
+    route("POST", "/cloudhub/api/applications/{domain}/status", request -> {
+      StandInApplication application = applications.get(key("cloudhub", request.parameter(1)));
+      if (application == null) {
+        return Reply.error(404, "Application not found");
+      }
+      String status = JsonParser.parseString(request.text()).getAsJsonObject().get("status").getAsString();
+      if ("STOP".equals(status)) {
+        application.stop();
+      } else if (application.getState(System.currentTimeMillis()) == State.STOPPED) {
+        deploy(application);
+      } else {
+        return Reply.status(304);
+      }
+      return Reply.ok(object());
+    });
+    route("GET", applicationsPath + "/{domain}/deployments", request -> Reply.ok(object("data", new JsonArray(), "total", 0)));
+    route("POST", applicationsPath + "/{domain}/logs", request -> Reply.ok(new JsonArray()));
+  }
+
+  private JsonObject cloudHubApplication(StandInApplication application) {
+    String status;
+    String deploymentUpdateStatus = null;
+    switch (application.getState(System.currentTimeMillis())) {
+      case DEPLOYING:
+        status = "DEPLOYING";
+        deploymentUpdateStatus = "DEPLOYING";
+        break;
+      case STARTED:
+        status = "STARTED";
+        break;
+      case FAILED:
+        status = "DEPLOY_FAILED";
+        break;
+      default:
+        status = "UNDEPLOYED";
+    }
+    JsonObject workers = object("amount", 1, "type", object("name", "Micro"));
+    return object("domain", application.name, "status", status, "deploymentUpdateStatus", deploymentUpdateStatus,
+                  "region", "us-east-1", "muleVersion", object("version", MULE_VERSION), "workers", workers);
+  }
+
+  // ARM
+
+  private void armRoutes() {
+    String api = "/hybrid/api/v1";
+    route("GET", api + "/servers/registrationToken", request -> Reply.ok(object("data", "stand-in-registration-token")));
+    route("GET", api + "/servers", request -> Reply.ok(targets("1001", ARM_SERVER)));
+    route("GET", api + "/serverGroups", request -> Reply.ok(targets("2001", ARM_SERVER_GROUP)));
+    route("GET", api + "/clusters", request -> Reply.ok(targets("3001", ARM_CLUSTER)));
+    route("GET", api + "/servers/{id}", request -> Reply.ok(object("data", new JsonArray())));
+    route("DELETE", api + "/servers/{id}", request -> Reply.ok(object()));
+    route("GET", api + "/serverGroups/{id}", request -> Reply.ok(object("data", new JsonArray())));
+    route("GET", api + "/applications", request -> {
+      JsonArray list = new JsonArray();
+      applications("arm").forEach(application -> list.add(armApplication(application)));
+      return Reply.ok(object("data", list));
+    });
+    route("POST", api + "/applications", request -> {
+      String name = request.formField("artifactName");
+      String targetId = request.formField("targetId");
+      boolean exists = applications("arm").stream()
+          .anyMatch(application -> application.name.equals(name) && application.target.equals(targetId));
+      if (exists) {
+        return Reply.error(409, "Application " + name + " already exists in target " + targetId);
+      }
+      String id = String.valueOf(armIds.getAndIncrement());
+      StandInApplication application = new StandInApplication(id, name, targetId);
+      applications.put(key("arm", id), application);
+      deploy(application);
+      return Reply.status(201, object("data", armApplication(application)));
+    });
+    route("GET", api + "/applications/{id}", request -> {
+      StandInApplication application = applications.get(key("arm", request.parameter(1)));
+      return application != null ? Reply.ok(object("data", armApplication(application)))
+          : Reply.error(404, "Application not found");
+    });
+    route("PATCH", api + "/applications/{id}", request -> {
+      StandInApplication application = applications.get(key("arm", request.parameter(1)));
+      if (application == null) {
+        return Reply.error(404, "Application not found");
+      }
+      deploy(application);
+      return Reply.ok(object("data", armApplication(application)));
+    });
+    route("DELETE", api + "/applications/{id}", request -> applications.remove(key("arm", request.parameter(1))) != null
+        ? Reply.ok(object())
+        : Reply.error(404, "Application not found"));
+  }
+
+  private JsonObject armApplication(StandInApplication application) {
+    String desiredStatus = "STARTED";
+    String lastReportedStatus;
+    switch (application.getState(System.currentTimeMillis())) {
+      case DEPLOYING:
+        desiredStatus = "UPDATED";
+        lastReportedStatus = "STARTING";
+        break;
+      case STARTED:
+        lastReportedStatus = "STARTED";
+        break;
+      case FAILED:
+        lastReportedStatus = "FAILED";
+        break;
+      default:
+        lastReportedStatus = "STOPPED";
+    }
+    return object("id", Integer.parseInt(application.id), "desiredStatus", desiredStatus,
+                  "lastReportedStatus", lastReportedStatus, "artifact", object("name", application.name),
+                  "target", object("id", application.target));
+  }
+
+  private static JsonObject targets(String id, String name) {
+    JsonArray targets = new JsonArray();
+    targets.add(object("id", id, "name", name));
+    return object("data", targets);
+  }
+
+  // Runtime Fabric and CloudHub 2.0
+
+  private void runtimeFabricRoutes(String deployments, String platform) {
+    route("GET", deployments, request -> {
+      JsonArray items = new JsonArray();
+      applications(platform).forEach(application -> items.add(runtimeFabricDeployment(application)));
+      return Reply.ok(object("total", items.size(), "items", items));
+    });
+    route("POST", deployments, request -> {
+      JsonObject deployment = JsonParser.parseString(request.text()).getAsJsonObject();
+      String name = deployment.get("name").getAsString();
+      String targetId = deployment.getAsJsonObject("target").get("targetId").getAsString();
+      boolean exists = applications(platform).stream()
+          .anyMatch(application -> application.name.equals(name) && application.target.equals(targetId));
+      if (exists) {
+        return Reply.error(400, RTF_ALREADY_DEPLOYED_MESSAGE);
+      }
+      StandInApplication application = new StandInApplication(UUID.randomUUID().toString(), name, targetId);
+      applications.put(key(platform, application.id), application);
+      deploy(application);
+      return Reply.status(202, runtimeFabricDeployment(application));
+    });
+    route("GET", deployments + "/{id}", request -> {
+      StandInApplication application = applications.get(key(platform, request.parameter(3)));
+      return application != null ? Reply.ok(runtimeFabricDeployment(application))
+          : Reply.error(404, "Deployment not found");
+    });
+    route("PATCH", deployments + "/{id}", request -> {
+      StandInApplication application = applications.get(key(platform, request.parameter(3)));
+      if (application == null) {
+        return Reply.error(404, "Deployment not found");
+      }
+      deploy(application);
+      return Reply.ok(runtimeFabricDeployment(application));
+    });
+    route("DELETE", deployments + "/{id}", request -> applications.remove(key(platform, request.parameter(3))) != null
+        ? Reply.noContent()
+        : Reply.error(404, "Deployment not found"));
+
+    if ("rtf".equals(platform)) {
+      String targets = "/runtimefabric/api/organizations/{org}/targets";
+      route("GET", targets, request -> {
+        JsonArray list = new JsonArray();
+        list.add(object("id", RUNTIME_FABRIC_TARGET_ID, "name", RUNTIME_FABRIC_TARGET));
+        return Reply.ok(list);
+      });
+      route("GET", targets + "/{target}", request -> {
+        JsonArray versions = new JsonArray();
+        versions.add(object("baseVersion", MULE_VERSION, "tag", "v1.0.0"));
+        JsonArray runtimes = new JsonArray();
+        runtimes.add(object("type", "mule", "versions", versions));
+        return Reply.ok(object("id", request.parameter(2), "name", RUNTIME_FABRIC_TARGET, "runtimes", runtimes));
+      });
+      route("GET", targets + "/{target}/environments/{env}/domains", request -> {
+        JsonArray domains = new JsonArray();
+        domains.add("*.stand-in.local");
+        return Reply.ok(domains);
+      });
+    }
+  }
+
+  private JsonObject runtimeFabricDeployment(StandInApplication application) {
+    String status;
+    switch (application.getState(System.currentTimeMillis())) {
+      case STARTED:
+        status = "APPLIED";
+        break;
+      case FAILED:
+        status = "FAILED";
+        break;
+      default:
+        status = "APPLYING";
+    }
+    return object("id", application.id, "name", application.name, "status", status,
+                  "target", object("provider", "MC", "targetId", application.target));
+  }
+
+  // Agent
+
+  private void agentRoutes() {
+    route("GET", "/mule/agent", request -> Reply.ok(object("muleVersion", MULE_VERSION, "agentVersion", "stand-in")));
+    for (String kind : new String[] {"applications", "domains"}) {
+      String platform = "agent-" + kind;
+      route("PUT", "/mule/" + kind + "/{name}", request -> {
+        String name = request.parameter(1);
+        StandInApplication application =
+            applications.computeIfAbsent(key(platform, name), key -> new StandInApplication(name, name, null));
+        deploy(application);
+        return Reply.status(202, object("application", object("name", name)));
+      });
+      route("DELETE", "/mule/" + kind + "/{name}", request -> {
+        applications.remove(key(platform, request.parameter(1)));
+        return Reply.status(202, object());
+      });
+      route("GET", "/mule/" + kind + "/{name}", request -> {
+        StandInApplication application = applications.get(key(platform, request.parameter(1)));
+        if (application == null) {
+          return Reply.error(404, "Application not found");
+        }
+        State state = application.getState(System.currentTimeMillis());
+        return Reply.ok(object("name", application.name, "state", state == State.DEPLOYING ? "DEPLOYING" : state.name()));
+      });
+    }
+  }
+
+  // Applications
+
+  private void deploy(StandInApplication application) {
+    application.deploy(System.currentTimeMillis() + settings.getStartupMillis(), nextDouble() < settings.getFailureRate());
+  }
+
+  private List<StandInApplication> applications(String platform) {
+    List<StandInApplication> result = new ArrayList<>();
+    applications.forEach((key, application) -> {
+      if (key.startsWith(platform + ":")) {
+        result.add(application);
+      }
+    });
+    return result;
+  }
+
+  private static String key(String platform, String id) {
+    return platform + ":" + id;
+  }
+
+  private static JsonObject object(Object... keyValues) {
+    JsonObject object = new JsonObject();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      Object value = keyValues[i + 1];
+      if (value != null) {
+        object.add((String) keyValues[i], value instanceof JsonElement ? (JsonElement) value : GSON.toJsonTree(value));
+      }
+    }
+    return object;
+  }
+
+  enum State {
+    STOPPED, DEPLOYING, STARTED, FAILED
+  }
+
+  private static class StandInApplication {
+
+    private final String id;
+    private final String name;
+    private final String target;
+    private long startedAt = -1;
+    private boolean failed;
+
+    private StandInApplication(String id, String name, String target) {
+      this.id = id;
+      this.name = name;
+      this.target = target;
+    }
+
+    private synchronized void deploy(long startedAt, boolean failed) {
+      this.startedAt = startedAt;
+      this.failed = failed;
+    }
+
+    private synchronized void stop() {
+      this.startedAt = -1;
+    }
+
+    private synchronized State getState(long now) {
+      if (startedAt < 0) {
+        return State.STOPPED;
+      } else if (now < startedAt) {
+        return State.DEPLOYING;
+      }
+      return failed ? State.FAILED : State.STARTED;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Handler {
+
+    Reply handle(Request request);
+  }
+
+  private static class Route {
+
+    private final String method;
+    private final String name;
+    private final Pattern pattern;
+    private final Handler handler;
+
+    private Route(String method, String template, Handler handler) {
+      this.method = method;
+      this.name = method + " " + template;
+      this.pattern = Pattern.compile(PATH_PARAMETER.matcher(template).replaceAll("([^/]+)"));
+      this.handler = handler;
+    }
+
+    private Matcher match(String method, String path) {
+      if (!this.method.equals(method)) {
+        return null;
+      }
+      Matcher matcher = pattern.matcher(path);
+      return matcher.matches() ? matcher : null;
+    }
+  }
+
+  private static class Request {
+
+    private final Matcher matcher;
+    private final byte[] body;
+
+    private Request(Matcher matcher, byte[] body) {
+      this.matcher = matcher;
+      this.body = body;
+    }
+
+    /**
+     * @return the value of the path parameter at {@code index}, starting at 1
+     */
+    private String parameter(int index) {
+      return matcher.group(index);
+    }
+
+    private String text() {
+      return new String(body, UTF_8);
+    }
+
+    /**
+     * @return the value of a field of a multipart form, which is enough to read the text fields sent by the clients
+     */
+    private String formField(String name) {
+      // The headers of the part, an empty line and its content up to the next boundary
+      String part = "name=\"" + Pattern.quote(name) + "\"[^\\r\\n]*\\r\\n(?:[^\\r\\n]+\\r\\n)*\\r\\n(.*?)\\r\\n--";
+      Matcher field = Pattern.compile(part, Pattern.DOTALL).matcher(new String(body, ISO_8859_1));
+      if (!field.find()) {
+        throw new IllegalArgumentException("Missing form field " + name);
+      }
+      return new String(field.group(1).getBytes(ISO_8859_1), UTF_8);
+    }
+  }
+
+  private static class Reply {
+
+    private final int status;
+    private final String body;
+
+    private Reply(int status, String body) {
+      this.status = status;
+      this.body = body;
+    }
+
+    private static Reply ok(JsonElement body) {
+      return status(200, body);
+    }
+
+    private static Reply status(int status, JsonElement body) {
+      return new Reply(status, GSON.toJson(body));
+    }
+
+    private static Reply status(int status) {
+      return new Reply(status, null);
+    }
+
+    private static Reply noContent() {
+      return new Reply(204, null);
+    }
+
+    private static Reply error(int status, String message) {
+      return status(status, object("status", status, "message", message));
+    }
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks.deployer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.tools.benchmarks.deployer.AnypointStandIn.ARM_SERVER;
+import static org.mule.tools.benchmarks.deployer.AnypointStandIn.ENVIRONMENT;
+import static org.mule.tools.benchmarks.deployer.AnypointStandIn.MULE_VERSION;
+import static org.mule.tools.benchmarks.deployer.AnypointStandIn.RUNTIME_FABRIC_TARGET;
+
+import org.mule.tools.client.model.TargetType;
+import org.mule.tools.deployment.agent.AgentArtifactDeployer;
+import org.mule.tools.deployment.arm.ArmArtifactDeployer;
+import org.mule.tools.deployment.artifact.ArtifactDeployer;
+import org.mule.tools.deployment.cloudhub.CloudHubArtifactDeployer;
+import org.mule.tools.deployment.fabric.RuntimeFabricArtifactDeployer;
+import org.mule.tools.model.Deployment;
+import org.mule.tools.model.agent.AgentDeployment;
+import org.mule.tools.model.anypoint.AnypointDeployment;
+import org.mule.tools.model.anypoint.ArmDeployment;
+import org.mule.tools.model.anypoint.CloudHubDeployment;
+import org.mule.tools.model.anypoint.RuntimeFabricOnPremiseDeployment;
+import org.mule.tools.model.anypoint.RuntimeFabricOnPremiseDeploymentSettings;
+import org.mule.tools.utils.DeployerLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs concurrent deployments of the same platform against an {@link AnypointStandIn} and reports how many requests they needed
+ * and how long they took to be verified.
+ * <p>
+ * It can be run from the command line with options of the form {@code --name=value}, e.g.
+ * {@code java -cp target/benchmarks.jar org.mule.tools.benchmarks.deployer.DeployLoadHarness --platform=cloudhub
+ * --deployments=20 --latency=50 --startup=3000 --output=target/deploy-load.json}.
+ */
+public class DeployLoadHarness {
+
+  public enum Platform {
+    CLOUDHUB, ARM, RUNTIME_FABRIC, AGENT
+  }
+
+  private static final DeployerLog QUIET_LOG = new QuietDeployerLog();
+  private static final int MAX_REPORTED_FAILURES = 10;
+
+  private final Platform platform;
+  private final int deployments;
+  private final int concurrency;
+  private final long deploymentTimeoutMillis;
+
+  /**
+   * @param deploymentTimeoutMillis the deployment timeout of every deployment, which also sets the time between verification
+   *        polls (a tenth of it)
+   */
+  public DeployLoadHarness(Platform platform, int deployments, int concurrency, long deploymentTimeoutMillis) {
+    this.platform = platform;
+    this.deployments = deployments;
+    this.concurrency = concurrency;
+    this.deploymentTimeoutMillis = deploymentTimeoutMillis;
+  }
+
+  /**
+   * Deploys {@code artifact} as many times as configured, each time as a different application, and waits for every deployment
+   * to be verified or to fail.
+   */
+  public HarnessReport run(AnypointStandIn standIn, File artifact) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    long start = System.nanoTime();
+    try {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int i = 0; i < deployments; i++) {
+        String applicationName = "load-" + platform.name().toLowerCase(Locale.ROOT).replace('_', '-') + "-" + i;
+        results.add(executor.submit(() -> deploy(standIn.getUri(), applicationName, artifact)));
+      }
+
+      List<Long> timesToVerified = new ArrayList<>();
+      List<String> failures = new ArrayList<>();
+      int failed = 0;
+      for (Future<Long> result : results) {
+        try {
+          timesToVerified.add(result.get());
+        } catch (ExecutionException e) {
+          failed++;
+          if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(e.getCause().toString());
+          }
+        }
+      }
+      return new HarnessReport(this, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), timesToVerified, failed,
+                               failures, standIn.getStatistics());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long deploy(String uri, String applicationName, File artifact) throws Exception {
+    long start = System.nanoTime();
+    createDeployer(uri, applicationName, artifact).deployApplication();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  protected ArtifactDeployer createDeployer(String uri, String applicationName, File artifact) {
+    switch (platform) {
+      case CLOUDHUB:
+        CloudHubDeployment cloudHubDeployment = anypointDeployment(new CloudHubDeployment(), uri, applicationName, artifact);
+        cloudHubDeployment.setWaitBeforeValidation(0);
+        cloudHubDeployment.setApplyLatestRuntimePatch(false);
+        return new CloudHubArtifactDeployer(cloudHubDeployment, QUIET_LOG);
+      case ARM:
+        ArmDeployment armDeployment = anypointDeployment(new ArmDeployment(), uri, applicationName, artifact);
+        armDeployment.setTarget(ARM_SERVER);
+        armDeployment.setTargetType(TargetType.server);
+        return new ArmArtifactDeployer(armDeployment, QUIET_LOG);
+      case RUNTIME_FABRIC:
+        RuntimeFabricOnPremiseDeployment fabricDeployment =
+            anypointDeployment(new RuntimeFabricOnPremiseDeployment(), uri, applicationName, artifact);
+        fabricDeployment.setTarget(RUNTIME_FABRIC_TARGET);
+        fabricDeployment.setProvider("MC");
+        fabricDeployment.setReplicas("1");
+        fabricDeployment.setDeploymentSettings(new RuntimeFabricOnPremiseDeploymentSettings());
+        fabricDeployment.setGroupId("org.mule.benchmarks");
+        fabricDeployment.setArtifactId(applicationName);
+        fabricDeployment.setVersion("1.0.0");
+        return new RuntimeFabricArtifactDeployer(fabricDeployment, QUIET_LOG);
+      case AGENT:
+        AgentDeployment agentDeployment = deployment(new AgentDeployment(), applicationName, artifact);
+        agentDeployment.setUri(uri);
+        return new AgentArtifactDeployer(agentDeployment, QUIET_LOG);
+      default:
+        throw new IllegalArgumentException("Unsupported platform " + platform);
+    }
+  }
+
+  private <T extends AnypointDeployment> T anypointDeployment(T deployment, String uri, String applicationName, File artifact) {
+    deployment(deployment, applicationName, artifact);
+    deployment.setUri(uri);
+    deployment.setUsername("stand-in");
+    deployment.setPassword("stand-in");
+    deployment.setEnvironment(ENVIRONMENT);
+    deployment.setSkipDeploymentVerification(false);
+    return deployment;
+  }
+
+  private <T extends Deployment> T deployment(T deployment, String applicationName, File artifact) {
+    deployment.setApplicationName(applicationName);
+    deployment.setArtifact(artifact);
+    deployment.setMuleVersion(MULE_VERSION);
+    deployment.setDeploymentTimeout(deploymentTimeoutMillis);
+    return deployment;
+  }
+
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  public int getDeployments() {
+    return deployments;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parseOptions(args);
+    StandInSettings settings = new StandInSettings()
+        .withLatency(longOption(options, "latency", 0), longOption(options, "jitter", 0))
+        .withErrors(Double.parseDouble(options.getOrDefault("errorRate", "0")),
+                    (int) longOption(options, "errorStatus", 503), options.get("errorPath"))
+        .withDeployments(longOption(options, "startup", 1000), Double.parseDouble(options.getOrDefault("failureRate", "0")))
+        .withSeed(longOption(options, "seed", 42));
+    String platformName = options.getOrDefault("platform", "cloudhub");
+    Platform platform = Platform.valueOf(platformName.toUpperCase(Locale.ROOT).replace('-', '_'));
+    int deployments = (int) longOption(options, "deployments", 10);
+    int concurrency = (int) longOption(options, "concurrency", deployments);
+    DeployLoadHarness harness =
+        new DeployLoadHarness(platform, deployments, concurrency, longOption(options, "deploymentTimeout", 10000));
+
+    Path artifact = Files.createTempFile("stand-in-application", ".jar");
+    try (AnypointStandIn standIn = new AnypointStandIn(settings)) {
+      byte[] content = new byte[(int) longOption(options, "artifactSize", 1024) * 1024];
+      new Random(settings.getSeed()).nextBytes(content);
+      Files.write(artifact, content);
+      standIn.start();
+
+      HarnessReport report = harness.run(standIn, artifact.toFile());
+      System.out.println(report);
+      if (options.containsKey("output")) {
+        Path output = Paths.get(options.get("output"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, report.toJson().getBytes(UTF_8));
+      }
+    } finally {
+      Files.deleteIfExists(artifact);
+    }
+  }
+
+  private static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Options must have the form --name=value, found: " + arg);
+      }
+      options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+    }
+    return options;
+  }
+
+  private static long longOption(Map<String, String> options, String name, long defaultValue) {
+    return options.containsKey(name) ? Long.parseLong(options.get(name)) : defaultValue;
+  }
+
+  private static class QuietDeployerLog implements DeployerLog {
+
+    @Override
+    public void info(String s) {}
+
+    @Override
+    public void error(String s) {}
+
+    @Override
+    public void warn(String s) {}
+
+    @Override
+    public void debug(String s) {}
+
+    @Override
+    public void error(String s, Throwable e) {}
+
+    @Override
+    public boolean isDebugEnabled() {
+      return false;
+    }
+  }
+}
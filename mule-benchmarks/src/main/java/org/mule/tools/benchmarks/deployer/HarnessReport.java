@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks.deployer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Outcome of a {@link DeployLoadHarness} run: deployments that were verified, how long they took and the requests they needed.
+ */
+public class HarnessReport {
+
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  private final String platform;
+  private final int deployments;
+  private final int concurrency;
+  private final long wallClockMillis;
+  private final int verified;
+  private final int failed;
+  private final LatencySummary timeToVerified;
+  private final int totalRequests;
+  private final int errorResponses;
+  private final double requestsPerDeployment;
+  private final Map<String, RouteReport> routes = new LinkedHashMap<>();
+  private final List<String> failures;
+
+  HarnessReport(DeployLoadHarness harness, long wallClockMillis, List<Long> timesToVerified, int failed, List<String> failures,
+                RequestStatistics statistics) {
+    this.platform = harness.getPlatform().name();
+    this.deployments = harness.getDeployments();
+    this.concurrency = harness.getConcurrency();
+    this.wallClockMillis = wallClockMillis;
+    this.verified = timesToVerified.size();
+    this.failed = failed;
+    this.timeToVerified = LatencySummary.of(timesToVerified);
+    this.totalRequests = statistics.getTotalRequests();
+    this.errorResponses = statistics.getTotalErrors();
+    this.requestsPerDeployment = deployments > 0 ? (double) totalRequests / deployments : 0;
+    statistics.getRoutes().forEach((route, routeStatistics) -> routes
+        .put(route, new RouteReport(routeStatistics.getCount(), routeStatistics.getErrors(), routeStatistics.getLatency())));
+    this.failures = failures;
+  }
+
+  public int getVerified() {
+    return verified;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public LatencySummary getTimeToVerified() {
+    return timeToVerified;
+  }
+
+  public int getTotalRequests() {
+    return totalRequests;
+  }
+
+  public double getRequestsPerDeployment() {
+    return requestsPerDeployment;
+  }
+
+  public List<String> getFailures() {
+    return failures;
+  }
+
+  public String toJson() {
+    return GSON.toJson(this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder()
+        .append(String.format("%s: %d deployments (%d concurrent) in %dms, %d verified, %d failed%n", platform, deployments,
+                              concurrency, wallClockMillis, verified, failed))
+        .append(String.format("Time to verified: %s%n", timeToVerified))
+        .append(String.format("Requests: %d (%.1f per deployment), %d error responses%n", totalRequests, requestsPerDeployment,
+                              errorResponses));
+    routes.forEach((route, routeReport) -> report.append(String.format("  %-90s %5d requests %4d errors  %s%n", route,
+                                                                       routeReport.count, routeReport.errors,
+                                                                       routeReport.latency)));
+    failures.forEach(failure -> report.append("Failure: ").append(failure).append(System.lineSeparator()));
+    return report.toString();
+  }
+
+  private static class RouteReport {
+
+    private final int count;
+    private final int errors;
+    private final LatencySummary latency;
+
+    private RouteReport(int count, int errors, LatencySummary latency) {
+      this.count = count;
+      this.errors = errors;
+      this.latency = latency;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks.deployer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Percentiles of a set of measured times, in milliseconds.
+ */
+public class LatencySummary {
+
+  private final int count;
+  private final long min;
+  private final long p50;
+  private final long p90;
+  private final long p99;
+  private final long max;
+
+  private LatencySummary(List<Long> sorted) {
+    this.count = sorted.size();
+    this.min = sorted.isEmpty() ? 0 : sorted.get(0);
+    this.p50 = percentile(sorted, 50);
+    this.p90 = percentile(sorted, 90);
+    this.p99 = percentile(sorted, 99);
+    this.max = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1);
+  }
+
+  public static LatencySummary of(Collection<Long> timesMillis) {
+    List<Long> sorted = new ArrayList<>(timesMillis);
+    Collections.sort(sorted);
+    return new LatencySummary(sorted);
+  }
+
+  /**
+   * Nearest-rank percentile, so the result is always one of the measured values.
+   */
+  private static long percentile(List<Long> sorted, int percentile) {
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+    return sorted.get(Math.max(0, rank - 1));
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public long getMin() {
+    return min;
+  }
+
+  public long getP50() {
+    return p50;
+  }
+
+  public long getP90() {
+    return p90;
+  }
+
+  public long getP99() {
+    return p99;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d min=%dms p50=%dms p90=%dms p99=%dms max=%dms", count, min, p50, p90, p99, max);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks.deployer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Requests answered by an {@link AnypointStandIn}, grouped by route (method and path template).
+ */
+public class RequestStatistics {
+
+  private final Map<String, RouteStatistics> routes = new ConcurrentHashMap<>();
+
+  void record(String route, int status, long latencyMillis) {
+    routes.computeIfAbsent(route, RouteStatistics::new).record(status, latencyMillis);
+  }
+
+  public int getTotalRequests() {
+    return routes.values().stream().mapToInt(RouteStatistics::getCount).sum();
+  }
+
+  public int getTotalErrors() {
+    return routes.values().stream().mapToInt(RouteStatistics::getErrors).sum();
+  }
+
+  public int getRequests(String route) {
+    RouteStatistics statistics = routes.get(route);
+    return statistics != null ? statistics.getCount() : 0;
+  }
+
+  /**
+   * @return the statistics of every route that received requests, sorted by route
+   */
+  public Map<String, RouteStatistics> getRoutes() {
+    return new TreeMap<>(routes);
+  }
+
+  public void reset() {
+    routes.clear();
+  }
+
+  public static class RouteStatistics {
+
+    private final String route;
+    private final List<Long> latencies = new ArrayList<>();
+    private int errors;
+
+    private RouteStatistics(String route) {
+      this.route = route;
+    }
+
+    private synchronized void record(int status, long latencyMillis) {
+      latencies.add(latencyMillis);
+      if (status >= 400) {
+        errors++;
+      }
+    }
+
+    public String getRoute() {
+      return route;
+    }
+
+    public synchronized int getCount() {
+      return latencies.size();
+    }
+
+    /**
+     * @return the requests answered with a 4xx or 5xx status, including the injected errors
+     */
+    public synchronized int getErrors() {
+      return errors;
+    }
+
+    public synchronized LatencySummary getLatency() {
+      return LatencySummary.of(latencies);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks.deployer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.regex.Pattern;
+
+/**
+ * Behaviour of an {@link AnypointStandIn}: how long it takes to answer, which requests fail and how long deployments take to
+ * start.
+ */
+public class StandInSettings {
+
+  private long latencyMillis;
+  private long latencyJitterMillis;
+  private double errorRate;
+  private int errorStatus = 503;
+  private Pattern errorPathPattern;
+  private long startupMillis = 1000;
+  private double failureRate;
+  private long seed = 42;
+
+  /**
+   * Every request waits {@code latencyMillis} plus a random time up to {@code latencyJitterMillis} before being answered.
+   */
+  public StandInSettings withLatency(long latencyMillis, long latencyJitterMillis) {
+    checkArgument(latencyMillis >= 0 && latencyJitterMillis >= 0, "Latency must not be negative");
+    this.latencyMillis = latencyMillis;
+    this.latencyJitterMillis = latencyJitterMillis;
+    return this;
+  }
+
+  /**
+   * A ratio of {@code errorRate} of the requests whose path matches {@code errorPathRegex} is answered with
+   * {@code errorStatus}. A null regex matches every path.
+   */
+  public StandInSettings withErrors(double errorRate, int errorStatus, String errorPathRegex) {
+    checkArgument(errorRate >= 0 && errorRate <= 1, "The error rate must be between 0 and 1");
+    this.errorRate = errorRate;
+    this.errorStatus = errorStatus;
+    this.errorPathPattern = errorPathRegex != null ? Pattern.compile(errorPathRegex) : null;
+    return this;
+  }
+
+  /**
+   * Deployments are reported as in progress for {@code startupMillis} after being requested, then a ratio of
+   * {@code failureRate} of them is reported as failed and the rest as started.
+   */
+  public StandInSettings withDeployments(long startupMillis, double failureRate) {
+    checkArgument(startupMillis >= 0, "The startup time must not be negative");
+    checkArgument(failureRate >= 0 && failureRate <= 1, "The failure rate must be between 0 and 1");
+    this.startupMillis = startupMillis;
+    this.failureRate = failureRate;
+    return this;
+  }
+
+  /**
+   * Seed of the random decisions (jitter, errors and failures), so that runs with the same settings are comparable.
+   */
+  public StandInSettings withSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  public long getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  public long getLatencyJitterMillis() {
+    return latencyJitterMillis;
+  }
+
+  public double getErrorRate() {
+    return errorRate;
+  }
+
+  public int getErrorStatus() {
+    return errorStatus;
+  }
+
+  public boolean isErrorPath(String path) {
+    return errorPathPattern == null || errorPathPattern.matcher(path).find();
+  }
+
+  public long getStartupMillis() {
+    return startupMillis;
+  }
+
+  public double getFailureRate() {
+    return failureRate;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.benchmarks.deployer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.mule.tools.benchmarks.deployer.DeployLoadHarness.Platform;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class AnypointStandInTest {
+
+  private static final long DEPLOYMENT_TIMEOUT = 2000;
+
+  @TempDir
+  Path temporaryFolder;
+
+  private File artifact;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    artifact = Files.write(temporaryFolder.resolve("application.jar"), "application".getBytes(UTF_8)).toFile();
+  }
+
+  @ParameterizedTest
+  @EnumSource(Platform.class)
+  public void deploymentsAreVerified(Platform platform) throws Exception {
+    try (AnypointStandIn standIn = new AnypointStandIn(new StandInSettings().withDeployments(100, 0))) {
+      standIn.start();
+
+      HarnessReport report = new DeployLoadHarness(platform, 4, 2, DEPLOYMENT_TIMEOUT).run(standIn, artifact);
+
+      assertThat(report.getFailures()).isEmpty();
+      assertThat(report.getVerified()).isEqualTo(4);
+      assertThat(report.getTotalRequests()).isGreaterThanOrEqualTo(8);
+      assertThat(standIn.getStatistics().getRoutes().keySet()).noneMatch(route -> route.startsWith("UNMATCHED"));
+    }
+  }
+
+  @Test
+  public void failedDeploymentsAreReported() throws Exception {
+    try (AnypointStandIn standIn = new AnypointStandIn(new StandInSettings().withDeployments(0, 1))) {
+      standIn.start();
+
+      HarnessReport report = new DeployLoadHarness(Platform.CLOUDHUB, 2, 2, DEPLOYMENT_TIMEOUT).run(standIn, artifact);
+
+      assertThat(report.getVerified()).isZero();
+      assertThat(report.getFailed()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  public void errorsAreInjectedOnMatchingPaths() throws Exception {
+    StandInSettings settings = new StandInSettings().withDeployments(0, 0).withErrors(1, 503, "/mule/applications/");
+    try (AnypointStandIn standIn = new AnypointStandIn(settings)) {
+      standIn.start();
+
+      HarnessReport report = new DeployLoadHarness(Platform.AGENT, 1, 1, DEPLOYMENT_TIMEOUT).run(standIn, artifact);
+
+      assertThat(report.getFailed()).isEqualTo(1);
+      assertThat(standIn.getStatistics().getRoutes().get("PUT /mule/applications/{name}").getErrors()).isEqualTo(1);
+    }
+  }
+}
@@ -91,8 +91,9 @@ public class Artifact implements Comparable {
     String newUriPath = getFormattedMavenDirectory(repositoryFolder, this.getArtifactCoordinates()).getPath();
     File newArtifactFile = new File(newUriPath, artifactFilename);
     newArtifact.setShared(isShared);
-    newArtifact.setPackages(packages);
-    newArtifact.setResources(resources);
+    // Packages and resources are already interned, the copy shares them
+    newArtifact.packages = packages;
+    newArtifact.resources = resources;
     try {
       setNewArtifactURI(newArtifact, newArtifactFile);
     } catch (URISyntaxException e) {
@@ -223,11 +224,19 @@ public class Artifact implements Comparable {
     return resources;
   }
 
+  /**
+   * Sets the packages of the artifact. Arrays interned by {@link ModelInterner#internAll(String[])} are kept as they are, any
+   * other array is interned into a new one. The array is shared with the parameterized copies of the artifact.
+   */
   public void setPackages(String[] packages) {
-    this.packages = packages;
+    this.packages = ModelInterner.internAll(packages);
   }
 
+  /**
+   * Sets the resources of the artifact. Arrays interned by {@link ModelInterner#internAll(String[])} are kept as they are, any
+   * other array is interned into a new one. The array is shared with the parameterized copies of the artifact.
+   */
   public void setResources(String[] resources) {
-    this.resources = resources;
+    this.resources = ModelInterner.internAll(resources);
   }
 }
@@ -57,7 +57,7 @@ public class ArtifactCoordinates {
 
   public void setGroupId(String groupId) {
     checkArgument(StringUtils.isNotBlank(groupId), "Group id cannot be null nor blank");
-    this.groupId = groupId;
+    this.groupId = ModelInterner.intern(groupId);
   }
 
   public String getArtifactId() {
@@ -66,7 +66,7 @@ public class ArtifactCoordinates {
 
   public void setArtifactId(String artifactId) {
     checkArgument(StringUtils.isNotBlank(artifactId), "Artifact id can not be null nor blank");
-    this.artifactId = artifactId;
+    this.artifactId = ModelInterner.intern(artifactId);
   }
 
   public String getVersion() {
@@ -75,7 +75,7 @@ public class ArtifactCoordinates {
 
   public void setVersion(String version) {
     checkArgument(StringUtils.isNotBlank(version), "Version can not be null nor blank");
-    this.version = version;
+    this.version = ModelInterner.intern(version);
   }
 
   public String getType() {
@@ -84,7 +84,7 @@ public class ArtifactCoordinates {
 
   public void setType(String type) {
     checkArgument(StringUtils.isNotBlank(type), "Type can not be null nor blank");
-    this.type = type;
+    this.type = ModelInterner.intern(type);
   }
 
   public String getClassifier() {
@@ -92,7 +92,7 @@ public class ArtifactCoordinates {
   }
 
   public void setClassifier(String classifier) {
-    this.classifier = classifier;
+    this.classifier = ModelInterner.intern(classifier);
   }
 
   public String getScope() {
@@ -100,7 +100,7 @@ public class ArtifactCoordinates {
   }
 
   public void setScope(String scope) {
-    this.scope = scope;
+    this.scope = ModelInterner.intern(scope);
   }
 
   @Override
@@ -65,8 +65,9 @@ public class ClassLoaderModel {
     ClassLoaderModel copy = doGetParameterizedUriModel();
     List<Artifact> dependenciesCopy = dependencies.stream().map(Artifact::copyWithParameterizedUri).collect(toList());
     copy.setDependencies(dependenciesCopy);
-    copy.setPackages(getPackages());
-    copy.setResources(getResources());
+    // Packages and resources are already interned, the copy shares them
+    copy.packages = packages;
+    copy.resources = resources;
     return copy;
   }
 
@@ -84,8 +85,12 @@ public class ClassLoaderModel {
     return packages;
   }
 
+  /**
+   * Sets the packages of the model. Arrays interned by {@link ModelInterner#internAll(String[])} are kept as they are, any other
+   * array is interned into a new one, so later changes to {@code packages} do not affect the model.
+   */
   public void setPackages(String[] packages) {
-    this.packages = packages;
+    this.packages = ModelInterner.internAll(packages);
   }
 
   /**
@@ -96,8 +101,12 @@ public class ClassLoaderModel {
     return resources;
   }
 
+  /**
+   * Sets the resources of the model. Arrays interned by {@link ModelInterner#internAll(String[])} are kept as they are, any other
+   * array is interned into a new one, so later changes to {@code resources} do not affect the model.
+   */
   public void setResources(String[] resources) {
-    this.resources = resources;
+    this.resources = ModelInterner.internAll(resources);
   }
 
   @Override
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.classloader.model;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.System.getProperty;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Pool of the strings held by the class loader models.
+ * <p>
+ * The coordinates, package names and resource names of a dependency are repeated in the application model, in the model of
+ * every plugin that depends on it and in the copies made with parameterized URIs, so they are interned to keep a single
+ * instance of each. The pool holds weak references, so the strings are released once no model uses them.
+ * <p>
+ * The arrays returned by {@link #internAll(String[])} are owned by the pool and are never modified, so models given one of them
+ * keep it instead of copying it again. Any other array is copied, so the caller can not modify the model afterwards.
+ * <p>
+ * Interning can be disabled with the {@value #INTERNING_PROPERTY} system property, to measure its effect.
+ */
+public final class ModelInterner {
+
+  public static final String INTERNING_PROPERTY = "mule.classloader.model.interning";
+
+  private static final boolean ENABLED = parseBoolean(getProperty(INTERNING_PROPERTY, "true"));
+  private static final Interner<String> STRINGS = Interners.newWeakInterner();
+  // Arrays do not override equals, so the weak map compares them by identity
+  private static final Set<String[]> ARRAYS = synchronizedSet(newSetFromMap(new WeakHashMap<>()));
+
+  private ModelInterner() {}
+
+  /**
+   * @return the pooled instance equal to {@code value}, or {@code null} if the value is {@code null}
+   */
+  public static String intern(String value) {
+    return value != null && ENABLED ? STRINGS.intern(value) : value;
+  }
+
+  /**
+   * Copies {@code values} into a new array with the pooled instance of each element, so the array of the caller is left as it
+   * is and can not modify the model it is given to afterwards. Arrays returned by a previous call are returned as they are, so
+   * every model given one of them shares it. They must not be modified.
+   *
+   * @return the interned array, or {@code null} if {@code values} is {@code null}
+   */
+  public static String[] internAll(String[] values) {
+    if (values == null || ARRAYS.contains(values)) {
+      return values;
+    }
+    String[] interned = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      interned[i] = intern(values[i]);
+    }
+    if (ENABLED) {
+      ARRAYS.add(interned);
+    }
+    return interned;
+  }
+}
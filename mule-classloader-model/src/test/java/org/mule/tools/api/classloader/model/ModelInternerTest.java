@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.classloader.model;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelInternerTest {
+
+  @Test
+  void coordinatesShareTheirValues() {
+    ArtifactCoordinates first = new ArtifactCoordinates(new String("org.mule"), new String("artifact"), new String("1.0.0"));
+    ArtifactCoordinates second = new ArtifactCoordinates(new String("org.mule"), new String("artifact"), new String("1.0.0"));
+
+    assertThat(second.getGroupId()).isSameAs(first.getGroupId());
+    assertThat(second.getArtifactId()).isSameAs(first.getArtifactId());
+    assertThat(second.getVersion()).isSameAs(first.getVersion());
+  }
+
+  @Test
+  void packagesAndResourcesShareTheirNames() {
+    Artifact first = artifact();
+    Artifact second = artifact();
+    first.setPackages(new String[] {new String("org.mule.package")});
+    second.setPackages(new String[] {new String("org.mule.package")});
+    first.setResources(new String[] {new String("META-INF/resource")});
+    second.setResources(new String[] {new String("META-INF/resource")});
+
+    assertThat(second.getPackages()[0]).isSameAs(first.getPackages()[0]);
+    assertThat(second.getResources()[0]).isSameAs(first.getResources()[0]);
+  }
+
+  @Test
+  void parameterizedCopiesShareTheirPackages() {
+    Artifact artifact = artifact();
+    artifact.setPackages(new String[] {"org.mule.package"});
+    artifact.setResources(new String[] {"META-INF/resource"});
+    ClassLoaderModel model = new ClassLoaderModel("1.2.0", artifact.getArtifactCoordinates());
+    model.setPackages(new String[] {"org.mule.model"});
+    model.getDependencies().add(artifact);
+
+    ClassLoaderModel copy = model.getParametrizedUriModel();
+
+    assertThat(copy.getPackages()).isSameAs(model.getPackages());
+    assertThat(copy.getDependencies().get(0).getPackages()).isSameAs(artifact.getPackages());
+    assertThat(copy.getDependencies().get(0).getResources()).isSameAs(artifact.getResources());
+  }
+
+  @Test
+  void arrayOfTheCallerIsNotModified() {
+    String[] packages = {new String("org.mule.package")};
+    Artifact artifact = artifact();
+    artifact.setPackages(packages);
+    packages[0] = "org.mule.other";
+
+    assertThat(artifact.getPackages()).containsExactly("org.mule.package").isNotSameAs(packages);
+  }
+
+  @Test
+  void internedArraysAreSharedBetweenModels() {
+    String[] packages = ModelInterner.internAll(new String[] {new String("org.mule.package")});
+    Artifact artifact = artifact();
+    artifact.setPackages(packages);
+    ClassLoaderModel model = new ClassLoaderModel("1.2.0", artifact.getArtifactCoordinates());
+    model.setPackages(packages);
+
+    assertThat(artifact.getPackages()).isSameAs(packages);
+    assertThat(model.getPackages()).isSameAs(packages);
+  }
+
+  @Test
+  void nullValuesAreKept() {
+    assertThat(ModelInterner.intern(null)).isNull();
+    assertThat(ModelInterner.internAll(null)).isNull();
+  }
+
+  private Artifact artifact() {
+    return new Artifact(new ArtifactCoordinates("org.mule", "artifact", "1.0.0"), URI.create("/repository/artifact.jar"));
+  }
+}
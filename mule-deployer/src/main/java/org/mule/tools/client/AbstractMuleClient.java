@@ -12,6 +12,7 @@ import static org.mule.tools.client.authentication.AuthenticationServiceClient.A
 import static org.mule.tools.client.authentication.AuthenticationServiceClient.ANYPOINT_SEESION_EXTEND;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.Response;
@@ -68,6 +69,11 @@ public abstract class AbstractMuleClient extends AbstractClient {
   private String businessGroupName;
   private String businessGroupId;
 
+  /**
+   * Session of the deployment the client is created for, whose values are shared with the other clients of the deployment.
+   */
+  private final AnypointSession session = AnypointSession.current().orElse(null);
+
   public AbstractMuleClient(AnypointDeployment anypointDeployment, DeployerLog log) {
     super(log);
     this.baseUri = anypointDeployment.getUri();
@@ -98,8 +104,10 @@ public abstract class AbstractMuleClient extends AbstractClient {
 
   public void init() {
     bearerToken = getBearerToken(credentials);
-    orgId = businessGroupId != null ? businessGroupId : getOrgId();
-    envId = findEnvironmentByName(environmentName).id;
+    orgId = businessGroupId != null ? businessGroupId
+        : getShared(this::getOrgId, ORGANIZATION, baseUri, bearerToken, businessGroupName);
+    envId = getShared(() -> findEnvironmentByName(environmentName).id, "environment", baseUri, bearerToken, orgId,
+                      environmentName);
   }
 
   public UserInfo getMe() {
@@ -209,6 +217,15 @@ public abstract class AbstractMuleClient extends AbstractClient {
     return envId;
   }
 
+  /**
+   * @return what identifies the platform, organization and environment the client works with, so the clients of the same
+   *         environment can share their requests
+   */
+  public String getEnvironmentKey() {
+    initialize();
+    return baseUri + "|" + orgId + "|" + envId;
+  }
+
   private String getUserId(JsonObject userInfoJson) {
     if (userInfoJson != null && userInfoJson.has(USER)) {
       JsonObject userJson = (JsonObject) userInfoJson.get(USER);
@@ -324,6 +341,9 @@ public abstract class AbstractMuleClient extends AbstractClient {
   }
 
   public void renewToken() {
+    if (session != null) {
+      session.invalidate();
+    }
     this.bearerToken = "";
     this.bearerToken = getBearerToken(this.credentials);
   }
@@ -333,11 +353,14 @@ public abstract class AbstractMuleClient extends AbstractClient {
       switch (credentials.credentialType()) {
         case user:
           Credentials creds = (Credentials) credentials;
-          bearerToken = authenticationServiceClient.getBearerToken(creds);
+          bearerToken = getShared(() -> authenticationServiceClient.getBearerToken(creds), "token", baseUri,
+                                  creds.getUsername(), creds.getPassword());
           break;
         case connectedApp:
           ConnectedAppCredentials connectedApp = (ConnectedAppCredentials) credentials;
-          bearerToken = authenticationServiceClient.getBearerTokenForConnectedApp(connectedApp);
+          bearerToken = getShared(() -> authenticationServiceClient.getBearerTokenForConnectedApp(connectedApp),
+                                  "token", baseUri, connectedApp.getClientId(), connectedApp.getClientSecret(),
+                                  connectedApp.getGrantType());
           break;
         case token:
           bearerToken = ((AnypointToken) credentials).getToken();
@@ -348,6 +371,13 @@ public abstract class AbstractMuleClient extends AbstractClient {
     return bearerToken;
   }
 
+  /**
+   * @return the value shared by the clients of the session, or a new lookup when the client was created without a session
+   */
+  private String getShared(Supplier<String> lookup, Object... key) {
+    return session != null ? session.get(lookup, key) : lookup.get();
+  }
+
   public Environments getEnvironments() {
     Response response = get(baseUri, String.format(ENVIRONMENTS, orgId));
     if (response.getStatus() != 200) {
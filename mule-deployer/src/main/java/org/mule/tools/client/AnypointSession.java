@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * Anypoint values shared by the clients of a deployment, such as bearer tokens and organization and environment ids.
+ * <p>
+ * Deploying the same artifact to several targets creates one client per target, and each client logs in and looks up its
+ * organization and environment. Clients created while a session is bound to their thread with {@link #bind(AnypointSession)}
+ * reuse the values already looked up by the other clients of the session with the same credentials against the same platform.
+ * Clients created without a session do every lookup, as clients always did. The values live as long as the session, which is
+ * owned by whoever bound it.
+ */
+public final class AnypointSession {
+
+  private static final ThreadLocal<AnypointSession> CURRENT = new ThreadLocal<>();
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  /**
+   * Values by the digest of their key, so the credentials that are part of the keys are not held by the session.
+   */
+  private final Map<String, FutureTask<String>> values = new ConcurrentHashMap<>();
+
+  /**
+   * Binds the session to the current thread, so the clients created by the thread share its values.
+   */
+  public static void bind(AnypointSession session) {
+    CURRENT.set(session);
+  }
+
+  public static void unbind() {
+    CURRENT.remove();
+  }
+
+  /**
+   * @return the session bound to the current thread, if any
+   */
+  public static Optional<AnypointSession> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Looks the value up only if no other client of the session did it yet. A lookup in progress only blocks the clients waiting
+   * for the same value, and a failed lookup is not kept, so the next client tries again.
+   *
+   * @param lookup looks the value up
+   * @param key    the parts that identify the value, such as the platform uri and the credentials
+   * @return the shared value for {@code key}
+   */
+  public String get(Supplier<String> lookup, Object... key) {
+    String digest = digest(key);
+    FutureTask<String> task = new FutureTask<>(lookup::get);
+    FutureTask<String> existing = values.putIfAbsent(digest, task);
+    if (existing == null) {
+      existing = task;
+      task.run();
+    }
+    try {
+      return existing.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a shared Anypoint value", e);
+    } catch (ExecutionException e) {
+      values.remove(digest, existing);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Discards every shared value, e.g. when a token expired so the values obtained with it can not be trusted anymore.
+   */
+  public void invalidate() {
+    values.clear();
+  }
+
+  static String digest(Object... key) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    for (Object part : key) {
+      byte[] bytes = String.valueOf(part).getBytes(UTF_8);
+      // The length keeps ("ab", "c") and ("a", "bc") apart
+      digest.update(Integer.toString(bytes.length).getBytes(UTF_8));
+      digest.update((byte) ':');
+      digest.update(bytes);
+    }
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest()) {
+      hex.append(format("%02x", b));
+    }
+    return hex.toString();
+  }
+}
@@ -11,9 +11,11 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -31,6 +33,7 @@ import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import org.glassfish.jersey.media.multipart.MultiPart;
 import org.glassfish.jersey.media.multipart.file.FileDataBodyPart;
 import org.mule.tools.client.AbstractMuleClient;
+import org.mule.tools.client.core.ArtifactUploader;
 import org.mule.tools.client.arm.model.Application;
 import org.mule.tools.client.arm.model.Applications;
 import org.mule.tools.client.arm.model.Data;
@@ -111,17 +114,48 @@ public class ArmClient extends AbstractMuleClient {
   }
 
   public Application deployApplication(ApplicationMetadata applicationMetadata) {
-    MultiPart body = buildRequestBody(applicationMetadata);
-    Response response = post(baseUri, APPLICATIONS, Entity.entity(body, body.getMediaType()));
-    checkResponseStatus(response);
-    return response.readEntity(Application.class);
+    return getUploader().upload(applicationMetadata.getFile(), artifact -> {
+      MultiPart body = buildRequestBody(applicationMetadata);
+      Response response = post(baseUri, APPLICATIONS, Entity.entity(body, body.getMediaType()));
+      checkResponseStatus(response);
+      return response.readEntity(Application.class);
+    }, deployReceipt(applicationMetadata));
   }
 
   public Application redeployApplication(int applicationId, ApplicationMetadata applicationMetadata) {
-    MultiPart body = buildRequestBody(applicationMetadata);
-    Response response = patch(baseUri, APPLICATIONS + "/" + applicationId, Entity.entity(body, body.getMediaType()));
-    checkResponseStatus(response);
-    return response.readEntity(Application.class);
+    return getUploader().upload(applicationMetadata.getFile(), artifact -> {
+      MultiPart body = buildRequestBody(applicationMetadata);
+      Response response = patch(baseUri, APPLICATIONS + "/" + applicationId, Entity.entity(body, body.getMediaType()));
+      checkResponseStatus(response);
+      return response.readEntity(Application.class);
+    }, redeployReceipt(applicationId));
+  }
+
+  /**
+   * Looks for the application before it is deployed, so a failed upload can tell whether ARM created it anyway.
+   */
+  private ArtifactUploader.Receipt<Application> deployReceipt(ApplicationMetadata applicationMetadata) {
+    Integer before = findApplicationId(applicationMetadata);
+    return () -> {
+      Integer after = findApplicationId(applicationMetadata);
+      return after != null && !after.equals(before) ? Optional.of(getApplication(after)) : Optional.empty();
+    };
+  }
+
+  /**
+   * Reads the application before it is redeployed, so a failed upload can tell whether ARM updated it anyway.
+   */
+  private ArtifactUploader.Receipt<Application> redeployReceipt(int applicationId) {
+    Date before = getTimeUpdated(getApplication(applicationId));
+    return () -> {
+      Application after = getApplication(applicationId);
+      Date timeUpdated = getTimeUpdated(after);
+      return timeUpdated != null && !timeUpdated.equals(before) ? Optional.of(after) : Optional.empty();
+    };
+  }
+
+  private static Date getTimeUpdated(Application application) {
+    return application != null && application.data != null ? application.data.timeUpdated : null;
   }
 
   private MultiPart buildRequestBody(ApplicationMetadata metadata) {
@@ -14,6 +14,7 @@ import static javax.ws.rs.core.Response.Status.NO_CONTENT;
 import static javax.ws.rs.core.Response.Status.OK;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import org.mule.tools.client.AbstractMuleClient;
+import org.mule.tools.client.core.ArtifactUploader;
 import org.mule.tools.client.cloudhub.model.Application;
 import org.mule.tools.client.cloudhub.model.Deployment;
 import org.mule.tools.client.cloudhub.model.DeploymentLogRequest;
@@ -32,6 +33,8 @@ import java.io.File;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.GenericType;
@@ -112,13 +115,15 @@ public class CloudHubClient extends AbstractMuleClient {
     checkArgument(file != null, "The file must not be null.");
     checkArgument(application != null, "The application must not be null.");
 
-    Entity<MultiPart> entity = getMultiPartEntity(application, file);
+    return getUploader().upload(file, artifact -> {
+      Entity<MultiPart> entity = getMultiPartEntity(application, artifact);
 
-    Response response = post(baseUri, APPLICATIONS_PATH, entity);
+      Response response = post(baseUri, APPLICATIONS_PATH, entity);
 
-    checkResponseStatus(response, OK);
+      checkResponseStatus(response, OK);
 
-    return response.readEntity(Application.class);
+      return response.readEntity(Application.class);
+    }, isNotBlank(application.getDomain()) ? receipt(application.getDomain()) : null);
   }
 
   /**
@@ -133,13 +138,29 @@ public class CloudHubClient extends AbstractMuleClient {
     checkArgument(application != null, "The application must not be null.");
     checkArgument(isNotBlank(application.getDomain()), "The application domain must not be null nor empty.");
 
-    Entity<MultiPart> entity = getMultiPartEntity(application, file);
+    return getUploader().upload(file, artifact -> {
+      Entity<MultiPart> entity = getMultiPartEntity(application, artifact);
 
-    Response response = put(baseUri, format(A_APPLICATION_PATH, application.getDomain()), entity);
+      Response response = put(baseUri, format(A_APPLICATION_PATH, application.getDomain()), entity);
 
-    checkResponseStatus(response, OK);
+      checkResponseStatus(response, OK);
+
+      return response.readEntity(Application.class);
+    }, receipt(application.getDomain()));
+  }
 
-    return response.readEntity(Application.class);
+  /**
+   * Reads the application before its artifact is uploaded, so a failed upload can tell whether CloudHub created or updated it
+   * anyway.
+   */
+  private ArtifactUploader.Receipt<Application> receipt(String domain) {
+    Application before = getApplications(domain);
+    Long lastUpdateTime = before != null ? before.getLastUpdateTime() : null;
+    return () -> {
+      Application after = getApplications(domain);
+      boolean deployed = after != null && (before == null || !Objects.equals(after.getLastUpdateTime(), lastUpdateTime));
+      return deployed ? Optional.of(after) : Optional.empty();
+    };
   }
 
   /**
@@ -257,6 +278,19 @@ public class CloudHubClient extends AbstractMuleClient {
     return response.readEntity(new GenericType<List<LogRecord>>() {});
   }
 
+  /**
+   * Follows the logs of the latest deployment of an {@link Application}, fetching only the records not seen yet on each poll.
+   *
+   * @param application the application
+   * @param log where the records are forwarded to
+   * @param maxLines how many of the most recent lines are kept to be shown
+   * @param maxBytes how many bytes of messages of the most recent lines are kept to be shown
+   * @return a {@link CloudHubLogTail}, which does not fetch anything until it is polled
+   */
+  public CloudHubLogTail tailLogs(Application application, DeployerLog log, int maxLines, int maxBytes) {
+    return new CloudHubLogTail(this, application, log, maxLines, maxBytes);
+  }
+
   /**
    * Retrieves the entire logs records from an {@link Application} given the instanceId
    *
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client.cloudhub;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mule.tools.client.cloudhub.model.Application;
+import org.mule.tools.client.cloudhub.model.Deployment;
+import org.mule.tools.client.cloudhub.model.DeploymentLogRequest;
+import org.mule.tools.client.cloudhub.model.LogLevel;
+import org.mule.tools.client.cloudhub.model.LogMessage;
+import org.mule.tools.client.cloudhub.model.LogRecord;
+import org.mule.tools.utils.DeployerLog;
+
+/**
+ * Follows the logs of the latest deployment of a CloudHub application, keeping its most recent lines so they can be shown
+ * when the deployment fails.
+ * <p>
+ * Each {@link #poll()} only fetches the records after the last one already seen, in pages of at most {@link #PAGE_SIZE}
+ * records, so the logs are never fetched twice. The records are forwarded to the {@link DeployerLog} at debug level as they
+ * arrive, and only the last {@code maxLines} lines, of at most {@code maxBytes} bytes of messages, are held in memory until
+ * {@link #printRecent()} shows them.
+ * <p>
+ * The latest deployment is looked up again on every poll, as right after a redeploy it can still be the previous one. When a
+ * newer deployment appears the tail starts over with its logs.
+ */
+public class CloudHubLogTail {
+
+  public static final int DEFAULT_MAX_LINES = 200;
+  public static final int DEFAULT_MAX_BYTES = 64 * 1024;
+
+  static final int PAGE_SIZE = 50;
+
+  private final CloudHubClient client;
+  private final Application application;
+  private final DeployerLog log;
+  private final int maxLines;
+  private final int maxBytes;
+
+  private final Deque<Line> recent = new ArrayDeque<>();
+  private int bytes;
+
+  private String deploymentId;
+  private Long startTime;
+  private String lastRecordId;
+
+  public CloudHubLogTail(CloudHubClient client, Application application, DeployerLog log) {
+    this(client, application, log, DEFAULT_MAX_LINES, DEFAULT_MAX_BYTES);
+  }
+
+  public CloudHubLogTail(CloudHubClient client, Application application, DeployerLog log, int maxLines, int maxBytes) {
+    checkArgument(client != null, "The client must not be null.");
+    checkArgument(application != null, "The application must not be null.");
+    checkArgument(log != null, "The log must not be null.");
+    this.client = client;
+    this.application = application;
+    this.log = log;
+    this.maxLines = maxLines;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Fetches the records logged by the latest deployment since the previous poll.
+   *
+   * @return how many records were fetched
+   */
+  public int poll() {
+    if (maxLines <= 0 || maxBytes <= 0 || !findDeployment()) {
+      return 0;
+    }
+    int fetched = 0;
+    List<LogRecord> page;
+    do {
+      page = client.getLogs(application, nextRequest());
+      if (page == null) {
+        break;
+      }
+      for (LogRecord record : page) {
+        add(record);
+        fetched++;
+      }
+    } while (page.size() == PAGE_SIZE);
+    return fetched;
+  }
+
+  /**
+   * Shows the most recent lines fetched so far at the level they were logged with, and forgets them.
+   */
+  public void printRecent() {
+    if (recent.isEmpty()) {
+      return;
+    }
+    log.info(format("Last %d lines of the logs of %s:", recent.size(), application.getDomain()));
+    Line line;
+    while ((line = recent.poll()) != null) {
+      print(line.priority, line.text);
+    }
+    bytes = 0;
+  }
+
+  /**
+   * @return the domain of the application whose logs are followed
+   */
+  public String getDomain() {
+    return application.getDomain();
+  }
+
+  /**
+   * @return the id of the last fetched record, the next poll fetches the records after it
+   */
+  public String getLastRecordId() {
+    return lastRecordId;
+  }
+
+  private boolean findDeployment() {
+    List<Deployment> deployments = client.getDeployments(application);
+    Optional<Deployment> latest = deployments == null ? Optional.empty()
+        : deployments.stream().filter(deployment -> deployment.getCreateTime() != null)
+            .max(Comparator.comparing(Deployment::getCreateTime));
+    latest.ifPresent(deployment -> {
+      if (!Objects.equals(deployment.getDeploymentId(), deploymentId)) {
+        deploymentId = deployment.getDeploymentId();
+        startTime = deployment.getCreateTime().getTime();
+        lastRecordId = null;
+        recent.clear();
+        bytes = 0;
+      }
+    });
+    return deploymentId != null;
+  }
+
+  private DeploymentLogRequest nextRequest() {
+    DeploymentLogRequest request = new DeploymentLogRequest();
+    request.setDeploymentId(deploymentId);
+    request.setStartTime(startTime);
+    request.setLowerId(lastRecordId);
+    request.setLimit(PAGE_SIZE);
+    request.setLimitMsgLen(Math.min(request.getLimitMsgLen(), maxBytes));
+    return request;
+  }
+
+  private void add(LogRecord record) {
+    lastRecordId = record.getRecordId();
+    LogMessage event = record.getEvent();
+    if (event == null || event.getMessage() == null) {
+      return;
+    }
+    Line line = new Line(event.getPriority(), format("[%s] %s", application.getDomain(), event.getMessage()),
+                         event.getMessage().getBytes(UTF_8).length);
+    log.debug(line.text);
+    recent.add(line);
+    bytes += line.bytes;
+    while (recent.size() > maxLines || bytes > maxBytes) {
+      bytes -= recent.remove().bytes;
+    }
+  }
+
+  private void print(LogLevel priority, String text) {
+    if (priority == null) {
+      log.info(text);
+      return;
+    }
+    switch (priority) {
+      case ERROR:
+        log.error(text);
+        break;
+      case WARN:
+        log.warn(text);
+        break;
+      case DEBUG:
+      case TRACE:
+        log.debug(text);
+        break;
+      default:
+        log.info(text);
+    }
+  }
+
+  private static class Line {
+
+    private final LogLevel priority;
+    private final String text;
+    private final int bytes;
+
+    private Line(LogLevel priority, String text, int bytes) {
+      this.priority = priority;
+      this.text = text;
+      this.bytes = bytes;
+    }
+  }
+}
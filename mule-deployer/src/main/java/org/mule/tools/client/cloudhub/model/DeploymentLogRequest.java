@@ -12,6 +12,8 @@ public class DeploymentLogRequest {
   private Long startTime;
   private Long endTime;
   private int limitMsgLen = 5000;
+  private String lowerId;
+  private Integer limit;
 
   public String getDeploymentId() {
     return deploymentId;
@@ -44,4 +46,26 @@ public class DeploymentLogRequest {
   public void setLimitMsgLen(int limitMsgLen) {
     this.limitMsgLen = limitMsgLen;
   }
+
+  /**
+   * @return the id of the record after which records are returned, or {@code null} to return them from the start
+   */
+  public String getLowerId() {
+    return lowerId;
+  }
+
+  public void setLowerId(String lowerId) {
+    this.lowerId = lowerId;
+  }
+
+  /**
+   * @return the maximum number of records returned, or {@code null} to let the platform decide
+   */
+  public Integer getLimit() {
+    return limit;
+  }
+
+  public void setLimit(Integer limit) {
+    this.limit = limit;
+  }
 }
@@ -21,7 +21,9 @@ import static org.mule.tools.client.authentication.AuthenticationServiceClient.L
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
@@ -36,18 +38,25 @@ import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import org.mule.tools.client.core.exception.ClientException;
 import org.mule.tools.client.core.logging.ClientLoggingFilter;
 import org.mule.tools.utils.DeployerLog;
+import org.mule.tools.utils.jfr.FlightRecorderEvents;
+import org.mule.tools.utils.jfr.HttpCallEvent;
 
 import com.google.gson.Gson;
 
 @SuppressWarnings("rawtypes")
 public abstract class AbstractClient {
 
+  private static final Pattern ID_SEGMENT = Pattern.compile("\\d+|(?=.*\\d)[0-9a-fA-F-]{8,}");
+  private static final String ID_PLACEHOLDER = "{id}";
+
   private String userAgent = "mule-deployer%s";
 
   protected DeployerLog log;
 
   private boolean isClientInitialized = false;
 
+  private ArtifactUploader uploader;
+
   public AbstractClient() {}
 
   public AbstractClient(DeployerLog log) {
@@ -56,7 +65,7 @@ public abstract class AbstractClient {
 
   protected Response post(String uri, String path, Entity entity) {
     initialize();
-    return builder(uri, path).post(entity);
+    return invoke("POST", uri, path, builder -> builder.post(entity));
   }
 
   protected Response post(String uri, String path, Object entity) {
@@ -71,7 +80,7 @@ public abstract class AbstractClient {
 
   protected Response put(String uri, String path, Entity entity) {
     initialize();
-    return builder(uri, path).put(entity);
+    return invoke("PUT", uri, path, builder -> builder.put(entity));
   }
 
   protected Response put(String uri, String path, Object entity) {
@@ -81,22 +90,22 @@ public abstract class AbstractClient {
 
   protected Response delete(String uri, String path) {
     initialize();
-    return builder(uri, path).delete();
+    return invoke("DELETE", uri, path, Invocation.Builder::delete);
   }
 
   protected Response get(String uri, String path) {
     initialize();
-    return builder(uri, path).get();
+    return invoke("GET", uri, path, Invocation.Builder::get);
   }
 
   protected Response get(String uri, Supplier<String> pathSupplier) {
     initialize();
-    return builder(uri, pathSupplier.get()).get();
+    return invoke("GET", uri, pathSupplier.get(), Invocation.Builder::get);
   }
 
   protected Response delete(String uri, Supplier<String> pathSupplier) {
     initialize();
-    return builder(uri, pathSupplier.get()).delete();
+    return invoke("DELETE", uri, pathSupplier.get(), Invocation.Builder::delete);
   }
 
   protected <T> T get(String uri, String path, Class<T> clazz) {
@@ -111,9 +120,50 @@ public abstract class AbstractClient {
 
   protected Response patch(String uri, String path, Entity entity) {
     initialize();
-    Invocation.Builder builder = builder(uri, path);
-    builder.property(SET_METHOD_WORKAROUND, true);
-    return builder.method("PATCH", entity);
+    return invoke("PATCH", uri, path, builder -> {
+      builder.property(SET_METHOD_WORKAROUND, true);
+      return builder.method("PATCH", entity);
+    });
+  }
+
+  private Response invoke(String method, String uri, String path, Function<Invocation.Builder, Response> invocation) {
+    if (!FlightRecorderEvents.isEnabled()) {
+      return invocation.apply(builder(uri, path));
+    }
+    HttpCallEvent event = new HttpCallEvent();
+    event.begin();
+    Response response = null;
+    try {
+      response = invocation.apply(builder(uri, path));
+      return response;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.method = method;
+        event.pathTemplate = toPathTemplate(path);
+        event.status = response != null ? response.getStatus() : -1;
+        event.bytes = response != null ? response.getLength() : -1;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * Replaces the identifiers in {@code path}, such as organization or environment ids, by a placeholder, so the calls to the same
+   * endpoint can be grouped.
+   */
+  static String toPathTemplate(String path) {
+    if (path == null) {
+      return null;
+    }
+    int queryStart = path.indexOf('?');
+    String[] segments = (queryStart >= 0 ? path.substring(0, queryStart) : path).split("/", -1);
+    for (int i = 0; i < segments.length; i++) {
+      if (ID_SEGMENT.matcher(segments[i]).matches()) {
+        segments[i] = ID_PLACEHOLDER;
+      }
+    }
+    return String.join("/", segments);
   }
 
 
@@ -196,6 +246,16 @@ public abstract class AbstractClient {
     return new Gson().fromJson(jsonResponse, type);
   }
 
+  /**
+   * @return the uploader of the artifacts sent by this client, created on first use
+   */
+  public synchronized ArtifactUploader getUploader() {
+    if (uploader == null) {
+      uploader = new ArtifactUploader(log);
+    }
+    return uploader;
+  }
+
   public void setUserAgent(String userAgent) {
     this.userAgent = userAgent;
   }
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client.core;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.Optional;
+
+import javax.ws.rs.ProcessingException;
+
+import org.mule.tools.client.OperationRetrier;
+import org.mule.tools.client.core.exception.ClientException;
+import org.mule.tools.utils.DeployerLog;
+import org.mule.tools.utils.jfr.ArtifactUploadEvent;
+import org.mule.tools.utils.jfr.FlightRecorderEvents;
+
+/**
+ * Uploads artifacts, retrying the attempts that failed without deploying them.
+ * <p>
+ * The deployment endpoints create or update the application when they receive the artifact, so sending it again after a
+ * failure the endpoint may have processed could deploy it twice or conflict with the first deployment. Attempts that could not
+ * establish the connection never reached the endpoint, so they are always retried. Attempts that failed after the connection
+ * was established, such as a connection dropped while sending the artifact or a gateway error, are only retried when the
+ * upload has a {@link Receipt}, and the receipt shows the endpoint did not deploy the artifact. When it did, its answer is
+ * returned without sending the artifact again. Before a retry the artifact is checked to be unchanged, so a rebuilt artifact is
+ * never sent in place of the one the upload started with.
+ * <p>
+ * These retries have their own budget, independent from the {@link OperationRetrier} used to wait for the deployment.
+ */
+public class ArtifactUploader {
+
+  public static final int DEFAULT_ATTEMPTS = 3;
+  public static final long DEFAULT_RETRY_DELAY = 2000L;
+
+  private final DeployerLog log;
+
+  private int attempts = DEFAULT_ATTEMPTS;
+  private long retryDelay = DEFAULT_RETRY_DELAY;
+
+  private volatile Statistics lastUpload;
+
+  public ArtifactUploader(DeployerLog log) {
+    this.log = log;
+  }
+
+  public void setAttempts(int attempts) {
+    checkArgument(attempts > 0, "Attempts should be positive");
+    this.attempts = attempts;
+  }
+
+  public void setRetryDelay(long retryDelay) {
+    checkArgument(retryDelay >= 0, "Retry delay should not be negative");
+    this.retryDelay = retryDelay;
+  }
+
+  /**
+   * @return the statistics of the last completed upload, or {@code null} if nothing was uploaded yet
+   */
+  public Statistics getLastUpload() {
+    return lastUpload;
+  }
+
+  /**
+   * Sends the whole artifact, sending it again only when an attempt could not reach the endpoint.
+   *
+   * @return what the endpoint answered to the successful attempt
+   */
+  public <T> T upload(File file, Upload<T> upload) {
+    return upload(file, upload, null);
+  }
+
+  /**
+   * Sends the whole artifact, sending it again when an attempt could not reach the endpoint, or when it failed after reaching it
+   * and {@code receipt} shows the artifact was not deployed.
+   *
+   * @param receipt tells whether a failed attempt deployed the artifact, or {@code null} to not retry those attempts
+   * @return what the endpoint answered to the successful attempt, or what {@code receipt} found
+   */
+  public <T> T upload(File file, Upload<T> upload, Receipt<T> receipt) {
+    checkArgument(file != null && file.isFile(), "The artifact to upload must be an existing file");
+    long stamp = file.lastModified();
+    long length = file.length();
+
+    ArtifactUploadEvent event = FlightRecorderEvents.isEnabled() ? new ArtifactUploadEvent() : null;
+    if (event != null) {
+      event.begin();
+    }
+    Statistics statistics = new Statistics(file.getName(), length);
+    long start = System.nanoTime();
+    for (int i = 1;; i++) {
+      statistics.attempts = i;
+      try {
+        T result;
+        try {
+          result = upload.send(file);
+        } catch (RuntimeException e) {
+          Optional<T> received = isUnreachable(e) ? Optional.empty() : findReceived(e, receipt);
+          if (!received.isPresent()) {
+            throw e;
+          }
+          warn(format("Upload of %s failed (%s), but the artifact was deployed", file.getName(), e.getMessage()));
+          result = received.get();
+        }
+        statistics.timeMillis = NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastUpload = statistics;
+        logCompleted(statistics);
+        return result;
+      } catch (RuntimeException e) {
+        if (!isRetryable(e, receipt) || i >= attempts) {
+          throw e;
+        }
+        if (file.lastModified() != stamp || file.length() != length) {
+          throw new IllegalStateException(format("The artifact %s changed while it was uploaded", file), e);
+        }
+        warn(format("Upload of %s failed (%s), retrying %d of %d", file.getName(), e.getMessage(), i, attempts - 1));
+        pause(e);
+      } finally {
+        if (event != null && lastUpload == statistics) {
+          commit(event, statistics);
+        }
+      }
+    }
+  }
+
+  private <T> Optional<T> findReceived(RuntimeException failure, Receipt<T> receipt) {
+    if (receipt == null || !mayHaveBeenReceived(failure)) {
+      return Optional.empty();
+    }
+    try {
+      return receipt.find();
+    } catch (RuntimeException e) {
+      // Without knowing whether the artifact was deployed, it must not be sent again
+      IllegalStateException unknown = new IllegalStateException("Could not tell whether the artifact was deployed", failure);
+      unknown.addSuppressed(e);
+      throw unknown;
+    }
+  }
+
+  /**
+   * Attempts the endpoint may have processed only get here once the receipt showed they did not deploy the artifact.
+   */
+  private boolean isRetryable(RuntimeException e, Receipt<?> receipt) {
+    return isUnreachable(e) || (receipt != null && mayHaveBeenReceived(e));
+  }
+
+  /**
+   * @return whether the attempt failed before the request reached the endpoint, so sending it again can not repeat its effect
+   */
+  protected boolean isUnreachable(RuntimeException e) {
+    if (!(e instanceof ProcessingException)) {
+      return false;
+    }
+    Throwable cause = e.getCause();
+    return cause instanceof ConnectException || cause instanceof UnknownHostException || cause instanceof NoRouteToHostException;
+  }
+
+  /**
+   * @return whether the attempt failed after reaching the endpoint in a way that does not tell whether it was processed: the
+   *         connection failed while sending the artifact or waiting for the answer, or a gateway answered instead of the endpoint
+   */
+  protected boolean mayHaveBeenReceived(RuntimeException e) {
+    if (e instanceof ProcessingException) {
+      return e.getCause() instanceof IOException;
+    }
+    if (e instanceof ClientException) {
+      int status = ((ClientException) e).getStatusCode();
+      return status == 502 || status == 503 || status == 504;
+    }
+    return false;
+  }
+
+  private void pause(RuntimeException failure) {
+    try {
+      Thread.sleep(retryDelay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw failure;
+    }
+  }
+
+  private void logCompleted(Statistics statistics) {
+    info(format("Uploaded %s (%d bytes) in %dms, %d KB/s%s", statistics.artifact, statistics.length, statistics.timeMillis,
+                statistics.getThroughput() / 1024,
+                statistics.getRetries() > 0 ? format(", after %d retries", statistics.getRetries()) : ""));
+  }
+
+  private static void commit(ArtifactUploadEvent event, Statistics statistics) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.artifact = statistics.artifact;
+      event.bytes = statistics.length;
+      event.attempts = statistics.attempts;
+      event.commit();
+    }
+  }
+
+  private void info(String message) {
+    if (log != null) {
+      log.info(message);
+    }
+  }
+
+  private void warn(String message) {
+    if (log != null) {
+      log.warn(message);
+    }
+  }
+
+  /**
+   * Sends the whole artifact in a single request.
+   */
+  @FunctionalInterface
+  public interface Upload<T> {
+
+    T send(File file);
+  }
+
+  /**
+   * Tells whether the endpoint deployed the artifact of a failed attempt, usually by comparing the application with the one
+   * read before the upload started.
+   */
+  @FunctionalInterface
+  public interface Receipt<T> {
+
+    /**
+     * @return what the endpoint would have answered to the attempt if it deployed the artifact, empty if it did not
+     */
+    Optional<T> find();
+  }
+
+  /**
+   * Measurements of an upload.
+   */
+  public static class Statistics {
+
+    private final String artifact;
+    private final long length;
+    private int attempts;
+    private long timeMillis;
+
+    private Statistics(String artifact, long length) {
+      this.artifact = artifact;
+      this.length = length;
+    }
+
+    public String getArtifact() {
+      return artifact;
+    }
+
+    public long getLength() {
+      return length;
+    }
+
+    public int getAttempts() {
+      return attempts;
+    }
+
+    public int getRetries() {
+      return attempts - 1;
+    }
+
+    public long getTimeMillis() {
+      return timeMillis;
+    }
+
+    /**
+     * @return the length of the artifact divided by the time of the whole upload, in bytes per second
+     */
+    public long getThroughput() {
+      return timeMillis > 0 ? length * 1000 / timeMillis : length * 1000;
+    }
+  }
+}
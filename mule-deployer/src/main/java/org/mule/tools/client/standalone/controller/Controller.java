@@ -9,8 +9,10 @@ package org.mule.tools.client.standalone.controller;
 import static java.lang.Integer.parseInt;
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.util.regex.Pattern.compile;
+import static org.apache.commons.io.FileUtils.copyDirectory;
 import static org.apache.commons.io.FileUtils.copyDirectoryToDirectory;
 import static org.apache.commons.io.FileUtils.copyFileToDirectory;
 import static org.apache.commons.io.FileUtils.forceDelete;
@@ -23,6 +25,7 @@ import org.mule.tools.client.standalone.exception.MuleControllerException;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -38,6 +41,7 @@ import org.apache.commons.io.filefilter.IOFileFilter;
 public class Controller {
 
   protected static final String ANCHOR_SUFFIX = "-anchor.txt";
+  protected static final String STAGING_FOLDER = ".apps-staging";
   private static final IOFileFilter ANCHOR_FILTER = suffixFileFilter(ANCHOR_SUFFIX);
   private static final String DOMAIN_DEPLOY_ERROR = "Error deploying domain %s.";
   private static final String ANCHOR_DELETE_ERROR = "Could not delete anchor file [%s] when stopping Mule Runtime.";
@@ -141,6 +145,19 @@ public class Controller {
   }
 
   public void deploy(String path) {
+    deploy(path, new File(path).getName());
+  }
+
+  /**
+   * Deploys the application in {@code path} to the apps folder with the given name. Exploded applications (folders) are copied
+   * next to the apps folder and then moved into the apps folder at once so the runtime never sees a partially copied application.
+   * They are copied rather than linked: the runtime and the next build both rewrite files in place, and a shared file would
+   * change on both sides without the runtime noticing it.
+   *
+   * @param path the application file or folder
+   * @param name the name of the deployed application folder, only used for exploded applications
+   */
+  public void deploy(String path, String name) {
     File app = new File(path);
     verify(app.exists(), "File does not exists: %s", app);
     verify(app.canRead(), "Cannot read file: %s", app);
@@ -148,13 +165,31 @@ public class Controller {
       if (app.isFile()) {
         copyFileToDirectory(app, appsDir);
       } else {
-        copyDirectoryToDirectory(app, appsDir);
+        deployExploded(app.toPath(), name);
       }
     } catch (IOException e) {
       throw new MuleControllerException("Could not deploy app [" + path + "] to [" + appsDir + "]", e);
     }
   }
 
+  protected void deployExploded(Path app, String name) throws IOException {
+    Path staging = appsDir.toPath().resolveSibling(STAGING_FOLDER).resolve(name);
+    if (Files.exists(staging)) {
+      forceDelete(staging.toFile());
+    }
+    copyDirectory(app.toFile(), staging.toFile());
+
+    Path deployed = appsDir.toPath().resolve(name);
+    if (Files.exists(deployed)) {
+      forceDelete(deployed.toFile());
+    }
+    try {
+      Files.move(staging, deployed, ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(staging, deployed);
+    }
+  }
+
   public boolean isRunning() {
     return IS_RUNNING_STATUS_CODE == status();
   }
@@ -56,6 +56,10 @@ public class MuleProcessController {
     getController().deploy(path);
   }
 
+  public void deploy(String path, String name) {
+    getController().deploy(path, name);
+  }
+
   public boolean isDeployed(String appName) {
     return getController().isDeployed(appName);
   }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.deployment;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Outcome and timing of deploying an artifact to each of the targets of a {@link MultiTargetDeployer}.
+ */
+public class DeploymentReport {
+
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  private final List<TargetResult> results;
+  private final long timeMillis;
+
+  public DeploymentReport(List<TargetResult> results, long timeMillis) {
+    this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    this.timeMillis = timeMillis;
+  }
+
+  /**
+   * @return the result of every target, in the order the targets were configured
+   */
+  public List<TargetResult> getResults() {
+    return results;
+  }
+
+  /**
+   * @return the wall clock time of the whole deployment, which is less than the sum of the targets when they are deployed
+   *         concurrently
+   */
+  public long getTimeMillis() {
+    return timeMillis;
+  }
+
+  public boolean hasFailures() {
+    return results.stream().anyMatch(result -> !result.isSuccessful());
+  }
+
+  /**
+   * @return one line per target followed by a totals line, meant to be logged
+   */
+  public List<String> getSummary() {
+    List<String> summary = new ArrayList<>();
+    int width = results.stream().mapToInt(result -> result.getTarget().length()).max().orElse(0);
+    for (TargetResult result : results) {
+      summary.add(String.format("%-" + Math.max(width, 1) + "s %-7s %8dms%s", result.getTarget(),
+                                result.isSuccessful() ? "SUCCESS" : "FAILURE", result.getTimeMillis(),
+                                result.isSuccessful() ? "" : " " + result.getError()));
+    }
+    long failures = results.stream().filter(result -> !result.isSuccessful()).count();
+    summary.add(String.format("%d target(s) deployed, %d failed, in %dms", results.size() - failures, failures, timeMillis));
+    return summary;
+  }
+
+  public String toJson() {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("timeMillis", timeMillis);
+    json.put("targets", results);
+    return GSON.toJson(json);
+  }
+
+  public void write(Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    Files.write(file, toJson().getBytes(UTF_8));
+  }
+
+  /**
+   * Outcome of deploying to a single target.
+   */
+  public static class TargetResult {
+
+    private final String target;
+    private final boolean successful;
+    private final long timeMillis;
+    private final String error;
+
+    private TargetResult(String target, boolean successful, long timeMillis, String error) {
+      this.target = target;
+      this.successful = successful;
+      this.timeMillis = timeMillis;
+      this.error = error;
+    }
+
+    public static TargetResult success(String target, long timeMillis) {
+      return new TargetResult(target, true, timeMillis, null);
+    }
+
+    public static TargetResult failure(String target, long timeMillis, String error) {
+      return new TargetResult(target, false, timeMillis, error);
+    }
+
+    public String getTarget() {
+      return target;
+    }
+
+    public boolean isSuccessful() {
+      return successful;
+    }
+
+    public long getTimeMillis() {
+      return timeMillis;
+    }
+
+    /**
+     * @return the reason of the failure, or {@code null} if the deployment succeeded
+     */
+    public String getError() {
+      return error;
+    }
+  }
+}
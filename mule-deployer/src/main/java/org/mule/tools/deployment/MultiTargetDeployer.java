@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.deployment;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mule.tools.client.AnypointSession;
+import org.mule.tools.client.core.exception.DeploymentException;
+import org.mule.tools.deployment.DeploymentReport.TargetResult;
+import org.mule.tools.model.Deployment;
+import org.mule.tools.model.anypoint.AnypointDeployment;
+import org.mule.tools.model.anypoint.ArmDeployment;
+import org.mule.tools.model.anypoint.CloudHubDeployment;
+import org.mule.tools.model.anypoint.RuntimeFabricDeployment;
+import org.mule.tools.utils.DeployerLog;
+
+/**
+ * Deploys the same artifact to several targets, up to {@code parallelism} of them at the same time.
+ * <p>
+ * A failed target does not stop the deployment to the others, every target gets its result in the returned
+ * {@link DeploymentReport}. Every deployment owns an {@link AnypointSession}, bound to the threads while they deploy its
+ * targets, so the targets sharing credentials and platform log in and look up their organization and environment only once.
+ */
+public class MultiTargetDeployer {
+
+  private final List<Deployment> targets;
+  private final int parallelism;
+  private final TargetDeployer targetDeployer;
+  private final DeployerLog log;
+
+  public MultiTargetDeployer(List<Deployment> targets, int parallelism, DeployerLog log) {
+    this(targets, parallelism, (target, targetLog) -> new DefaultDeployer(target, targetLog).deploy(), log);
+  }
+
+  /**
+   * @param targetDeployer deploys the artifact to a single target
+   */
+  public MultiTargetDeployer(List<Deployment> targets, int parallelism, TargetDeployer targetDeployer, DeployerLog log) {
+    this.targets = targets;
+    this.parallelism = Math.max(1, Math.min(parallelism, targets.size()));
+    this.targetDeployer = targetDeployer;
+    this.log = log;
+  }
+
+  public DeploymentReport deploy() {
+    long start = System.nanoTime();
+    List<TargetResult> results = new ArrayList<>();
+    AnypointSession session = new AnypointSession();
+    if (parallelism == 1) {
+      targets.forEach(target -> results.add(deploy(target, session)));
+    } else {
+      results.addAll(deployConcurrently(session));
+    }
+    return new DeploymentReport(results, NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  private List<TargetResult> deployConcurrently(AnypointSession session) {
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory(contextClassLoader));
+    try {
+      List<Future<TargetResult>> futures = new ArrayList<>();
+      for (Deployment target : targets) {
+        futures.add(executor.submit(() -> deploy(target, session)));
+      }
+      List<TargetResult> results = new ArrayList<>();
+      for (int i = 0; i < futures.size(); i++) {
+        results.add(getResult(futures.get(i), targets.get(i)));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private TargetResult getResult(Future<TargetResult> future, Deployment target) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return TargetResult.failure(describe(target), 0, "Interrupted");
+    } catch (ExecutionException e) {
+      return TargetResult.failure(describe(target), 0, String.valueOf(e.getCause()));
+    }
+  }
+
+  private TargetResult deploy(Deployment target, AnypointSession session) {
+    String description = describe(target);
+    long start = System.nanoTime();
+    AnypointSession.bind(session);
+    try {
+      targetDeployer.deploy(target, new TargetLog(description, log));
+      return TargetResult.success(description, NANOSECONDS.toMillis(System.nanoTime() - start));
+    } catch (DeploymentException | RuntimeException e) {
+      log.error("Failed to deploy to " + description + ": " + e.getMessage(), e);
+      return TargetResult.failure(description, NANOSECONDS.toMillis(System.nanoTime() - start), e.getMessage());
+    } finally {
+      AnypointSession.unbind();
+    }
+  }
+
+  private static ThreadFactory threadFactory(ClassLoader contextClassLoader) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "mule-deployer-" + count.incrementAndGet());
+      thread.setContextClassLoader(contextClassLoader);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * @return a short description of where {@code target} deploys to, used to tell the targets apart in the log and the report
+   */
+  public static String describe(Deployment target) {
+    StringBuilder description = new StringBuilder(target.getClass().getSimpleName().replace("Deployment", ""))
+        .append(":").append(target.getApplicationName());
+    if (target instanceof AnypointDeployment) {
+      description.append("@").append(((AnypointDeployment) target).getEnvironment());
+    }
+    String location = null;
+    if (target instanceof CloudHubDeployment) {
+      location = ((CloudHubDeployment) target).getRegion();
+    } else if (target instanceof ArmDeployment) {
+      location = ((ArmDeployment) target).getTarget();
+    } else if (target instanceof RuntimeFabricDeployment) {
+      location = ((RuntimeFabricDeployment) target).getTarget();
+    }
+    if (location != null) {
+      description.append("/").append(location);
+    }
+    return description.toString();
+  }
+
+  /**
+   * Deploys the artifact to a single target.
+   */
+  @FunctionalInterface
+  public interface TargetDeployer {
+
+    void deploy(Deployment target, DeployerLog log) throws DeploymentException;
+  }
+
+  /**
+   * Prefixes every message with the target it belongs to, as the messages of concurrent targets are interleaved.
+   */
+  private static class TargetLog implements DeployerLog {
+
+    private final String prefix;
+    private final DeployerLog log;
+
+    private TargetLog(String target, DeployerLog log) {
+      this.prefix = "[" + target + "] ";
+      this.log = log;
+    }
+
+    @Override
+    public void info(String s) {
+      log.info(prefix + s);
+    }
+
+    @Override
+    public void error(String s) {
+      log.error(prefix + s);
+    }
+
+    @Override
+    public void warn(String s) {
+      log.warn(prefix + s);
+    }
+
+    @Override
+    public void debug(String s) {
+      log.debug(prefix + s);
+    }
+
+    @Override
+    public void error(String s, Throwable e) {
+      log.error(prefix + s, e);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+      return log.isDebugEnabled();
+    }
+  }
+}
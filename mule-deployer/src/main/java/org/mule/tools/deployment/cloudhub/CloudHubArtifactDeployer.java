@@ -44,6 +44,7 @@ public class CloudHubArtifactDeployer implements ArtifactDeployer {
 
   private CloudHubClient client;
   private DeploymentVerification deploymentVerification;
+  private long verificationDelay;
 
   public CloudHubArtifactDeployer(Deployment deployment, DeployerLog log) {
     this(deployment, new CloudHubClient((CloudHubDeployment) deployment, log), log);
@@ -54,7 +55,7 @@ public class CloudHubArtifactDeployer implements ArtifactDeployer {
 
     this.log = log;
     this.client = cloudHubClient;
-    this.deploymentVerification = new CloudHubDeploymentVerification(client);
+    this.deploymentVerification = new CloudHubDeploymentVerification(client, log);
 
     this.deployment = (CloudHubDeployment) deployment;
     if (!this.deployment.getDeploymentTimeout().isPresent()) {
@@ -126,11 +127,8 @@ public class CloudHubArtifactDeployer implements ArtifactDeployer {
       createApplication();
     } else {
       updateApplication();
-      try {
-        Thread.sleep(deployment.getWaitBeforeValidation());
-      } catch (InterruptedException e) {
-        log.warn("Could not wait for application start-up validation. Application may still be deploying.");
-      }
+      // The previous deployment may still look started for a while, the verification waits before its first poll
+      verificationDelay = deployment.getWaitBeforeValidation() != null ? deployment.getWaitBeforeValidation() : 0;
     }
   }
 
@@ -180,7 +178,11 @@ public class CloudHubArtifactDeployer implements ArtifactDeployer {
    */
   protected void checkApplicationHasStarted() throws DeploymentException {
     log.info("Checking if application: " + deployment.getApplicationName() + " has started");
-    deploymentVerification.assertDeployment(deployment);
+    if (verificationDelay > 0) {
+      deploymentVerification.assertDeployment(deployment, verificationDelay);
+    } else {
+      deploymentVerification.assertDeployment(deployment);
+    }
   }
 
 
@@ -92,7 +92,7 @@ public class StandaloneArtifactDeployer implements ArtifactDeployer {
       throw new DeploymentException("Application does not exist: " + deployment.getArtifact());
     }
     log.info("Waiting for artifact [" + deployment.getArtifact() + "] to be deployed.");
-    String app = FilenameUtils.getBaseName(deployment.getArtifact().getName());
+    String app = getDeployedApplicationName();
     try {
       DeploymentProbe probe = createProbe(deployment.getPackaging());
       prober.check(probe.isDeployed(controller, app));
@@ -104,11 +104,26 @@ public class StandaloneArtifactDeployer implements ArtifactDeployer {
   }
 
   /**
-   * Renames the file to be deployed have the same name that the application appended by ".jar".
+   * @return the name of the application once deployed: the application name for exploded applications, which are deployed
+   *         straight from their folder, or the base name of the artifact file otherwise
+   */
+  protected String getDeployedApplicationName() {
+    if (deployment.getArtifact().isDirectory()) {
+      return deployment.getApplicationName();
+    }
+    return FilenameUtils.getBaseName(deployment.getArtifact().getName());
+  }
+
+  /**
+   * Renames the file to be deployed have the same name that the application appended by ".jar". Exploded applications are not
+   * renamed, as they are deployed with the application name directly.
    * 
    * @throws DeploymentException If it fails to rename the application due to an {@link IOException}
    */
   protected void renameApplicationToApplicationName() throws DeploymentException {
+    if (deployment.getArtifact().isDirectory()) {
+      return;
+    }
     if (!FilenameUtils.getBaseName(deployment.getArtifact().getName()).equals(deployment.getApplicationName())) {
       try {
         File destApplication =
@@ -185,7 +200,8 @@ public class StandaloneArtifactDeployer implements ArtifactDeployer {
 
   /**
    * Deploys a mule application to Standalone. It first renames the file to be deployed to have the same name as of the project.
-   * Then it deploys also any possible domain that is specified as a dependency of the application.
+   * Then it deploys also any possible domain that is specified as a dependency of the application. Exploded applications are
+   * copied into the apps folder with the application name.
    *
    * @throws DeploymentException
    */
@@ -196,7 +212,11 @@ public class StandaloneArtifactDeployer implements ArtifactDeployer {
     File application = deployment.getArtifact();
     checkState(application != null, "Application cannot be null");
     try {
-      controller.deploy(application.getAbsolutePath());
+      if (application.isDirectory()) {
+        controller.deploy(application.getAbsolutePath(), deployment.getApplicationName());
+      } else {
+        controller.deploy(application.getAbsolutePath());
+      }
     } catch (MuleControllerException e) {
       log.error("Couldn't deploy application: " + application);
       throw new DeploymentException("Couldn't deploy application: " + application);
@@ -42,6 +42,12 @@ public class CloudHubDeployment extends AnypointDeployment {
   @Parameter
   protected Boolean applyLatestRuntimePatch = false;
 
+  @Parameter
+  protected Integer logTailMaxLines = 200;
+
+  @Parameter
+  protected Integer logTailMaxBytes = 64 * 1024;
+
   /**
    * Region to deploy the application in Cloudhub.
    *
@@ -136,6 +142,34 @@ public class CloudHubDeployment extends AnypointDeployment {
     this.applyLatestRuntimePatch = applyLatestRuntimePatch;
   }
 
+  /**
+   * Maximum number of the most recent log lines of the application shown when the verification of its deployment fails, 0 to
+   * not show them.
+   *
+   * @since 4.0.1
+   */
+  public Integer getLogTailMaxLines() {
+    return logTailMaxLines;
+  }
+
+  public void setLogTailMaxLines(Integer logTailMaxLines) {
+    this.logTailMaxLines = logTailMaxLines;
+  }
+
+  /**
+   * Maximum number of bytes of the most recent log messages of the application shown when the verification of its deployment
+   * fails.
+   *
+   * @since 4.0.1
+   */
+  public Integer getLogTailMaxBytes() {
+    return logTailMaxBytes;
+  }
+
+  public void setLogTailMaxBytes(Integer logTailMaxBytes) {
+    this.logTailMaxBytes = logTailMaxBytes;
+  }
+
   public void setEnvironmentSpecificValues() throws DeploymentException {
     super.setEnvironmentSpecificValues();
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils;
+
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Utility class to materialize files using hard links where the file system supports them, falling back to copies otherwise.
+ * <p>
+ * Hard links make exploded artifacts almost free to create, as the content of big files such as the repository jars is not
+ * duplicated. A link shares its content with its source, so writing either of them in place changes both. Only files that are
+ * replaced rather than rewritten, such as the artifacts of a repository, must be linked.
+ */
+public final class FileLinks {
+
+  private FileLinks() {}
+
+  /**
+   * Links {@code source} to {@code target}, replacing {@code target} if it exists. When a link can not be created (e.g. the paths
+   * belong to different file stores) the file is copied instead.
+   *
+   * @param source the existing file
+   * @param target the file to create
+   * @return {@code true} if the file was linked, {@code false} if it was copied
+   * @throws IOException if the file could be neither linked nor copied
+   */
+  public static boolean linkOrCopy(Path source, Path target) throws IOException {
+    if (Files.exists(target) && Files.isSameFile(source, target)) {
+      return true;
+    }
+    Files.createDirectories(target.toAbsolutePath().getParent());
+    Files.deleteIfExists(target);
+    try {
+      Files.createLink(target, source);
+      return true;
+    } catch (IOException | UnsupportedOperationException | SecurityException e) {
+      Files.copy(source, target, REPLACE_EXISTING, COPY_ATTRIBUTES);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils;
+
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a task over a list of inputs using a bounded number of threads, keeping the order of the inputs in the results.
+ * <p>
+ * Tasks run with the context class loader of the calling thread, as the Maven components they use look up their resources with
+ * it, and record their steps into the {@link TimingReport} of the calling thread. The first failure, in the order of the inputs,
+ * is thrown as it was thrown by the task and the remaining tasks are cancelled.
+ */
+public final class ParallelTasks {
+
+  private ParallelTasks() {}
+
+  /**
+   * @param inputs  the inputs of the task
+   * @param threads maximum number of inputs processed at the same time, {@code 1} or less processes them in the calling thread
+   * @param task    the task to run for each input
+   * @return the result of the task for each input, in the order of the inputs
+   */
+  public static <T, R, E extends Exception> List<R> map(List<T> inputs, int threads, Task<T, R, E> task) throws E {
+    List<R> results = new ArrayList<>(inputs.size());
+    if (threads <= 1 || inputs.size() <= 1) {
+      for (T input : inputs) {
+        results.add(task.apply(input));
+      }
+      return results;
+    }
+
+    ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    ExecutorService executor = newFixedThreadPool(Math.min(threads, inputs.size()));
+    try {
+      List<Future<R>> futures = new ArrayList<>(inputs.size());
+      for (T input : inputs) {
+        futures.add(executor.submit(TimingReport.propagate(() -> {
+          Thread thread = currentThread();
+          ClassLoader workerContextClassLoader = thread.getContextClassLoader();
+          thread.setContextClassLoader(contextClassLoader);
+          try {
+            return task.apply(input);
+          } finally {
+            thread.setContextClassLoader(workerContextClassLoader);
+          }
+        })));
+      }
+      for (Future<R> future : futures) {
+        results.add(ParallelTasks.<R, E>getResult(future));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R, E extends Exception> R getResult(Future<R> future) throws E {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a parallel task", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      // Tasks can only throw the checked exceptions declared by E
+      throw (E) cause;
+    }
+  }
+
+  /**
+   * A task that can throw a checked exception.
+   */
+  @FunctionalInterface
+  public interface Task<T, R, E extends Exception> {
+
+    R apply(T input) throws E;
+  }
+}
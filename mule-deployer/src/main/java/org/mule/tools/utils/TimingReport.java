@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Time and memory allocated by the steps of the build of a module.
+ * <p>
+ * Steps are measured with {@link #step(String)}, which records into the report bound to the current thread with
+ * {@link #bind(TimingReport)}. When no report is bound, as when the report is disabled, measuring a step has no effect, so the
+ * instrumented code does not need to know whether the report is enabled. Work handed over to other threads is only recorded
+ * when its task is wrapped with {@link #propagate(Callable)}.
+ */
+public class TimingReport {
+
+  private static final ThreadLocal<TimingReport> CURRENT = new ThreadLocal<>();
+  private static final Step NO_OP_STEP = new Step(null, null);
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  private final String module;
+  private final Map<String, StepTiming> steps = new LinkedHashMap<>();
+
+  public TimingReport(String module) {
+    this.module = module;
+  }
+
+  /**
+   * Binds the report to the current thread, so the steps measured by the thread are recorded into it.
+   */
+  public static void bind(TimingReport report) {
+    CURRENT.set(report);
+  }
+
+  public static void unbind() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Wraps {@code task} so the steps it measures are recorded into the report bound to the current thread, whichever thread runs
+   * it.
+   *
+   * @return the wrapped task, or {@code task} itself when no report is bound
+   */
+  public static <T> Callable<T> propagate(Callable<T> task) {
+    TimingReport report = CURRENT.get();
+    if (report == null) {
+      return task;
+    }
+    return () -> {
+      TimingReport previous = CURRENT.get();
+      CURRENT.set(report);
+      try {
+        return task.call();
+      } finally {
+        if (previous != null) {
+          CURRENT.set(previous);
+        } else {
+          CURRENT.remove();
+        }
+      }
+    };
+  }
+
+  /**
+   * Starts measuring a step, which ends when the returned {@link Step} is closed.
+   *
+   * @param name the name of the step, steps with the same name are accumulated
+   * @return the running step
+   */
+  public static Step step(String name) {
+    TimingReport report = CURRENT.get();
+    return report != null ? new Step(report, name) : NO_OP_STEP;
+  }
+
+  /**
+   * @return the report bound to the current thread, if any
+   */
+  public static Optional<TimingReport> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  public String getModule() {
+    return module;
+  }
+
+  public synchronized void record(String step, long timeMillis, long allocatedBytes) {
+    steps.computeIfAbsent(step, StepTiming::new).add(timeMillis, allocatedBytes);
+  }
+
+  /**
+   * Accumulates every step of {@code other} into this report.
+   */
+  public synchronized void merge(TimingReport other) {
+    for (StepTiming timing : other.getSteps()) {
+      steps.computeIfAbsent(timing.name, StepTiming::new).add(timing);
+    }
+  }
+
+  /**
+   * @return a copy of the recorded steps, in the order they were first recorded
+   */
+  public synchronized List<StepTiming> getSteps() {
+    List<StepTiming> copy = new ArrayList<>();
+    steps.values().forEach(timing -> copy.add(new StepTiming(timing.name).add(timing)));
+    return copy;
+  }
+
+  public String toJson() {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("module", module);
+    json.put("steps", getSteps());
+    return GSON.toJson(json);
+  }
+
+  public void write(Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    Files.write(file, toJson().getBytes(UTF_8));
+  }
+
+  /**
+   * Accumulated measurements of a step.
+   */
+  public static class StepTiming {
+
+    private final String name;
+    private int count;
+    private long timeMillis;
+    private long allocatedBytes;
+
+    private StepTiming(String name) {
+      this.name = name;
+    }
+
+    private StepTiming add(long timeMillis, long allocatedBytes) {
+      this.count++;
+      this.timeMillis += timeMillis;
+      this.allocatedBytes += allocatedBytes;
+      return this;
+    }
+
+    private StepTiming add(StepTiming other) {
+      this.count += other.count;
+      this.timeMillis += other.timeMillis;
+      this.allocatedBytes += other.allocatedBytes;
+      return this;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public long getTimeMillis() {
+      return timeMillis;
+    }
+
+    /**
+     * @return the bytes allocated by the thread that ran the step, or 0 if the JVM does not measure them
+     */
+    public long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+  }
+
+  /**
+   * A running step. Allocations are measured for the thread that started the step only, so the work it hands over to other
+   * threads is not accounted in its allocated bytes.
+   */
+  public static class Step implements AutoCloseable {
+
+    private final TimingReport report;
+    private final String name;
+    private final long start;
+    private final long startAllocatedBytes;
+
+    private Step(TimingReport report, String name) {
+      this.report = report;
+      this.name = name;
+      this.start = report != null ? System.nanoTime() : 0;
+      this.startAllocatedBytes = report != null ? allocatedBytes() : 0;
+    }
+
+    @Override
+    public void close() {
+      if (report != null) {
+        report.record(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                      Math.max(0, allocatedBytes() - startAllocatedBytes));
+      }
+    }
+
+    private static long allocatedBytes() {
+      java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+      if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+          return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+      }
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Installation of a dependency into the repository folder of a package.
+ */
+@Name("org.mule.tools.ArtifactInstall")
+@Label("Artifact Install")
+@Description("Installation of a dependency into the repository of a Mule package")
+@Category({"Mule", "Packaging"})
+public class ArtifactInstallEvent extends jdk.jfr.Event {
+
+  @Label("Artifact")
+  public String artifact;
+
+  @Label("Size")
+  @DataAmount
+  public long bytes;
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Upload of an artifact by a deployment client, including its retries.
+ */
+@Name("org.mule.tools.ArtifactUpload")
+@Label("Artifact Upload")
+@Description("Upload of an artifact to a deployment target, including its retries")
+@Category({"Mule", "Deployment"})
+public class ArtifactUploadEvent extends jdk.jfr.Event {
+
+  @Label("Artifact")
+  public String artifact;
+
+  @Label("Size")
+  @DataAmount
+  public long bytes;
+
+  @Label("Attempts")
+  public int attempts;
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Poll of the status of a deployment while waiting for it to be deployed.
+ */
+@Name("org.mule.tools.DeploymentVerification")
+@Label("Deployment Verification Poll")
+@Description("Poll of the status of a deployment while waiting for it to be deployed")
+@Category({"Mule", "Deployment"})
+public class DeploymentVerificationEvent extends jdk.jfr.Event {
+
+  @Label("Application")
+  public String application;
+
+  @Label("Attempt")
+  public int attempt;
+
+  @Label("Deployed")
+  public boolean deployed;
+}
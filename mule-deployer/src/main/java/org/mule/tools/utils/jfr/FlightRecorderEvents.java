@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils.jfr;
+
+/**
+ * Switch for the Java Flight Recorder events emitted by the packaging, deployment and extension model loading hot paths.
+ * <p>
+ * Events are disabled by default. They can only be enabled when the running JVM provides the {@code jdk.jfr} API (Java 8u262 or
+ * later), and the event classes are never loaded otherwise. Call sites must check {@link #isEnabled()} before creating an event.
+ */
+public final class FlightRecorderEvents {
+
+  private static final String JFR_EVENT_CLASS = "jdk.jfr.Event";
+
+  private static volatile boolean enabled;
+
+  private FlightRecorderEvents() {}
+
+  /**
+   * Enables or disables the events. Enabling them has no effect when the JVM does not support JFR.
+   *
+   * @return whether the events are enabled after the call
+   */
+  public static boolean setEnabled(boolean enabled) {
+    FlightRecorderEvents.enabled = enabled && isAvailable();
+    return FlightRecorderEvents.enabled;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return whether the running JVM provides the {@code jdk.jfr} API
+   */
+  public static boolean isAvailable() {
+    try {
+      Class.forName(JFR_EVENT_CLASS, false, FlightRecorderEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+}
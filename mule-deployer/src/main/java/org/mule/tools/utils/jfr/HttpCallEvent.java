@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * HTTP call made by a deployment client.
+ */
+@Name("org.mule.tools.HttpCall")
+@Label("HTTP Call")
+@Description("HTTP call made by a deployment client")
+@Category({"Mule", "Deployment"})
+public class HttpCallEvent extends jdk.jfr.Event {
+
+  @Label("Method")
+  public String method;
+
+  @Label("Path Template")
+  @Description("Path of the call with its identifiers replaced by placeholders")
+  public String pathTemplate;
+
+  @Label("Status")
+  public int status;
+
+  @Label("Response Size")
+  @Description("Declared length of the response body, -1 when unknown")
+  @DataAmount
+  public long bytes;
+}
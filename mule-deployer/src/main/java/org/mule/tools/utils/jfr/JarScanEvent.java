@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Scan of the packages and resources of a jar or classes folder.
+ */
+@Name("org.mule.tools.JarScan")
+@Label("Jar Scan")
+@Description("Scan of the packages and resources exported by a library")
+@Category({"Mule", "Packaging"})
+public class JarScanEvent extends jdk.jfr.Event {
+
+  @Label("Library")
+  public String library;
+
+  @Label("Packages")
+  public int packages;
+
+  @Label("Resources")
+  public int resources;
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.verification;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Answers the lookups made by many pending verifications with a single batch request.
+ * <p>
+ * Lookups are grouped by where they are answered from, such as a platform environment. While more than one verification of a
+ * group is registered, the first lookup fetches every item of the group at once, and the lookups made in the next
+ * {@code maxAgeMillis} are answered from that batch. A verification alone in its group uses its single item request instead,
+ * which is cheaper than the batch.
+ */
+public class CoalescedLookup<V> {
+
+  private final long maxAgeMillis;
+  private final Map<Object, Group<V>> groups = new ConcurrentHashMap<>();
+  private final AtomicInteger batches = new AtomicInteger();
+
+  public CoalescedLookup(long maxAgeMillis) {
+    this.maxAgeMillis = maxAgeMillis;
+  }
+
+  /**
+   * Registers a pending verification in {@code group}, until the returned registration is closed.
+   *
+   * @param group the group, or {@code null} if the verification can not share its lookups
+   */
+  public Registration register(Object group) {
+    if (group == null) {
+      return () -> {
+      };
+    }
+    groups.compute(group, (key, value) -> {
+      Group<V> registered = value != null ? value : new Group<>();
+      registered.registered.incrementAndGet();
+      return registered;
+    });
+    return () -> groups.computeIfPresent(group, (key, value) -> value.registered.decrementAndGet() == 0 ? null : value);
+  }
+
+  /**
+   * @param group  the group of the item, or {@code null} if it can not be shared
+   * @param key    the item
+   * @param single looks up the item alone
+   * @param batch  looks up every item of the group, by key
+   * @return the item, or {@code null} if the batch does not contain it
+   */
+  public V get(Object group, String key, Supplier<V> single, Supplier<Map<String, V>> batch) {
+    Group<V> registered = group != null ? groups.get(group) : null;
+    if (registered == null || registered.registered.get() < 2) {
+      return single.get();
+    }
+    return registered.get(batch, maxAgeMillis, batches).get(key);
+  }
+
+  /**
+   * @return how many batch requests were made
+   */
+  public int getBatches() {
+    return batches.get();
+  }
+
+  public interface Registration extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  private static class Group<V> {
+
+    private final AtomicInteger registered = new AtomicInteger();
+    private Map<String, V> items;
+    private long fetchedAt;
+
+    private synchronized Map<String, V> get(Supplier<Map<String, V>> batch, long maxAgeMillis, AtomicInteger batches) {
+      long now = System.currentTimeMillis();
+      if (items == null || now - fetchedAt > maxAgeMillis) {
+        items = batch.get();
+        fetchedAt = now;
+        batches.incrementAndGet();
+      }
+      return items;
+    }
+  }
+}
@@ -9,15 +9,20 @@ package org.mule.tools.verification;
 import org.mule.tools.client.OperationRetrier;
 import org.mule.tools.client.core.exception.DeploymentException;
 import org.mule.tools.model.Deployment;
+import org.mule.tools.utils.jfr.DeploymentVerificationEvent;
+import org.mule.tools.utils.jfr.FlightRecorderEvents;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class DefaultDeploymentVerification implements DeploymentVerification {
 
   /**
-   * An operation retrier that verifies the deployment success during a time span.
+   * How often and how many times the deployment is polled.
    */
   private final OperationRetrier retrier;
 
@@ -37,16 +42,71 @@ public class DefaultDeploymentVerification implements DeploymentVerification {
 
   @Override
   public void assertDeployment(Deployment deployment) throws DeploymentException {
-    deployment.getDeploymentTimeout().ifPresent(retrier::setTimeout);
+    assertDeployment(deployment, 0);
+  }
+
+  @Override
+  public void assertDeployment(Deployment deployment, long delayMillis) throws DeploymentException {
+    CompletableFuture<Void> verification = verify(deployment, delayMillis);
     try {
-      retrier.retry(() -> !isDeployed.test(deployment));
-    } catch (InterruptedException | TimeoutException e) {
+      verification.get();
+    } catch (InterruptedException e) {
+      verification.cancel(false);
+      Thread.currentThread().interrupt();
       onTimeout.accept(deployment);
       throw new DeploymentException("Validation timed out waiting for application to start. " +
           "Please consider increasing the deploymentTimeout property.", e);
-    } catch (IllegalStateException e) {
-      onTimeout.accept(deployment);
-      throw new DeploymentException("Deployment has failed", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof TimeoutException) {
+        onTimeout.accept(deployment);
+        throw new DeploymentException("Validation timed out waiting for application to start. " +
+            "Please consider increasing the deploymentTimeout property.", cause);
+      } else if (cause instanceof IllegalStateException) {
+        onTimeout.accept(deployment);
+        throw new DeploymentException("Deployment has failed", cause);
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new DeploymentException("Deployment has failed", cause);
+    }
+  }
+
+  /**
+   * Verifies the deployment without blocking the calling thread. Polls are made by the {@link VerificationScheduler}, every
+   * {@link OperationRetrier#getSleepTime()} and at most {@link OperationRetrier#getAttempts()} times.
+   *
+   * @param delayMillis time before the first poll
+   * @return a future completed once the deployment is verified, or completed exceptionally with a {@link TimeoutException} or
+   *         the failure of the deployment
+   */
+  public CompletableFuture<Void> verify(Deployment deployment, long delayMillis) {
+    deployment.getDeploymentTimeout().ifPresent(retrier::setTimeout);
+    AtomicInteger attempts = new AtomicInteger();
+    return VerificationScheduler.getInstance().schedule(() -> poll(deployment, attempts.incrementAndGet()), delayMillis,
+                                                        retrier.getSleepTime(), retrier.getAttempts());
+  }
+
+  private boolean poll(Deployment deployment, int attempt) {
+    if (!FlightRecorderEvents.isEnabled()) {
+      return isDeployed.test(deployment);
+    }
+    DeploymentVerificationEvent event = new DeploymentVerificationEvent();
+    event.begin();
+    boolean deployed = false;
+    try {
+      deployed = isDeployed.test(deployment);
+      return deployed;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.application = deployment.getApplicationName();
+        event.attempt = attempt;
+        event.deployed = deployed;
+        event.commit();
+      }
     }
   }
 }
@@ -12,4 +12,17 @@ import org.mule.tools.model.Deployment;
 public interface DeploymentVerification {
 
   void assertDeployment(Deployment deployment) throws DeploymentException;
+
+  /**
+   * Same as {@link #assertDeployment(Deployment)}, starting to verify the deployment after {@code delayMillis}.
+   */
+  default void assertDeployment(Deployment deployment, long delayMillis) throws DeploymentException {
+    try {
+      Thread.sleep(delayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DeploymentException("Interrupted while waiting to verify the deployment", e);
+    }
+    assertDeployment(deployment);
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.verification;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls pending deployments until they are deployed, without holding a thread per deployment.
+ * <p>
+ * A single scheduler thread, shared by the whole JVM, only keeps the time between polls, so verifying many deployments at once
+ * (several applications, or the same application in several targets) does not need a sleeping thread for each of them. The
+ * polls themselves block on HTTP requests, so they run in a small pool of at most {@link #POLL_THREADS} threads, and a slow
+ * poll does not delay the polls of the other deployments. Callers get a {@link CompletableFuture}, and only block if they wait
+ * for it.
+ */
+public final class VerificationScheduler {
+
+  static final int POLL_THREADS = 4;
+  static final String POLL_THREAD_PREFIX = "mule-deployment-verification-poll-";
+
+  private static final VerificationScheduler INSTANCE = new VerificationScheduler();
+
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "mule-deployment-verification");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final ExecutorService polls = newPollExecutor();
+
+  private final AtomicInteger pending = new AtomicInteger();
+
+  private VerificationScheduler() {}
+
+  public static VerificationScheduler getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Polls until {@code poll} returns {@code true}.
+   *
+   * @param poll          checks whether the deployment is done, throwing an exception if it failed
+   * @param delayMillis   time before the first poll
+   * @param intervalMillis time between polls
+   * @param attempts      maximum number of polls
+   * @return a future completed once {@code poll} returns {@code true}, completed exceptionally with the exception thrown by
+   *         {@code poll} or with a {@link TimeoutException} after {@code attempts} polls. Cancelling the future stops the polls.
+   */
+  public CompletableFuture<Void> schedule(Callable<Boolean> poll, long delayMillis, long intervalMillis, int attempts) {
+    checkArgument(attempts > 0, "Attempts should be positive");
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    pending.incrementAndGet();
+    result.whenComplete((ignored, failure) -> pending.decrementAndGet());
+    new Verification(poll, intervalMillis, attempts, result).scheduleIn(Math.max(0, delayMillis));
+    return result;
+  }
+
+  /**
+   * @return how many deployments are being verified
+   */
+  public int getPending() {
+    return pending.get();
+  }
+
+  private static ExecutorService newPollExecutor() {
+    AtomicInteger count = new AtomicInteger();
+    ThreadPoolExecutor pollExecutor = new ThreadPoolExecutor(POLL_THREADS, POLL_THREADS, 60, SECONDS, new LinkedBlockingQueue<>(),
+                                                             runnable -> {
+                                                               Thread thread = new Thread(runnable, POLL_THREAD_PREFIX
+                                                                   + count.incrementAndGet());
+                                                               thread.setDaemon(true);
+                                                               return thread;
+                                                             });
+    // The threads are not kept while there is nothing to verify
+    pollExecutor.allowCoreThreadTimeOut(true);
+    return pollExecutor;
+  }
+
+  private class Verification implements Runnable {
+
+    private final Callable<Boolean> poll;
+    private final long intervalMillis;
+    private final int attempts;
+    private final CompletableFuture<Void> result;
+    private int attempt;
+
+    private Verification(Callable<Boolean> poll, long intervalMillis, int attempts, CompletableFuture<Void> result) {
+      this.poll = poll;
+      this.intervalMillis = intervalMillis;
+      this.attempts = attempts;
+      this.result = result;
+    }
+
+    @Override
+    public void run() {
+      if (result.isDone()) {
+        return;
+      }
+      attempt++;
+      try {
+        if (poll.call()) {
+          result.complete(null);
+          return;
+        }
+      } catch (Throwable e) {
+        result.completeExceptionally(e);
+        return;
+      }
+      if (attempt >= attempts) {
+        result.completeExceptionally(new TimeoutException("Maximum number of attempts [" + attempts + "] has been exceeded."));
+      } else {
+        scheduleIn(intervalMillis);
+      }
+    }
+
+    private void scheduleIn(long delayMillis) {
+      executor.schedule(() -> {
+        if (!result.isDone()) {
+          polls.execute(this);
+        }
+      }, delayMillis, MILLISECONDS);
+    }
+  }
+}
@@ -8,12 +8,19 @@ package org.mule.tools.verification.cloudhub;
 
 import org.mule.tools.client.cloudhub.model.Application;
 import org.mule.tools.client.cloudhub.CloudHubClient;
+import org.mule.tools.client.cloudhub.CloudHubLogTail;
 import org.mule.tools.client.core.exception.DeploymentException;
 import org.mule.tools.model.Deployment;
+import org.mule.tools.model.anypoint.CloudHubDeployment;
+import org.mule.tools.utils.DeployerLog;
+import org.mule.tools.verification.CoalescedLookup;
 import org.mule.tools.verification.DefaultDeploymentVerification;
 import org.mule.tools.verification.DeploymentVerification;
 import org.mule.tools.verification.DeploymentVerificationStrategy;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -23,20 +30,94 @@ import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
 public class CloudHubDeploymentVerification implements DeploymentVerification {
 
   private final CloudHubClient client;
+  private final DeployerLog log;
   private final DefaultDeploymentVerification verification;
 
+  private CloudHubLogTail logTail;
+
+  /**
+   * Applications of the environments with several deployments being verified, so a single request answers for all of them.
+   */
+  private static final CoalescedLookup<Application> APPLICATIONS = new CoalescedLookup<>(5000);
+
   private static final String FAILED_STATUS = "FAIL";
   public static final String STARTED_STATUS = "STARTED";
   static final String DEPLOYMENT_IN_PROGRESS = "DEPLOYING";
 
   public CloudHubDeploymentVerification(CloudHubClient client) {
+    this(client, null);
+  }
+
+  /**
+   * @param log where the logs of the application are shown while the deployment is verified, or {@code null} to not show them
+   */
+  public CloudHubDeploymentVerification(CloudHubClient client, DeployerLog log) {
     this.client = client;
+    this.log = log;
     this.verification = new DefaultDeploymentVerification(new CloudHubDeploymentVerificationStrategy());
   }
 
   @Override
   public void assertDeployment(Deployment deployment) throws DeploymentException {
-    verification.assertDeployment(deployment);
+    assertDeployment(deployment, 0);
+  }
+
+  @Override
+  public void assertDeployment(Deployment deployment, long delayMillis) throws DeploymentException {
+    logTail = null;
+    try (CoalescedLookup.Registration registration = APPLICATIONS.register(client.getEnvironmentKey())) {
+      verification.assertDeployment(deployment, delayMillis);
+    }
+  }
+
+  private Application getApplication(String domain) {
+    return APPLICATIONS.get(client.getEnvironmentKey(), domain, () -> client.getApplications(domain), () -> {
+      Map<String, Application> applications = new HashMap<>();
+      List<Application> all = client.getApplications();
+      if (all != null) {
+        all.forEach(application -> applications.put(application.getDomain(), application));
+      }
+      return applications;
+    });
+  }
+
+  /**
+   * Fetching the logs takes several requests per poll, so they are only followed while the deployment is verified when they are
+   * shown at debug level. Otherwise they are fetched once, if the deployment fails, to show its most recent lines.
+   */
+  private void followLogs(Deployment deployment, Application application) {
+    if (log == null) {
+      return;
+    }
+    if (logTail == null) {
+      int maxLines = CloudHubLogTail.DEFAULT_MAX_LINES;
+      int maxBytes = CloudHubLogTail.DEFAULT_MAX_BYTES;
+      if (deployment instanceof CloudHubDeployment) {
+        CloudHubDeployment cloudHubDeployment = (CloudHubDeployment) deployment;
+        maxLines = cloudHubDeployment.getLogTailMaxLines() != null ? cloudHubDeployment.getLogTailMaxLines() : maxLines;
+        maxBytes = cloudHubDeployment.getLogTailMaxBytes() != null ? cloudHubDeployment.getLogTailMaxBytes() : maxBytes;
+      }
+      logTail = new CloudHubLogTail(client, application, log, maxLines, maxBytes);
+    }
+    if (log.isDebugEnabled()) {
+      pollLogs();
+    }
+  }
+
+  private void printRecentLogs() {
+    if (logTail != null) {
+      pollLogs();
+      logTail.printRecent();
+    }
+  }
+
+  private void pollLogs() {
+    try {
+      logTail.poll();
+    } catch (RuntimeException e) {
+      // The logs are only informative, failing to fetch them must not fail the verification
+      log.debug("Could not fetch the logs of " + logTail.getDomain() + ": " + e.getMessage());
+    }
   }
 
   private class CloudHubDeploymentVerificationStrategy implements DeploymentVerificationStrategy {
@@ -44,12 +125,14 @@ public class CloudHubDeploymentVerification implements DeploymentVerification {
     @Override
     public Predicate<Deployment> isDeployed() {
       return (deployment) -> {
-        Application application = client.getApplications(deployment.getApplicationName());
+        Application application = getApplication(deployment.getApplicationName());
         if (application != null) {
+          followLogs(deployment, application);
           if (equalsIgnoreCase(application.getDeploymentUpdateStatus(), DEPLOYMENT_IN_PROGRESS)) {
             return false;
           } else if (containsIgnoreCase(application.getStatus(), FAILED_STATUS)
               || containsIgnoreCase(application.getDeploymentUpdateStatus(), FAILED_STATUS)) {
+            printRecentLogs();
             throw new IllegalStateException("Deployment failed");
           }
           return equalsIgnoreCase(STARTED_STATUS, application.getStatus());
@@ -60,8 +143,7 @@ public class CloudHubDeploymentVerification implements DeploymentVerification {
 
     @Override
     public Consumer<Deployment> onTimeout() {
-      return deployment -> {
-      };
+      return deployment -> printRecentLogs();
     }
   }
 }
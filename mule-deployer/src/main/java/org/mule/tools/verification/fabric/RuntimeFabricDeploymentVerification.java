@@ -15,11 +15,14 @@ import org.mule.tools.client.fabric.model.Deployments;
 import org.mule.tools.deployment.fabric.RequestBuilder;
 import org.mule.tools.model.Deployment;
 import org.mule.tools.model.anypoint.RuntimeFabricDeployment;
+import org.mule.tools.verification.CoalescedLookup;
 import org.mule.tools.verification.DefaultDeploymentVerification;
 import org.mule.tools.verification.DeploymentVerification;
 import org.mule.tools.verification.DeploymentVerificationStrategy;
 
 import com.google.gson.JsonArray;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -32,6 +35,12 @@ public class RuntimeFabricDeploymentVerification implements DeploymentVerificati
   private static final String APPLIED_STATUS = "APPLIED";
   private static final String STARTED_STATUS = "STARTED";
 
+  /**
+   * Status of the deployments of the environments with several deployments being verified, so a single request answers for
+   * all of them.
+   */
+  private static final CoalescedLookup<String> STATUSES = new CoalescedLookup<>(5000);
+
   public RuntimeFabricDeploymentVerification(RuntimeFabricClient client) {
     this.client = client;
     this.verification = new DefaultDeploymentVerification(new RuntimeFabricDeploymentVerificationStrategy());
@@ -39,7 +48,28 @@ public class RuntimeFabricDeploymentVerification implements DeploymentVerificati
 
   @Override
   public void assertDeployment(Deployment deployment) throws DeploymentException {
-    verification.assertDeployment(deployment);
+    assertDeployment(deployment, 0);
+  }
+
+  @Override
+  public void assertDeployment(Deployment deployment, long delayMillis) throws DeploymentException {
+    try (CoalescedLookup.Registration registration = STATUSES.register(client.getEnvironmentKey())) {
+      verification.assertDeployment(deployment, delayMillis);
+    }
+  }
+
+  private String getStatus(String deploymentId) {
+    return STATUSES.get(client.getEnvironmentKey(), deploymentId, () -> {
+      DeploymentDetailedResponse response = client.getDeployment(deploymentId);
+      return response != null ? response.status : null;
+    }, () -> {
+      Map<String, String> statuses = new HashMap<>();
+      Deployments deployments = client.getDeployments();
+      if (deployments != null && deployments.items != null) {
+        deployments.forEach(deployment -> statuses.put(deployment.id, deployment.status));
+      }
+      return statuses;
+    });
   }
 
   private class RuntimeFabricDeploymentVerificationStrategy implements DeploymentVerificationStrategy {
@@ -63,14 +93,11 @@ public class RuntimeFabricDeploymentVerification implements DeploymentVerificati
           if (deploymentId == null) {
             return false;
           }
-          DeploymentDetailedResponse response = client.getDeployment(deploymentId);
-          if (response != null) {
-            if (StringUtils.equals(response.status, FAILED_STATUS)) {
-              throw new IllegalStateException("Deployment failed");
-            } else if (StringUtils.equals(response.status, APPLIED_STATUS)
-                || StringUtils.equals(response.status, STARTED_STATUS)) {
-              return true;
-            }
+          String status = getStatus(deploymentId);
+          if (StringUtils.equals(status, FAILED_STATUS)) {
+            throw new IllegalStateException("Deployment failed");
+          } else if (StringUtils.equals(status, APPLIED_STATUS) || StringUtils.equals(status, STARTED_STATUS)) {
+            return true;
           }
         } catch (DeploymentException e) {
           e.printStackTrace();
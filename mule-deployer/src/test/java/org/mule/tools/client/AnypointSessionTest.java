@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class AnypointSessionTest {
+
+  private final AnypointSession session = new AnypointSession();
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  @Test
+  public void valuesAreSharedWithinASession() {
+    assertThat(session.get(this::lookup, "token", "uri", "user")).isEqualTo("value-1");
+    assertThat(session.get(this::lookup, "token", "uri", "user")).isEqualTo("value-1");
+    assertThat(session.get(this::lookup, "token", "uri", "other")).isEqualTo("value-2");
+    assertThat(lookups).hasValue(2);
+  }
+
+  @Test
+  public void valuesAreNotSharedBetweenSessions() {
+    session.get(this::lookup, "token", "uri", "user");
+
+    assertThat(new AnypointSession().get(this::lookup, "token", "uri", "user")).isEqualTo("value-2");
+  }
+
+  @Test
+  public void invalidatedValuesAreLookedUpAgain() {
+    session.get(this::lookup, "token", "uri", "user");
+    session.invalidate();
+
+    assertThat(session.get(this::lookup, "token", "uri", "user")).isEqualTo("value-2");
+  }
+
+  @Test
+  public void failedLookupsAreNotKept() {
+    assertThatThrownBy(() -> session.get(() -> {
+      throw new IllegalStateException("Unauthorized");
+    }, "token", "uri", "user")).hasMessage("Unauthorized");
+
+    assertThat(session.get(this::lookup, "token", "uri", "user")).isEqualTo("value-1");
+  }
+
+  @Test
+  public void lookupInProgressOnlyBlocksTheSameKey() throws Exception {
+    CountDownLatch looking = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> slow = executor.submit(() -> session.get(() -> {
+        looking.countDown();
+        await(release);
+        return "slow";
+      }, "token", "uri", "user"));
+      assertThat(looking.await(10, SECONDS)).isTrue();
+
+      assertThat(session.get(this::lookup, "token", "uri", "other")).isEqualTo("value-1");
+
+      Future<String> waiting = executor.submit(() -> session.get(this::lookup, "token", "uri", "user"));
+      release.countDown();
+      assertThat(slow.get(10, SECONDS)).isEqualTo("slow");
+      assertThat(waiting.get(10, SECONDS)).isEqualTo("slow");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void credentialsAreNotKeptInTheKeys() {
+    assertThat(AnypointSession.digest("token", "uri", "user", "secret")).doesNotContain("secret").hasSize(64)
+        .isNotEqualTo(AnypointSession.digest("token", "uri", "users", "ecret"));
+  }
+
+  @Test
+  public void sessionIsBoundToTheThread() {
+    AnypointSession.bind(session);
+    try {
+      assertThat(AnypointSession.current()).containsSame(session);
+    } finally {
+      AnypointSession.unbind();
+    }
+    assertThat(AnypointSession.current()).isEmpty();
+  }
+
+  private String lookup() {
+    return "value-" + lookups.incrementAndGet();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
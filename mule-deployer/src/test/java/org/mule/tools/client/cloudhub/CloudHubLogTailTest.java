@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client.cloudhub;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mule.tools.client.cloudhub.model.Application;
+import org.mule.tools.client.cloudhub.model.Deployment;
+import org.mule.tools.client.cloudhub.model.DeploymentLogRequest;
+import org.mule.tools.client.cloudhub.model.LogLevel;
+import org.mule.tools.client.cloudhub.model.LogMessage;
+import org.mule.tools.client.cloudhub.model.LogRecord;
+import org.mule.tools.utils.DeployerLog;
+
+public class CloudHubLogTailTest {
+
+  private CloudHubClient client;
+  private DeployerLog log;
+  private Application application;
+
+  @BeforeEach
+  public void setUp() {
+    client = mock(CloudHubClient.class);
+    log = mock(DeployerLog.class);
+    application = new Application();
+    application.setDomain("app");
+
+    Deployment previous = new Deployment();
+    previous.setDeploymentId("previous");
+    previous.setCreateTime(new Date(1000));
+    Deployment latest = new Deployment();
+    latest.setDeploymentId("latest");
+    latest.setCreateTime(new Date(2000));
+    when(client.getDeployments(application)).thenReturn(asList(previous, latest));
+  }
+
+  @Test
+  public void onlyNewRecordsAreFetched() {
+    ArgumentCaptor<DeploymentLogRequest> requests = ArgumentCaptor.forClass(DeploymentLogRequest.class);
+    when(client.getLogs(eq(application), requests.capture()))
+        .thenReturn(asList(record("1", "Starting", LogLevel.INFO), record("2", "Failed", LogLevel.ERROR)))
+        .thenReturn(emptyList());
+    CloudHubLogTail tail = new CloudHubLogTail(client, application, log);
+
+    assertThat(tail.poll()).isEqualTo(2);
+    assertThat(tail.poll()).isEqualTo(0);
+
+    verify(log).debug("[app] Starting");
+    verify(log).debug("[app] Failed");
+    assertThat(requests.getAllValues()).extracting(DeploymentLogRequest::getDeploymentId).containsOnly("latest");
+    assertThat(requests.getAllValues()).extracting(DeploymentLogRequest::getLowerId).containsExactly(null, "2");
+  }
+
+  @Test
+  public void mostRecentLinesAreShownWithTheirLevel() {
+    when(client.getLogs(eq(application), any())).thenReturn(asList(record("1", "one", LogLevel.INFO),
+                                                                    record("2", "two", LogLevel.WARN),
+                                                                    record("3", "three", LogLevel.ERROR)));
+    CloudHubLogTail tail = new CloudHubLogTail(client, application, log, 2, 1024);
+
+    assertThat(tail.poll()).isEqualTo(3);
+    tail.printRecent();
+
+    verify(log, never()).info("[app] one");
+    verify(log).warn("[app] two");
+    verify(log).error("[app] three");
+  }
+
+  @Test
+  public void mostRecentLinesAreBoundedByBytes() {
+    when(client.getLogs(eq(application), any())).thenReturn(asList(record("1", "0123456789", LogLevel.INFO),
+                                                                    record("2", "abcde", LogLevel.INFO)));
+    CloudHubLogTail tail = new CloudHubLogTail(client, application, log, 100, 10);
+
+    tail.poll();
+    tail.printRecent();
+
+    verify(log, never()).info("[app] 0123456789");
+    verify(log).info("[app] abcde");
+  }
+
+  @Test
+  public void newerDeploymentReplacesThePreviousOne() {
+    Deployment previous = new Deployment();
+    previous.setDeploymentId("previous");
+    previous.setCreateTime(new Date(1000));
+    Deployment redeployed = new Deployment();
+    redeployed.setDeploymentId("redeployed");
+    redeployed.setCreateTime(new Date(3000));
+    when(client.getDeployments(application)).thenReturn(singletonList(previous), asList(previous, redeployed));
+    ArgumentCaptor<DeploymentLogRequest> requests = ArgumentCaptor.forClass(DeploymentLogRequest.class);
+    when(client.getLogs(eq(application), requests.capture()))
+        .thenReturn(singletonList(record("1", "Stopping", LogLevel.INFO)))
+        .thenReturn(singletonList(record("7", "Failed", LogLevel.ERROR)));
+    CloudHubLogTail tail = new CloudHubLogTail(client, application, log);
+
+    tail.poll();
+    tail.poll();
+    tail.printRecent();
+
+    assertThat(requests.getAllValues()).extracting(DeploymentLogRequest::getDeploymentId)
+        .containsExactly("previous", "redeployed");
+    assertThat(requests.getAllValues()).extracting(DeploymentLogRequest::getLowerId).containsExactly(null, null);
+    verify(log, never()).info("[app] Stopping");
+    verify(log).error("[app] Failed");
+  }
+
+  @Test
+  public void nothingIsFetchedWithoutDeployments() {
+    when(client.getDeployments(application)).thenReturn(emptyList());
+
+    assertThat(new CloudHubLogTail(client, application, log).poll()).isEqualTo(0);
+
+    verify(client, never()).getLogs(any(), any());
+  }
+
+  private static LogRecord record(String id, String message, LogLevel priority) {
+    LogMessage event = new LogMessage();
+    event.setMessage(message);
+    event.setPriority(priority);
+    LogRecord record = new LogRecord();
+    record.setRecordId(id);
+    record.setEvent(event);
+    return record;
+  }
+}
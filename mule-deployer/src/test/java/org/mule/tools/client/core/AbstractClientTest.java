@@ -29,4 +29,14 @@ class AbstractClientTest {
     assertThat(userAgent).isEqualTo("mule-deployer");
   }
 
+  @Test
+  void pathTemplateReplacesIdentifiers() {
+    assertThat(AbstractClient.toPathTemplate("/cloudhub/api/v2/applications/my-app?retrieveStatistics=true"))
+        .isEqualTo("/cloudhub/api/v2/applications/my-app");
+    assertThat(AbstractClient.toPathTemplate("/hybrid/api/v1/servers/1234/applications"))
+        .isEqualTo("/hybrid/api/v1/servers/{id}/applications");
+    assertThat(AbstractClient.toPathTemplate("/accounts/api/organizations/0a1b2c3d-4e5f-6789-abcd-ef0123456789/environments"))
+        .isEqualTo("/accounts/api/organizations/{id}/environments");
+  }
+
 }
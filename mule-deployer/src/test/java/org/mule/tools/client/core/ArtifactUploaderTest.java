@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.ProcessingException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mule.tools.client.core.exception.ClientException;
+
+public class ArtifactUploaderTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  private ArtifactUploader uploader;
+  private File artifact;
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    uploader = new ArtifactUploader(null);
+    uploader.setRetryDelay(0);
+    artifact = Files.write(temporaryFolder.resolve("app.jar"), new byte[4500]).toFile();
+  }
+
+  @Test
+  public void uploadIsRetriedWhenTheEndpointCouldNotBeReached() {
+    String result = uploader.upload(artifact, file -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new ProcessingException(new ConnectException("Connection refused"));
+      }
+      return "deployed";
+    });
+
+    assertThat(result).isEqualTo("deployed");
+    assertThat(uploader.getLastUpload().getRetries()).isEqualTo(1);
+    assertThat(uploader.getLastUpload().getLength()).isEqualTo(4500);
+  }
+
+  @Test
+  public void failuresTheEndpointMayHaveProcessedAreNotRetried() {
+    // The deployment may have been created before the response was lost, sending it again could deploy it twice
+    assertThatThrownBy(() -> uploader.upload(artifact, file -> {
+      attempts.incrementAndGet();
+      throw new ProcessingException(new SocketTimeoutException("Read timed out"));
+    })).isInstanceOf(ProcessingException.class);
+    assertThatThrownBy(() -> uploader.upload(artifact, file -> {
+      attempts.incrementAndGet();
+      throw new ClientException("Bad gateway", 502, "Bad Gateway");
+    })).isInstanceOf(ClientException.class);
+
+    assertThat(attempts).hasValue(2);
+  }
+
+  @Test
+  public void droppedUploadThatWasDeployedIsNotSentAgain() {
+    String result = uploader.upload(artifact, file -> {
+      attempts.incrementAndGet();
+      throw new ProcessingException(new SocketException("Connection reset"));
+    }, () -> Optional.of("deployed"));
+
+    assertThat(result).isEqualTo("deployed");
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void droppedUploadThatWasNotDeployedIsSentAgain() {
+    AtomicInteger checks = new AtomicInteger();
+
+    String result = uploader.upload(artifact, file -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new ClientException("Gateway timeout", 504, "Gateway Timeout");
+      }
+      return "deployed";
+    }, () -> {
+      checks.incrementAndGet();
+      return Optional.empty();
+    });
+
+    assertThat(result).isEqualTo("deployed");
+    assertThat(attempts).hasValue(2);
+    assertThat(checks).hasValue(1);
+    assertThat(uploader.getLastUpload().getRetries()).isEqualTo(1);
+  }
+
+  @Test
+  public void uploadIsNotSentAgainWhenTheReceiptCannotBeRead() {
+    assertThatThrownBy(() -> uploader.upload(artifact, file -> {
+      attempts.incrementAndGet();
+      throw new ProcessingException(new SocketException("Connection reset"));
+    }, () -> {
+      throw new ProcessingException(new ConnectException("Connection refused"));
+    })).isInstanceOf(IllegalStateException.class).hasCauseInstanceOf(ProcessingException.class);
+
+    assertThat(attempts).hasValue(1);
+  }
+
+  @Test
+  public void retriesAreBounded() {
+    uploader.setAttempts(2);
+
+    assertThatThrownBy(() -> uploader.upload(artifact, file -> {
+      attempts.incrementAndGet();
+      throw new ProcessingException(new ConnectException("Connection refused"));
+    })).isInstanceOf(ProcessingException.class);
+    assertThat(attempts).hasValue(2);
+  }
+}
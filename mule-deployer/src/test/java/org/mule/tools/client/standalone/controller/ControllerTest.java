@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.client.standalone.controller;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ControllerTest {
+
+  @TempDir
+  public Path temporaryFolder;
+
+  @Test
+  public void explodedApplicationIsCopiedIntoAppsTest() throws Exception {
+    Path muleHome = Files.createDirectories(temporaryFolder.resolve("mule"));
+    Files.createDirectories(muleHome.resolve("apps"));
+    Path application = Files.createDirectories(temporaryFolder.resolve("target").resolve("app"));
+    Path config = Files.write(application.resolve("mule-config.xml"), "<mule/>".getBytes(UTF_8));
+    Controller controller = new Controller(mock(AbstractOSController.class), muleHome.toString());
+
+    controller.deploy(application.toString(), "my-app");
+
+    Path deployed = muleHome.resolve("apps").resolve("my-app").resolve("mule-config.xml");
+    assertThat(Files.isSameFile(config, deployed)).isFalse();
+    // Rewriting the build output in place does not change the deployed application
+    Files.write(config, "<mule><flow name=\"changed\"/></mule>".getBytes(UTF_8));
+    assertThat(new String(Files.readAllBytes(deployed), UTF_8)).isEqualTo("<mule/>");
+    assertThat(muleHome.resolve(Controller.STAGING_FOLDER).resolve("my-app")).doesNotExist();
+  }
+}
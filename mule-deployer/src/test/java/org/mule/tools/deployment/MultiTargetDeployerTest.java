@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.deployment;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mule.tools.client.AnypointSession;
+import org.mule.tools.client.core.exception.DeploymentException;
+import org.mule.tools.deployment.DeploymentReport.TargetResult;
+import org.mule.tools.model.Deployment;
+import org.mule.tools.model.anypoint.CloudHubDeployment;
+import org.mule.tools.utils.DeployerLog;
+
+public class MultiTargetDeployerTest {
+
+  private final DeployerLog log = mock(DeployerLog.class);
+
+  @Test
+  public void everyTargetIsReportedInOrder() {
+    List<Deployment> targets = asList(target("us-east-1"), target("eu-west-1"), target("ap-southeast-1"));
+
+    DeploymentReport report = new MultiTargetDeployer(targets, 2, (target, targetLog) -> {
+    }, log).deploy();
+
+    assertThat(report.hasFailures()).isFalse();
+    assertThat(report.getResults()).extracting(TargetResult::getTarget)
+        .containsExactly("CloudHub:app@Production/us-east-1", "CloudHub:app@Production/eu-west-1",
+                         "CloudHub:app@Production/ap-southeast-1");
+  }
+
+  @Test
+  public void failedTargetDoesNotStopTheOthers() {
+    List<Deployment> targets = asList(target("us-east-1"), target("eu-west-1"));
+
+    DeploymentReport report = new MultiTargetDeployer(targets, 1, (target, targetLog) -> {
+      if ("us-east-1".equals(((CloudHubDeployment) target).getRegion())) {
+        throw new DeploymentException("Region unavailable");
+      }
+    }, log).deploy();
+
+    assertThat(report.hasFailures()).isTrue();
+    assertThat(report.getResults()).extracting(TargetResult::isSuccessful).containsExactly(false, true);
+    assertThat(report.getResults().get(0).getError()).isEqualTo("Region unavailable");
+    assertThat(report.toJson()).contains("Region unavailable");
+  }
+
+  @Test
+  public void targetsAreDeployedConcurrentlyWithinASession() {
+    CountDownLatch started = new CountDownLatch(2);
+    List<Deployment> targets = asList(target("us-east-1"), target("eu-west-1"));
+    Set<AnypointSession> sessions = ConcurrentHashMap.newKeySet();
+
+    DeploymentReport report = new MultiTargetDeployer(targets, 2, (target, targetLog) -> {
+      sessions.add(AnypointSession.current().orElseThrow(IllegalStateException::new));
+      started.countDown();
+      try {
+        // Both targets must be running at the same time for the latch to be released
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    }, log).deploy();
+
+    assertThat(report.hasFailures()).isFalse();
+    // Both targets share the session of the deployment, which is not left bound to the calling thread
+    assertThat(sessions).hasSize(1);
+    assertThat(AnypointSession.current()).isEmpty();
+  }
+
+  private static CloudHubDeployment target(String region) {
+    CloudHubDeployment deployment = new CloudHubDeployment();
+    deployment.setApplicationName("app");
+    deployment.setEnvironment("Production");
+    deployment.setRegion(region);
+    return deployment;
+  }
+}
@@ -84,6 +84,15 @@ public class StandaloneArtifactDeployerTest {
     verify(controllerMock, times(1)).deploy(artifactFile.getAbsolutePath());
   }
 
+  @Test
+  public void deployExplodedApplicationTest() throws DeploymentException, IOException {
+    File explodedApplication = Files.createDirectories(temporaryFolder.resolve("exploded-application")).toFile();
+    doReturn(explodedApplication).when(deploymentMock).getArtifact();
+    deployerSpy.deployApplication();
+    verify(controllerMock, times(1)).deploy(explodedApplication.getAbsolutePath(), ARTIFACT_NAME);
+    assertThat(deployer.getDeployedApplicationName()).isEqualTo(ARTIFACT_NAME);
+  }
+
   @Test
   public void deployApplicationMuleControllerExceptionTest() {
     assertThatThrownBy(() -> {
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mule.tools.utils.FileLinks.linkOrCopy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileLinksTest {
+
+  @TempDir
+  public Path temporaryFolder;
+
+  @Test
+  public void linkOrCopyReplacesTargetTest() throws Exception {
+    Path source = Files.write(temporaryFolder.resolve("source.jar"), new byte[] {1, 2, 3});
+    Path target = Files.write(temporaryFolder.resolve("target.jar"), new byte[0]);
+
+    if (linkOrCopy(source, target)) {
+      assertThat(Files.isSameFile(source, target)).isTrue();
+    }
+    assertThat(Files.readAllBytes(target)).containsExactly(1, 2, 3);
+  }
+}
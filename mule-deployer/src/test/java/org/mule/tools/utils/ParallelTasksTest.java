@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelTasksTest {
+
+  private static final List<Integer> INPUTS = asList(5, 1, 4, 2, 3);
+
+  @Test
+  public void resultsKeepTheOrderOfTheInputs() throws Exception {
+    List<Integer> results = ParallelTasks.map(INPUTS, 3, input -> {
+      Thread.sleep(input * 10);
+      return input * 2;
+    });
+
+    assertThat(results).containsExactly(10, 2, 8, 4, 6);
+  }
+
+  @Test
+  public void checkedExceptionsAreThrownAsTheyAre() {
+    assertThatThrownBy(() -> ParallelTasks.map(INPUTS, 3, input -> {
+      if (input == 4) {
+        throw new IOException("Could not copy " + input);
+      }
+      return input;
+    })).isExactlyInstanceOf(IOException.class).hasMessage("Could not copy 4");
+  }
+
+  @Test
+  public void tasksRunWithTheCallerContextClassLoader() throws Exception {
+    ClassLoader original = currentThread().getContextClassLoader();
+    ClassLoader contextClassLoader = new URLClassLoader(new URL[0], original);
+    currentThread().setContextClassLoader(contextClassLoader);
+    try {
+      assertThat(ParallelTasks.map(INPUTS, 3, input -> currentThread().getContextClassLoader()))
+          .containsOnly(contextClassLoader);
+    } finally {
+      currentThread().setContextClassLoader(original);
+    }
+  }
+
+  @Test
+  public void singleThreadRunsInTheCallerThread() throws Exception {
+    assertThat(ParallelTasks.map(INPUTS, 1, input -> currentThread())).containsOnly(currentThread());
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.utils;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TimingReportTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  @AfterEach
+  public void tearDown() {
+    TimingReport.unbind();
+  }
+
+  @Test
+  public void stepsAreRecordedIntoBoundReport() {
+    TimingReport report = new TimingReport("module");
+    TimingReport.bind(report);
+
+    try (TimingReport.Step step = TimingReport.step("archive")) {
+      // Measured step
+    }
+    try (TimingReport.Step step = TimingReport.step("archive")) {
+      // Measured step
+    }
+
+    assertThat(report.getSteps()).singleElement().satisfies(step -> {
+      assertThat(step.getName()).isEqualTo("archive");
+      assertThat(step.getCount()).isEqualTo(2);
+    });
+  }
+
+  @Test
+  public void stepsAreIgnoredWithoutBoundReport() {
+    TimingReport report = new TimingReport("module");
+
+    try (TimingReport.Step step = TimingReport.step("archive")) {
+      // Measured step
+    }
+
+    assertThat(report.getSteps()).isEmpty();
+    assertThat(TimingReport.current()).isEmpty();
+  }
+
+  @Test
+  public void stepsOfPropagatedTasksAreRecordedIntoBoundReport() throws Exception {
+    TimingReport report = new TimingReport("module");
+    TimingReport.bind(report);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(TimingReport.propagate(() -> {
+        try (TimingReport.Step step = TimingReport.step("archive-compression")) {
+          return null;
+        }
+      })).get(10, SECONDS);
+
+      // The worker thread is left without a bound report
+      assertThat(executor.submit(() -> TimingReport.current().isPresent()).get(10, SECONDS)).isFalse();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(report.getSteps()).extracting(TimingReport.StepTiming::getName).containsExactly("archive-compression");
+  }
+
+  @Test
+  public void summaryAccumulatesModules() throws Exception {
+    TimingReports reports = new TimingReports();
+    reports.getReport("first").record("archive", 10, 100);
+    reports.getReport("second").record("archive", 5, 50);
+    reports.getReport("second").record("jar-scan", 1, 0);
+
+    TimingReport summary = reports.getSummary();
+    summary.write(temporaryFolder.resolve("summary.json"));
+
+    assertThat(summary.getSteps()).extracting(TimingReport.StepTiming::getName).containsExactly("archive", "jar-scan");
+    assertThat(summary.getSteps().get(0).getTimeMillis()).isEqualTo(15);
+    assertThat(summary.getSteps().get(0).getAllocatedBytes()).isEqualTo(150);
+    assertThat(new String(Files.readAllBytes(temporaryFolder.resolve("summary.json"))))
+        .contains("\"module\": \"reactor (2 modules)\"").contains("\"timeMillis\": 15");
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.verification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CoalescedLookupTest {
+
+  private final CoalescedLookup<String> lookup = new CoalescedLookup<>(60000);
+  private final AtomicInteger singles = new AtomicInteger();
+
+  @Test
+  public void loneVerificationUsesSingleLookups() {
+    try (CoalescedLookup.Registration registration = lookup.register("env")) {
+      assertThat(get("app-1")).isEqualTo("single app-1");
+    }
+    assertThat(singles).hasValue(1);
+    assertThat(lookup.getBatches()).isZero();
+  }
+
+  @Test
+  public void verificationsOfTheSameGroupShareOneBatch() {
+    CoalescedLookup.Registration[] registrations = new CoalescedLookup.Registration[50];
+    for (int i = 0; i < registrations.length; i++) {
+      registrations[i] = lookup.register("env");
+    }
+
+    for (int i = 0; i < registrations.length; i++) {
+      assertThat(get("app-" + i)).isEqualTo("batch app-" + i);
+    }
+
+    assertThat(singles).hasValue(0);
+    assertThat(lookup.getBatches()).isEqualTo(1);
+    for (CoalescedLookup.Registration registration : registrations) {
+      registration.close();
+    }
+    assertThat(get("app-1")).isEqualTo("single app-1");
+  }
+
+  @Test
+  public void verificationsOfDifferentGroupsDoNotShare() {
+    try (CoalescedLookup.Registration first = lookup.register("env-1");
+        CoalescedLookup.Registration second = lookup.register("env-2")) {
+      get("app-1");
+    }
+    assertThat(singles).hasValue(1);
+  }
+
+  @Test
+  public void itemsWithoutGroupUseSingleLookups() {
+    try (CoalescedLookup.Registration first = lookup.register(null);
+        CoalescedLookup.Registration second = lookup.register(null)) {
+      assertThat(lookup.get(null, "app-1", () -> "single", HashMap::new)).isEqualTo("single");
+    }
+  }
+
+  private String get(String app) {
+    return lookup.get("env", app, () -> {
+      singles.incrementAndGet();
+      return "single " + app;
+    }, () -> {
+      Map<String, String> batch = new HashMap<>();
+      for (int i = 0; i < 50; i++) {
+        batch.put("app-" + i, "batch app-" + i);
+      }
+      return batch;
+    });
+  }
+}
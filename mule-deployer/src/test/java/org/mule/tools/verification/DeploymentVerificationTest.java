@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.verification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import org.mule.tools.client.core.exception.DeploymentException;
+import org.mule.tools.model.Deployment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class DeploymentVerificationTest {
+
+  @Test
+  public void interruptedDelayDoesNotVerifyTheDeployment() {
+    AtomicInteger verifications = new AtomicInteger();
+    DeploymentVerification verification = deployment -> verifications.incrementAndGet();
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(() -> verification.assertDeployment(mock(Deployment.class), 10_000))
+          .isInstanceOf(DeploymentException.class).hasCauseInstanceOf(InterruptedException.class);
+      assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    } finally {
+      Thread.interrupted();
+    }
+    assertThat(verifications).hasValue(0);
+  }
+}
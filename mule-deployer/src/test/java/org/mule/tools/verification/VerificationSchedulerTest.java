@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.verification;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class VerificationSchedulerTest {
+
+  private final VerificationScheduler scheduler = VerificationScheduler.getInstance();
+
+  @Test
+  public void verificationCompletesOnceDeployed() throws Exception {
+    AtomicInteger polls = new AtomicInteger();
+
+    scheduler.schedule(() -> polls.incrementAndGet() == 3, 0, 10, 5).get(10, SECONDS);
+
+    assertThat(polls).hasValue(3);
+  }
+
+  @Test
+  public void verificationTimesOutAfterEveryAttempt() {
+    AtomicInteger polls = new AtomicInteger();
+
+    assertThatThrownBy(() -> scheduler.schedule(() -> polls.incrementAndGet() < 0, 0, 10, 3).get(10, SECONDS))
+        .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(TimeoutException.class);
+    assertThat(polls).hasValue(3);
+  }
+
+  @Test
+  public void failedPollFailsTheVerification() {
+    assertThatThrownBy(() -> scheduler.schedule(() -> {
+      throw new IllegalStateException("Deployment failed");
+    }, 0, 10, 3).get(10, SECONDS)).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void manyVerificationsShareTheBoundedPollThreads() throws Exception {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    List<CompletableFuture<Void>> verifications = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      AtomicInteger polls = new AtomicInteger();
+      verifications.add(scheduler.schedule(() -> {
+        threads.add(Thread.currentThread().getName());
+        return polls.incrementAndGet() == 2;
+      }, 0, 10, 5));
+    }
+
+    CompletableFuture.allOf(verifications.toArray(new CompletableFuture[0])).get(10, SECONDS);
+
+    assertThat(threads).hasSizeLessThanOrEqualTo(VerificationScheduler.POLL_THREADS)
+        .allMatch(thread -> thread.startsWith(VerificationScheduler.POLL_THREAD_PREFIX));
+  }
+
+  @Test
+  public void blockedPollDoesNotDelayOtherVerifications() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> blocked = scheduler.schedule(() -> release.await(10, SECONDS), 0, 10, 1);
+    try {
+      AtomicInteger polls = new AtomicInteger();
+      scheduler.schedule(() -> polls.incrementAndGet() == 3, 0, 10, 5).get(5, SECONDS);
+
+      assertThat(blocked).isNotDone();
+    } finally {
+      release.countDown();
+    }
+    blocked.get(10, SECONDS);
+  }
+}
@@ -10,13 +10,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mule.tools.client.cloudhub.CloudHubClient;
 import org.mule.tools.client.cloudhub.model.Application;
+import org.mule.tools.client.cloudhub.model.LogLevel;
+import org.mule.tools.client.cloudhub.model.LogMessage;
+import org.mule.tools.client.cloudhub.model.LogRecord;
 import org.mule.tools.client.core.exception.DeploymentException;
 import org.mule.tools.model.Deployment;
 import org.mule.tools.model.anypoint.CloudHubDeployment;
+import org.mule.tools.utils.DeployerLog;
 
+import java.util.Date;
+
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class CloudHubDeploymentVerificationTest {
@@ -76,4 +87,38 @@ public class CloudHubDeploymentVerificationTest {
         .hasMessageContaining("Validation timed out waiting for application to start. " +
             "Please consider increasing the deploymentTimeout property.");
   }
+
+  @Test
+  public void logsAreNotFetchedWhileVerifyingWithoutDebug() throws DeploymentException {
+    DeployerLog log = mock(DeployerLog.class);
+    application.setStatus("STARTED");
+
+    new CloudHubDeploymentVerification(clientMock, log).assertDeployment(deployment);
+
+    verify(clientMock, never()).getDeployments(any());
+    verify(clientMock, never()).getLogs(any(), any());
+  }
+
+  @Test
+  public void recentLogsAreShownWhenTheDeploymentFails() {
+    DeployerLog log = mock(DeployerLog.class);
+    application.setDomain(APP_NAME);
+    application.setStatus("FAILED");
+    org.mule.tools.client.cloudhub.model.Deployment latest = new org.mule.tools.client.cloudhub.model.Deployment();
+    latest.setDeploymentId("latest");
+    latest.setCreateTime(new Date(1000));
+    when(clientMock.getDeployments(application)).thenReturn(singletonList(latest));
+    LogMessage message = new LogMessage();
+    message.setMessage("Failed to start");
+    message.setPriority(LogLevel.ERROR);
+    LogRecord record = new LogRecord();
+    record.setRecordId("1");
+    record.setEvent(message);
+    when(clientMock.getLogs(eq(application), any())).thenReturn(singletonList(record));
+
+    assertThatThrownBy(() -> new CloudHubDeploymentVerification(clientMock, log).assertDeployment(deployment))
+        .isExactlyInstanceOf(DeploymentException.class);
+
+    verify(log).error("[app] Failed to start");
+  }
 }
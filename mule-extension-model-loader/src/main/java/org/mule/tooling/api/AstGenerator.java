@@ -6,6 +6,10 @@
  */
 package org.mule.tooling.api;
 
+import static java.lang.System.nanoTime;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.mule.runtime.module.artifact.api.descriptor.ArtifactPluginDescriptor.MULE_PLUGIN_CLASSIFIER;
 
 import org.mule.maven.client.api.MavenClient;
@@ -17,33 +21,49 @@ import org.mule.runtime.ast.api.ArtifactType;
 import org.mule.runtime.ast.api.serialization.ArtifactAstSerializerProvider;
 import org.mule.runtime.ast.api.util.MuleAstUtils;
 import org.mule.runtime.ast.api.validation.Validation.Level;
-import org.mule.runtime.ast.api.validation.ValidationResult;
 import org.mule.runtime.ast.api.validation.ValidationResultItem;
 import org.mule.runtime.ast.api.xml.AstXmlParser;
 import org.mule.runtime.ast.internal.serialization.ArtifactAstSerializerFactory;
 import org.mule.runtime.config.api.properties.ConfigurationPropertiesHierarchyBuilder;
 import org.mule.runtime.config.api.properties.ConfigurationPropertiesResolver;
 import org.mule.tooling.internal.PluginResources;
+import org.mule.tools.utils.ParallelTasks;
 
+import java.io.BufferedOutputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.model.Dependency;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 
 public class AstGenerator {
 
+  public static final String PARSE_PHASE = "parse";
+  public static final String VALIDATE_PHASE = "validate";
+
+  private static final int SERIALIZATION_BUFFER_SIZE = 64 * 1024;
+
   AstXmlParser xmlParser;
 
+  private final Map<String, Long> pluginLoadTimes = new LinkedHashMap<>();
+  private final Map<String, Long> phaseTimes = new LinkedHashMap<>();
+  private final Set<ExtensionModel> extensionModels;
+
   public AstGenerator(MavenClient mavenClient, String runtimeVersion,
                       Set<Artifact> allDependencies, Path workingDir, ClassRealm classRealm,
                       List<Dependency> directDependencies) {
@@ -53,29 +73,64 @@ public class AstGenerator {
   public AstGenerator(MavenClient mavenClient, String runtimeVersion,
                       Set<Artifact> allDependencies, Path workingDir, ClassRealm classRealm,
                       List<Dependency> directDependencies, Boolean asApplication) {
+    this(mavenClient, runtimeVersion, allDependencies, workingDir, classRealm, directDependencies, asApplication, null);
+  }
+
+  /**
+   * @param extensionModelsCacheDirectory folder where the extension models of released plugins are cached between builds, or
+   *                                      {@code null} to disable the cache
+   */
+  public AstGenerator(MavenClient mavenClient, String runtimeVersion,
+                      Set<Artifact> allDependencies, Path workingDir, ClassRealm classRealm,
+                      List<Dependency> directDependencies, Boolean asApplication, Path extensionModelsCacheDirectory) {
+    this(mavenClient, runtimeVersion, allDependencies, workingDir, classRealm, directDependencies, asApplication,
+         extensionModelsCacheDirectory, 1);
+  }
+
+  /**
+   * @param extensionModelsCacheDirectory folder where the extension models of released plugins are cached between builds, or
+   *                                      {@code null} to disable the cache
+   * @param loadingThreads                maximum number of dependencies to load concurrently, {@code 1} to load them serially
+   */
+  public AstGenerator(MavenClient mavenClient, String runtimeVersion,
+                      Set<Artifact> allDependencies, Path workingDir, ClassRealm classRealm,
+                      List<Dependency> directDependencies, Boolean asApplication, Path extensionModelsCacheDirectory,
+                      int loadingThreads) {
     ClassLoader classloader = AstGenerator.class.getClassLoader();
-    ExtensionModelLoader loader = ExtensionModelLoaderFactory.createLoader(mavenClient, workingDir, classloader, runtimeVersion);
-    Set<ExtensionModel> extensionModels = new HashSet<>();
-    ArrayList<URL> dependenciesURL = new ArrayList<>();
-    for (Dependency dependency : directDependencies) {
-      removeExtModelIfExists(extensionModels, dependency);
-      processDependency(dependency, classloader, mavenClient, runtimeVersion, workingDir, extensionModels, dependenciesURL,
-                        loader);
-    }
-    allDependencies.stream().map(this::createDependency)
-        .filter(dependency -> !directDependencies.contains(dependency))
-        .forEach(dependency -> processDependency(dependency, classloader, mavenClient, runtimeVersion, workingDir,
-                                                 extensionModels, dependenciesURL, loader));
-    dependenciesURL.forEach(url -> {
-      try {
-        classRealm.addURL(url);
-        // this seldom can throw ArtifactResolutionException and we should not stop the build for that
-      } catch (Exception e1) {
-        e1.printStackTrace();
+    // Kept in insertion order, so the parser gets the same extension models in the same order on every build
+    Set<ExtensionModel> extensionModels = new LinkedHashSet<>();
+    // The loader shares the class loading resources among all the plugins, so it is closed once all of them are loaded
+    try (ExtensionModelLoader loader = ExtensionModelLoaderFactory.createLoader(mavenClient, workingDir, classloader,
+                                                                                runtimeVersion, extensionModelsCacheDirectory)) {
+      List<Dependency> dependencies = new ArrayList<>(directDependencies);
+      allDependencies.stream().map(this::createDependency)
+          .filter(dependency -> !directDependencies.contains(dependency))
+          .forEach(dependencies::add);
+      List<DependencyResources> loadedDependencies =
+          loadDependencies(dependencies, loadingThreads,
+                           (dependency, models, urls) -> processDependency(dependency, classloader, mavenClient, runtimeVersion,
+                                                                           workingDir, models, urls, loader));
+
+      // Merged in the dependencies order, so the result does not depend on which dependency was loaded first
+      ArrayList<URL> dependenciesURL = new ArrayList<>();
+      for (int i = 0; i < dependencies.size(); i++) {
+        if (i < directDependencies.size()) {
+          removeExtModelIfExists(extensionModels, dependencies.get(i));
+        }
+        extensionModels.addAll(loadedDependencies.get(i).extensionModels);
+        dependenciesURL.addAll(loadedDependencies.get(i).urls);
       }
-    });
-    Set<ExtensionModel> runtimeExtensionModels = loader.getRuntimeExtensionModels();
-    extensionModels.addAll(runtimeExtensionModels);
+      dependenciesURL.forEach(url -> {
+        try {
+          classRealm.addURL(url);
+          // this seldom can throw ArtifactResolutionException and we should not stop the build for that
+        } catch (Exception e1) {
+          e1.printStackTrace();
+        }
+      });
+      loader.getRuntimeExtensionModels().stream().sorted(comparing(ExtensionModel::getName)).forEach(extensionModels::add);
+    }
+    this.extensionModels = unmodifiableSet(extensionModels);
     AstXmlParser.Builder builder = new AstXmlParser.Builder();
     if (!asApplication) {
       builder.withArtifactType(ArtifactType.DOMAIN);
@@ -91,6 +146,54 @@ public class AstGenerator {
   }
 
 
+  /**
+   * @return the extension models given to the parser, in the order of the dependencies they come from, followed by the runtime
+   *         extension models
+   */
+  public Set<ExtensionModel> getExtensionModels() {
+    return extensionModels;
+  }
+
+  /**
+   * @return the time it took to load each mule-plugin, in milliseconds, in the order the plugins are declared
+   */
+  public Map<String, Long> getPluginLoadTimes() {
+    return pluginLoadTimes;
+  }
+
+  private List<DependencyResources> loadDependencies(List<Dependency> dependencies, int loadingThreads,
+                                                     DependencyProcessor processor) {
+    List<DependencyResources> loaded = ParallelTasks.map(dependencies, loadingThreads, dependency -> {
+      long startTime = nanoTime();
+      DependencyResources resources = new DependencyResources();
+      processor.process(dependency, resources.extensionModels, resources.urls);
+      resources.loadTime = NANOSECONDS.toMillis(nanoTime() - startTime);
+      return resources;
+    });
+
+    for (int i = 0; i < dependencies.size(); i++) {
+      Dependency dependency = dependencies.get(i);
+      if (MULE_PLUGIN_CLASSIFIER.equals(dependency.getClassifier())) {
+        pluginLoadTimes.put(dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion(),
+                            loaded.get(i).loadTime);
+      }
+    }
+    return loaded;
+  }
+
+  @FunctionalInterface
+  private interface DependencyProcessor {
+
+    void process(Dependency dependency, Set<ExtensionModel> extensionModels, ArrayList<URL> dependenciesURL);
+  }
+
+  private static class DependencyResources {
+
+    private final Set<ExtensionModel> extensionModels = new LinkedHashSet<>();
+    private final ArrayList<URL> urls = new ArrayList<>();
+    private long loadTime;
+  }
+
   private void removeExtModelIfExists(Set<ExtensionModel> extensionModels, Dependency dependency) {
     extensionModels.removeIf(extension -> extension.getArtifactCoordinates()
         .map(coordinates -> dependency.getArtifactId().equals(coordinates.getArtifactId())
@@ -128,12 +231,26 @@ public class AstGenerator {
         .setType(dependency.getType()).build();
   }
 
+  /**
+   * Generates the AST of the given configs. They are parsed at once, as the parser resolves the references between configs
+   * (imports, global elements, error types) while parsing.
+   */
   public ArtifactAst generateAST(List<String> configs, Path configsPath) throws FileNotFoundException {
+    long startTime = nanoTime();
     List<Pair<String, InputStream>> appXmlConfigInputStreams = new ArrayList<>();
     for (String config : configs) {
       appXmlConfigInputStreams.add(new Pair(config, new FileInputStream(configsPath.resolve(config).toFile())));
     }
-    return appXmlConfigInputStreams.isEmpty() ? null : xmlParser.parse(appXmlConfigInputStreams);
+    ArtifactAst artifactAst = appXmlConfigInputStreams.isEmpty() ? null : xmlParser.parse(appXmlConfigInputStreams);
+    phaseTimes.put(PARSE_PHASE, NANOSECONDS.toMillis(nanoTime() - startTime));
+    return artifactAst;
+  }
+
+  /**
+   * @return the time spent in each phase of the AST generation and validation, in milliseconds
+   */
+  public Map<String, Long> getPhaseTimes() {
+    return phaseTimes;
   }
 
   public void processDependency(Dependency dependency, ClassLoader classloader, MavenClient mavenClient, String runtimeVersion,
@@ -141,7 +258,7 @@ public class AstGenerator {
                                 ExtensionModelLoader loader) {
     if (dependency.getClassifier() != null && dependency.getClassifier().equals(MULE_PLUGIN_CLASSIFIER)) {
       PluginResources extensionInformation = loader.load(toBundleDescriptor(dependency));
-      extensionModels.addAll(extensionInformation.getExtensionModels());
+      extensionInformation.getExtensionModels().stream().sorted(comparing(ExtensionModel::getName)).forEach(extensionModels::add);
       extensionInformation.getExportedResources().forEach(resource -> {
         try {
           if (resourceInJar(resource)) {
@@ -163,17 +280,25 @@ public class AstGenerator {
     }
   }
 
+  /**
+   * Validates the AST with a single validator, in the calling thread. The validations come from the runtime and are not known to
+   * be thread safe, and running them in a single pass keeps the order of the reported items, so the first error is always the
+   * same one.
+   */
   public AstValidatonResult validateAST(ArtifactAst artifactAst) throws ConfigurationException {
     // Do not fail for unresolvable properties, since those are expected at deployment time, not packaging time.
     artifactAst.updatePropertiesResolver(propertyKey -> propertyKey);
 
-    ValidationResult result = MuleAstUtils.validatorBuilder()
+    long startTime = nanoTime();
+    List<ValidationResultItem> items = MuleAstUtils.validatorBuilder()
         .ignoreParamsWithProperties(true)
-        .build().validate(artifactAst);
+        .build().validate(artifactAst).getItems();
+    phaseTimes.put(VALIDATE_PHASE, NANOSECONDS.toMillis(nanoTime() - startTime));
+
     List<ValidationResultItem> dynamicStructureErrors = new ArrayList<>();
     List<ValidationResultItem> errors = new ArrayList<>();
     List<ValidationResultItem> warnings = new ArrayList<>();
-    result.getItems().forEach(v -> {
+    items.forEach(v -> {
       if (v.getValidation().getLevel().equals(Level.ERROR)) {
         if (v.causedByDynamicArtifact()) {
           dynamicStructureErrors.add(v);
@@ -193,4 +318,34 @@ public class AstGenerator {
   public static InputStream serialize(ArtifactAst artifactAst) {
     return new ArtifactAstSerializerProvider().getSerializer(ArtifactAstSerializerFactory.JSON, "1.0").serialize(artifactAst);
   }
+
+  /**
+   * Serializes the AST into {@code outputStream}. The serializer API only produces an {@link InputStream}, and the JSON
+   * serializer builds the whole document before returning it, so this only avoids a second copy of the serialized AST.
+   *
+   * @return the amount of bytes written
+   */
+  public static long serialize(ArtifactAst artifactAst, OutputStream outputStream) throws IOException {
+    try (InputStream serialized = serialize(artifactAst)) {
+      return IOUtils.copyLarge(serialized, outputStream, new byte[SERIALIZATION_BUFFER_SIZE]);
+    }
+  }
+
+  /**
+   * Serializes the AST into {@code target}, replacing it if it exists.
+   *
+   * @return the size of the serialized AST and the time it took
+   */
+  public static AstSerializationResult serialize(ArtifactAst artifactAst, Path target) throws IOException {
+    long start = nanoTime();
+    Files.createDirectories(target.toAbsolutePath().getParent());
+    long size;
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(target), SERIALIZATION_BUFFER_SIZE)) {
+      size = serialize(artifactAst, outputStream);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(target);
+      throw e;
+    }
+    return new AstSerializationResult(size, NANOSECONDS.toMillis(nanoTime() - start));
+  }
 }
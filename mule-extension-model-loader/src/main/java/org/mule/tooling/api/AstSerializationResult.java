@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.api;
+
+/**
+ * Outcome of writing a serialized artifact AST with {@link AstGenerator#serialize(org.mule.runtime.ast.api.ArtifactAst,
+ * java.nio.file.Path)}.
+ */
+public class AstSerializationResult {
+
+  private final long size;
+  private final long time;
+
+  public AstSerializationResult(long size, long time) {
+    this.size = size;
+    this.time = time;
+  }
+
+  /**
+   * @return the size in bytes of the serialized AST
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * @return the time in milliseconds it took to serialize and write the AST
+   */
+  public long getTime() {
+    return time;
+  }
+
+  @Override
+  public String toString() {
+    return size + " bytes in " + time + "ms";
+  }
+}
@@ -12,9 +12,15 @@ import org.mule.tooling.internal.PluginResources;
 
 import java.util.Set;
 
-public interface ExtensionModelLoader {
+public interface ExtensionModelLoader extends AutoCloseable {
 
   Set<ExtensionModel> getRuntimeExtensionModels();
 
   PluginResources load(BundleDescriptor artifactDescriptor);
+
+  /**
+   * Disposes the resources used to load the plugins. Loaded extension models remain usable after closing the loader.
+   */
+  @Override
+  default void close() {}
 }
@@ -8,6 +8,7 @@ package org.mule.tooling.api;
 
 import org.mule.maven.client.api.MavenClient;
 import org.mule.tooling.internal.DefaultExtensionModelLoader;
+import org.mule.tooling.internal.RuntimeExtensionModelsCache;
 
 import java.nio.file.Path;
 
@@ -17,4 +18,27 @@ public class ExtensionModelLoaderFactory {
                                                   String toolingVersion) {
     return new DefaultExtensionModelLoader(mavenClient, workingDir, parentClassloader, toolingVersion);
   }
+
+  /**
+   * Creates a loader that keeps the extension models of released plugins in {@code cacheDirectory}, so they are only loaded once
+   * per plugin and runtime version.
+   */
+  public static ExtensionModelLoader createLoader(MavenClient mavenClient, Path workingDir, ClassLoader parentClassloader,
+                                                  String toolingVersion, Path cacheDirectory) {
+    return new DefaultExtensionModelLoader(mavenClient, workingDir, parentClassloader, toolingVersion, cacheDirectory);
+  }
+
+  /**
+   * @return how many times the runtime extension models were reused by the loaders created in this JVM
+   */
+  public static int getRuntimeExtensionModelsCacheHits() {
+    return RuntimeExtensionModelsCache.getHits();
+  }
+
+  /**
+   * @return how many times the runtime extension models had to be built by the loaders created in this JVM
+   */
+  public static int getRuntimeExtensionModelsCacheMisses() {
+    return RuntimeExtensionModelsCache.getMisses();
+  }
 }
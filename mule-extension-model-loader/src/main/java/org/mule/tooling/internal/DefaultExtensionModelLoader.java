@@ -6,80 +6,98 @@
  */
 package org.mule.tooling.internal;
 
-import static org.mule.runtime.core.api.extension.provider.RuntimeExtensionModelProvider.discoverRuntimeExtensionModels;
-
 import org.mule.maven.client.api.MavenClient;
 import org.mule.maven.pom.parser.api.model.BundleDescriptor;
 import org.mule.runtime.api.meta.MuleVersion;
 import org.mule.runtime.api.meta.model.ExtensionModel;
-import org.mule.runtime.container.api.ModuleRepository;
-import org.mule.runtime.container.internal.ClasspathModuleDiscoverer;
-import org.mule.runtime.container.internal.CompositeModuleDiscoverer;
-import org.mule.runtime.container.internal.ContainerClassLoaderFactory;
-import org.mule.runtime.container.internal.DefaultModuleRepository;
-import org.mule.runtime.container.internal.JreModuleDiscoverer;
-import org.mule.runtime.container.internal.ModuleDiscoverer;
-import org.mule.runtime.core.api.extension.provider.MuleExtensionModelProvider;
-import org.mule.runtime.extension.api.extension.XmlSdk1ExtensionModelProvider;
-import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.tooling.api.ExtensionModelLoader;
 
-import com.mulesoft.mule.runtime.bti.api.extension.provider.BtiExtensionModelProvider;
-import com.mulesoft.mule.runtime.core.api.extension.provider.MuleEeExtensionModelProvider;
-import com.mulesoft.mule.runtime.http.policy.api.extension.provider.HttpPolicyEeExtensionModelProvider;
-import com.mulesoft.mule.runtime.module.batch.api.extension.provider.BatchExtensionModelProvider;
-import com.mulesoft.mule.runtime.module.serialization.kryo.api.extension.provider.KryoSerializerEeExtensionModelProvider;
-import com.mulesoft.mule.runtime.tracking.api.extension.provider.TrackingEeExtensionModelProvider;
-
+import java.io.File;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class DefaultExtensionModelLoader implements ExtensionModelLoader {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(DefaultExtensionModelLoader.class);
+
   private final DefaultExtensionModelService service;
   private final MuleVersion muleVersion;
+  private final String runtimeVersion;
+  private final ExtensionModelLoaderSession session;
+  private final MavenClient mavenClient;
+  private final ExtensionModelCache cache;
 
   public DefaultExtensionModelLoader(MavenClient mavenClient, Path workingDir, ClassLoader parentClassloader,
                                      String runtimeVersion) {
+    this(mavenClient, workingDir, parentClassloader, runtimeVersion, null);
+  }
+
+  /**
+   * @param cacheDirectory folder of the {@link ExtensionModelCache} used to load released plugins, or {@code null} to always load
+   *                       them from scratch
+   */
+  public DefaultExtensionModelLoader(MavenClient mavenClient, Path workingDir, ClassLoader parentClassloader,
+                                     String runtimeVersion, Path cacheDirectory) {
 
     this.muleVersion = new MuleVersion(runtimeVersion);
+    this.runtimeVersion = runtimeVersion;
+    this.mavenClient = mavenClient;
+    this.cache = cacheDirectory != null
+        ? new ExtensionModelCache(cacheDirectory, runtimeVersion, this::getRuntimeExtensionModels)
+        : null;
 
-    List<ModuleDiscoverer> result = new ArrayList<>();
-    result.add(new JreModuleDiscoverer());
-    result.add(new ClasspathModuleDiscoverer(parentClassloader, workingDir.toFile()));
-    final ModuleRepository moduleRepository =
-        new DefaultModuleRepository(new CompositeModuleDiscoverer(result.toArray(new ModuleDiscoverer[0])));
-
-    ArtifactClassLoader containerClassLoaderFactory =
-        (new ContainerClassLoaderFactory(moduleRepository)).createContainerClassLoader(parentClassloader)
-            .getContainerClassLoader();
-    MuleArtifactResourcesRegistry resourcesRegistry =
-        new MuleArtifactResourcesRegistry(runtimeVersion, Optional.ofNullable(muleVersion), mavenClient,
-                                          moduleRepository, containerClassLoaderFactory, workingDir.toFile());
-    service = new DefaultExtensionModelService(resourcesRegistry);
+    this.session = new ExtensionModelLoaderSession(mavenClient, workingDir, parentClassloader, runtimeVersion);
+    this.service = new DefaultExtensionModelService(session);
   }
 
+  /**
+   * @return a copy of the runtime extension models, taken from the {@link RuntimeExtensionModelsCache}
+   */
   @Override
   public Set<ExtensionModel> getRuntimeExtensionModels() {
-    Set<ExtensionModel> runtimeExtensionModels = new HashSet<>(discoverRuntimeExtensionModels());
-    runtimeExtensionModels.add(MuleExtensionModelProvider.getExtensionModel());
-    runtimeExtensionModels.add(XmlSdk1ExtensionModelProvider.getExtensionModel());
-    runtimeExtensionModels.add(MuleExtensionModelProvider.getTlsExtensionModel());
-    runtimeExtensionModels.add(MuleEeExtensionModelProvider.getExtensionModel());
-    runtimeExtensionModels.add(BatchExtensionModelProvider.getExtensionModel());
-    runtimeExtensionModels.add(BtiExtensionModelProvider.getExtensionModel());
-    runtimeExtensionModels.add(HttpPolicyEeExtensionModelProvider.getExtensionModel());
-    runtimeExtensionModels.add(KryoSerializerEeExtensionModelProvider.getExtensionModel());
-    runtimeExtensionModels.add(TrackingEeExtensionModelProvider.getExtensionModel());
-    return runtimeExtensionModels;
+    return new HashSet<>(RuntimeExtensionModelsCache.getAll(runtimeVersion));
   }
 
   @Override
   public PluginResources load(BundleDescriptor artifactDescriptor) {
-    return service.loadExtensionData(artifactDescriptor, muleVersion);
+    if (cache == null) {
+      return service.loadExtensionData(artifactDescriptor, muleVersion);
+    }
+    return cache.get(artifactDescriptor, resolvePluginJar(artifactDescriptor),
+                     () -> service.loadExtensionData(artifactDescriptor, muleVersion));
+  }
+
+  /**
+   * Disposes the class loading resources shared by the loaded plugins.
+   */
+  @Override
+  public void close() {
+    session.close();
+  }
+
+  ExtensionModelLoaderSession getSession() {
+    return session;
+  }
+
+  /**
+   * @return the cache used to load plugins, if any
+   */
+  public Optional<ExtensionModelCache> getCache() {
+    return Optional.ofNullable(cache);
+  }
+
+  private File resolvePluginJar(BundleDescriptor artifactDescriptor) {
+    try {
+      return new File(mavenClient.resolveBundleDescriptor(artifactDescriptor).getBundleUri());
+    } catch (Exception e) {
+      // The plugin is loaded without cache, which reports the resolution error if there is one
+      LOGGER.debug("Could not resolve {} to look up its cached extension model", artifactDescriptor, e);
+      return null;
+    }
   }
 }
@@ -11,14 +11,11 @@ import static org.mule.maven.client.internal.util.FileUtils.loadFileContentFrom;
 import static org.mule.maven.pom.parser.api.model.MavenModelBuilderProvider.discoverProvider;
 import static org.mule.maven.pom.parser.internal.util.FileUtils.getPomUrlFromJar;
 import static org.mule.runtime.api.deployment.meta.Product.MULE;
-import static org.mule.runtime.container.api.ContainerClassLoaderProvider.createContainerClassLoader;
-import static org.mule.runtime.container.api.ModuleRepository.createModuleRepository;
 import static org.mule.runtime.core.api.config.MuleManifest.getProductVersion;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.util.UUID.getUUID;
 import static org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptorConstants.MULE_LOADER_ID;
 import static org.mule.runtime.module.artifact.activation.api.extension.discovery.ExtensionModelDiscoverer.defaultExtensionModelDiscoverer;
-import static org.mule.runtime.core.api.extension.provider.RuntimeExtensionModelProvider.discoverRuntimeExtensionModels;
 import static org.mule.runtime.module.artifact.api.descriptor.ArtifactPluginDescriptor.MULE_ARTIFACT_PATH_INSIDE_JAR;
 import static org.mule.runtime.module.artifact.api.descriptor.ArtifactPluginDescriptor.MULE_PLUGIN_POM;
 import static org.mule.runtime.module.deployment.impl.internal.maven.AbstractMavenClassLoaderConfigurationLoader.CLASSLOADER_MODEL_MAVEN_REACTOR_RESOLVER;
@@ -27,7 +24,6 @@ import static org.mule.runtime.module.extension.internal.ExtensionProperties.DIS
 import static java.lang.Boolean.TRUE;
 import static java.lang.String.format;
 import static java.lang.System.nanoTime;
-import static java.nio.file.Files.createTempDirectory;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -53,8 +49,6 @@ import org.mule.runtime.api.deployment.meta.MuleArtifactLoaderDescriptor;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.meta.MuleVersion;
 import org.mule.runtime.api.meta.model.ExtensionModel;
-import org.mule.runtime.container.api.ModuleRepository;
-import org.mule.runtime.module.artifact.activation.api.classloader.ArtifactClassLoaderResolver;
 import org.mule.runtime.module.artifact.activation.api.extension.discovery.ExtensionDiscoveryRequest;
 import org.mule.runtime.module.artifact.activation.api.extension.discovery.ExtensionModelDiscoverer;
 import org.mule.runtime.module.artifact.activation.api.extension.discovery.ExtensionModelLoaderRepository;
@@ -64,6 +58,8 @@ import org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptorCreateE
 import org.mule.runtime.module.artifact.api.descriptor.ArtifactPluginDescriptor;
 import org.mule.tooling.api.ExtensionModelService;
 import org.mule.tooling.api.ToolingException;
+import org.mule.tooling.internal.jfr.ExtensionModelLoadEvent;
+import org.mule.tools.utils.jfr.FlightRecorderEvents;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -76,6 +72,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -89,7 +86,7 @@ import org.slf4j.LoggerFactory;
  *
  * @since 4.0
  */
-public class DefaultExtensionModelService implements ExtensionModelService {
+public class DefaultExtensionModelService implements ExtensionModelService, AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultExtensionModelService.class);
 
@@ -117,14 +114,46 @@ public class DefaultExtensionModelService implements ExtensionModelService {
   }
 
   private final MuleArtifactResourcesRegistry muleArtifactResourcesRegistry;
+  private final ExtensionModelLoaderSession session;
+  private final boolean ownsSession;
 
-  private final List<ExtensionModel> runtimeExtensionModels = new ArrayList<>();
+  private final List<ExtensionModel> runtimeExtensionModels;
 
+  /**
+   * Creates a service with its own {@link ExtensionModelLoaderSession}, which is closed when the service is {@link #close()
+   * closed}.
+   */
   public DefaultExtensionModelService(MuleArtifactResourcesRegistry muleArtifactResourcesRegistry) {
-    requireNonNull(muleArtifactResourcesRegistry, "muleArtifactResourcesRegistry cannot be null");
+    this(new ExtensionModelLoaderSession(requireNonNull(muleArtifactResourcesRegistry,
+                                                        "muleArtifactResourcesRegistry cannot be null")),
+         true);
+  }
+
+  /**
+   * Creates a service that uses the given session, which remains owned (and closed) by the caller.
+   */
+  public DefaultExtensionModelService(ExtensionModelLoaderSession session) {
+    this(session, false);
+  }
+
+  private DefaultExtensionModelService(ExtensionModelLoaderSession session, boolean ownsSession) {
+    requireNonNull(session, "session cannot be null");
 
-    this.muleArtifactResourcesRegistry = muleArtifactResourcesRegistry;
-    this.runtimeExtensionModels.addAll(discoverRuntimeExtensionModels());
+    this.session = session;
+    this.ownsSession = ownsSession;
+    this.muleArtifactResourcesRegistry = session.getResourcesRegistry();
+    this.runtimeExtensionModels = RuntimeExtensionModelsCache.getDiscovered(muleArtifactResourcesRegistry.getTargetMuleVersion()
+        .map(MuleVersion::toString).orElse(getProductVersion()));
+  }
+
+  /**
+   * Closes the session of the service if the service created it.
+   */
+  @Override
+  public void close() {
+    if (ownsSession) {
+      session.close();
+    }
   }
 
   /**
@@ -154,7 +183,8 @@ public class DefaultExtensionModelService implements ExtensionModelService {
         .setClassifier(bundleDescriptor.getClassifier().orElse(null))
         .build();
     PluginResources extensionInformationOptional =
-        withTemporaryApplication(pluginDescriptor, classLoaderModelAttributes, this::loadExtensionData, null);
+        recordLoad(pluginDescriptor, () -> withTemporaryApplication(pluginDescriptor, classLoaderModelAttributes,
+                                                                    this::loadExtensionData, null));
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Extension model for {} loaded in {}ms", pluginJarFile, NANOSECONDS.toMillis(nanoTime() - startTime));
     }
@@ -256,7 +286,8 @@ public class DefaultExtensionModelService implements ExtensionModelService {
   public PluginResources loadExtensionData(BundleDescriptor pluginDescriptor, MuleVersion muleVersion) {
     long startTime = nanoTime();
     PluginResources extensionInformation =
-        withTemporaryApplication(pluginDescriptor, emptyMap(), this::loadExtensionData, muleVersion);
+        recordLoad(pluginDescriptor,
+                   () -> withTemporaryApplication(pluginDescriptor, emptyMap(), this::loadExtensionData, muleVersion));
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Extension model for {} loaded in {}ms", pluginDescriptor, NANOSECONDS.toMillis(nanoTime() - startTime));
@@ -265,6 +296,30 @@ public class DefaultExtensionModelService implements ExtensionModelService {
     return extensionInformation;
   }
 
+  /**
+   * Runs {@code load}, emitting an {@link ExtensionModelLoadEvent} when flight recorder events are enabled.
+   */
+  private PluginResources recordLoad(BundleDescriptor pluginDescriptor, Supplier<PluginResources> load) {
+    if (!FlightRecorderEvents.isEnabled()) {
+      return load.get();
+    }
+    ExtensionModelLoadEvent event = new ExtensionModelLoadEvent();
+    event.begin();
+    PluginResources pluginResources = null;
+    try {
+      pluginResources = load.get();
+      return pluginResources;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.plugin = pluginDescriptor.toString();
+        event.extensionModels = pluginResources != null ? pluginResources.getExtensionModels().size() : 0;
+        event.exportedResources = pluginResources != null ? pluginResources.getExportedResources().size() : 0;
+        event.commit();
+      }
+    }
+  }
+
   private PluginResources withTemporaryApplication(BundleDescriptor pluginDescriptor,
                                                    Map<String, Object> classLoaderModelLoaderAttributes,
                                                    TemporaryApplicationFunction action,
@@ -285,17 +340,10 @@ public class DefaultExtensionModelService implements ExtensionModelService {
       ApplicationDescriptor applicationDescriptor = muleArtifactResourcesRegistry.getApplicationDescriptorFactory()
           .createArtifact(applicationFolder, empty(), muleApplicationModel);
 
-      ModuleRepository moduleRepository = createModuleRepository(ArtifactClassLoaderResolver.class
-          .getClassLoader(), createTempDir());
-      ArtifactClassLoaderResolver artifactClassLoaderResolver = ArtifactClassLoaderResolver
-          .classLoaderResolver(createContainerClassLoader(moduleRepository), moduleRepository, (empty) -> applicationFolder);
-
       muleArtifactResourcesRegistry.getPluginDependenciesResolver()
           .resolve(emptySet(), new ArrayList<>(applicationDescriptor.getPlugins()), false);
 
-      MuleDeployableArtifactClassLoader artifactClassLoader =
-          artifactClassLoaderResolver.createApplicationClassLoader(applicationDescriptor,
-                                                                   muleArtifactResourcesRegistry::getContainerArtifactClassLoader);
+      MuleDeployableArtifactClassLoader artifactClassLoader = session.createApplicationClassLoader(applicationDescriptor);
 
       try {
         ArtifactPluginDescriptor artifactPluginDescriptor = artifactClassLoader.getArtifactPluginClassLoaders().stream()
@@ -312,9 +360,7 @@ public class DefaultExtensionModelService implements ExtensionModelService {
       } catch (Exception e) {
         throw new ToolingException(e);
       } finally {
-        if (artifactClassLoader != null) {
-          artifactClassLoader.dispose();
-        }
+        session.dispose(artifactClassLoader);
       }
     } catch (ToolingException e) {
       throw e;
@@ -325,16 +371,6 @@ public class DefaultExtensionModelService implements ExtensionModelService {
     }
   }
 
-  private File createTempDir() throws IOException {
-    File tempFolder = createTempDirectory(null).toFile();
-    File moduleDiscovererTemporaryFolder = new File(tempFolder, ".moduleDiscoverer");
-    if (!moduleDiscovererTemporaryFolder.mkdir()) {
-      throw new IOException("Error while generating class loaders, cannot create directory "
-          + moduleDiscovererTemporaryFolder.getAbsolutePath());
-    }
-    return moduleDiscovererTemporaryFolder;
-  }
-
   private void createPomFile(BundleDescriptor pluginDescriptor, String uuid, File applicationFolder) {
     MavenModelBuilderProvider mavenModelBuilderProvider = discoverProvider();
     MavenModelBuilder model = mavenModelBuilderProvider
@@ -371,16 +407,17 @@ public class DefaultExtensionModelService implements ExtensionModelService {
       });
       ExtensionModelLoaderRepository extensionModelLoaderRepository =
           ExtensionModelLoaderRepository.getExtensionModelLoaderManager();
-      startIfNeeded(extensionModelLoaderRepository);
+      // The repository is shared by every plugin, which may be loaded concurrently
+      synchronized (extensionModelLoaderRepository) {
+        startIfNeeded(extensionModelLoaderRepository);
+      }
       final Set<ExtensionModel> loadedExtensionInformation =
           discoverPluginsExtensionModel(artifactClassLoader, extensionModelLoaderRepository, properties);
       return new PluginResources(loadedExtensionInformation, resources);
     } catch (Exception e) {
       throw new ToolingException(e);
     } finally {
-      if (artifactClassLoader != null) {
-        artifactClassLoader.dispose();
-      }
+      session.dispose(artifactClassLoader);
     }
   }
 
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.mule.runtime.core.api.config.MuleManifest.getProductVersion;
+
+import org.mule.maven.pom.parser.api.model.BundleDescriptor;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of the {@link PluginResources} loaded for mule-plugins.
+ * <p>
+ * Entries are keyed by the plugin coordinates, the checksum of the plugin jar, the target runtime version and the version of the
+ * runtime libraries used to load them, so a released plugin is only loaded once per runtime version no matter how many builds
+ * use it. Snapshot plugins are never cached, as their dependencies may change without the plugin jar changing.
+ * <p>
+ * Runtime extension models that are part of the loaded resources are not stored, only their names, and they are taken from the
+ * runtime extension models of the current loader when the entry is read.
+ */
+public class ExtensionModelCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionModelCache.class);
+
+  /**
+   * Version of the entries layout, to be increased whenever it changes.
+   */
+  private static final String FORMAT_VERSION = "1";
+
+  private static final String SNAPSHOT = "SNAPSHOT";
+  private static final String ENTRY_FILE = "entry.properties";
+  private static final String EXTENSION_MODEL_FILE = "extension-model-%d.json";
+  private static final String EXTENSION_MODELS = "extensionModels";
+  private static final String RUNTIME_EXTENSION_MODELS = "runtimeExtensionModels";
+  private static final String EXPORTED_RESOURCES = "exportedResources";
+  private static final String SEPARATOR = "\n";
+  private static final String JAR_URL_PREFIX = "jar:";
+  private static final String JAR_URL_SEPARATOR = "!/";
+
+  private final Path directory;
+  private final String runtimeVersion;
+  private final Supplier<Set<ExtensionModel>> runtimeExtensionModels;
+  private final ExtensionModelJsonSerializer serializer = new ExtensionModelJsonSerializer();
+
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+
+  /**
+   * @param directory              the folder where the entries are stored, created on demand
+   * @param runtimeVersion         the target runtime version of the loaded extension models
+   * @param runtimeExtensionModels the runtime extension models of the loader using the cache
+   */
+  public ExtensionModelCache(Path directory, String runtimeVersion, Supplier<Set<ExtensionModel>> runtimeExtensionModels) {
+    this.directory = directory;
+    this.runtimeVersion = runtimeVersion;
+    this.runtimeExtensionModels = runtimeExtensionModels;
+  }
+
+  /**
+   * Returns the cached resources of the plugin, loading and storing them with {@code loader} when there is no valid entry.
+   * Failures reading or writing entries are logged and never fail the load.
+   *
+   * @param descriptor the plugin descriptor
+   * @param pluginJar  the plugin jar, used to validate the entry
+   * @param loader     loads the resources of the plugin when they are not cached
+   * @return the plugin resources
+   */
+  public PluginResources get(BundleDescriptor descriptor, File pluginJar, Supplier<PluginResources> loader) {
+    if (descriptor.getVersion().endsWith(SNAPSHOT) || pluginJar == null || !pluginJar.isFile()) {
+      return loader.get();
+    }
+
+    Path entry;
+    try {
+      entry = getEntryFolder(descriptor, pluginJar);
+    } catch (IOException e) {
+      LOGGER.warn(format("Could not compute the extension model cache key for %s", descriptor), e);
+      return loader.get();
+    }
+
+    Optional<PluginResources> cached = read(entry);
+    if (cached.isPresent()) {
+      hits.incrementAndGet();
+      LOGGER.debug("Extension model for {} read from cache {}", descriptor, entry);
+      return cached.get();
+    }
+
+    misses.incrementAndGet();
+    PluginResources pluginResources = loader.get();
+    write(entry, pluginResources);
+    return pluginResources;
+  }
+
+  public int getHits() {
+    return hits.get();
+  }
+
+  public int getMisses() {
+    return misses.get();
+  }
+
+  protected Path getEntryFolder(BundleDescriptor descriptor, File pluginJar) throws IOException {
+    String key = String.join("|", descriptor.getGroupId(), descriptor.getArtifactId(), descriptor.getVersion(),
+                             descriptor.getClassifier().orElse(""), checksum(pluginJar), runtimeVersion,
+                             getProductVersion(), FORMAT_VERSION);
+    return directory.resolve(descriptor.getGroupId()).resolve(descriptor.getArtifactId()).resolve(descriptor.getVersion())
+        .resolve(toHex(digest().digest(key.getBytes(UTF_8))));
+  }
+
+  private Optional<PluginResources> read(Path entry) {
+    Path entryFile = entry.resolve(ENTRY_FILE);
+    if (!Files.isRegularFile(entryFile)) {
+      return Optional.empty();
+    }
+    try {
+      Properties properties = new Properties();
+      try (InputStream inputStream = Files.newInputStream(entryFile)) {
+        properties.load(inputStream);
+      }
+
+      List<URL> exportedResources = new ArrayList<>();
+      for (String resource : split(properties.getProperty(EXPORTED_RESOURCES))) {
+        URL url = new URL(resource);
+        if (!exists(url)) {
+          // The local repository was moved or cleaned up
+          return Optional.empty();
+        }
+        exportedResources.add(url);
+      }
+
+      Set<ExtensionModel> extensionModels = new HashSet<>();
+      int extensionModelsCount = Integer.parseInt(properties.getProperty(EXTENSION_MODELS));
+      for (int i = 0; i < extensionModelsCount; i++) {
+        extensionModels
+            .add(serializer.deserialize(new String(Files.readAllBytes(entry.resolve(format(EXTENSION_MODEL_FILE, i))), UTF_8)));
+      }
+      List<String> runtimeExtensionModelNames = split(properties.getProperty(RUNTIME_EXTENSION_MODELS));
+      runtimeExtensionModels.get().stream()
+          .filter(extensionModel -> runtimeExtensionModelNames.contains(extensionModel.getName()))
+          .forEach(extensionModels::add);
+
+      return Optional.of(new PluginResources(extensionModels, exportedResources));
+    } catch (Exception e) {
+      LOGGER.warn(format("Ignoring invalid extension model cache entry %s", entry), e);
+      deleteQuietly(entry.toFile());
+      return Optional.empty();
+    }
+  }
+
+  private void write(Path entry, PluginResources pluginResources) {
+    Path temporaryEntry = null;
+    try {
+      // Created next to the entry with a unique name, so concurrent builds, even in different JVMs, never share it
+      Files.createDirectories(entry.getParent());
+      temporaryEntry = Files.createTempDirectory(entry.getParent(), entry.getFileName() + ".");
+      Set<String> runtimeExtensionModelNames = runtimeExtensionModels.get().stream().map(ExtensionModel::getName).collect(toSet());
+      List<String> storedRuntimeExtensionModels = new ArrayList<>();
+      int extensionModelsCount = 0;
+      for (ExtensionModel extensionModel : pluginResources.getExtensionModels()) {
+        if (runtimeExtensionModelNames.contains(extensionModel.getName())) {
+          storedRuntimeExtensionModels.add(extensionModel.getName());
+        } else {
+          Files.write(temporaryEntry.resolve(format(EXTENSION_MODEL_FILE, extensionModelsCount++)),
+                      serializer.serialize(extensionModel).getBytes(UTF_8));
+        }
+      }
+
+      List<String> exportedResources = new ArrayList<>();
+      pluginResources.getExportedResources().forEach(url -> exportedResources.add(url.toExternalForm()));
+
+      Properties properties = new Properties();
+      properties.setProperty(EXTENSION_MODELS, Integer.toString(extensionModelsCount));
+      properties.setProperty(RUNTIME_EXTENSION_MODELS, String.join(SEPARATOR, storedRuntimeExtensionModels));
+      properties.setProperty(EXPORTED_RESOURCES, String.join(SEPARATOR, exportedResources));
+      try (OutputStream outputStream = Files.newOutputStream(temporaryEntry.resolve(ENTRY_FILE))) {
+        properties.store(outputStream, null);
+      }
+
+      // Entries are published at once so concurrent builds never read a partial one
+      deleteQuietly(entry.toFile());
+      try {
+        Files.move(temporaryEntry, entry, ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryEntry, entry);
+      }
+    } catch (Exception e) {
+      LOGGER.warn(format("Could not write extension model cache entry %s", entry), e);
+    } finally {
+      if (temporaryEntry != null) {
+        deleteQuietly(temporaryEntry.toFile());
+      }
+    }
+  }
+
+  private boolean exists(URL url) {
+    String externalForm = url.toExternalForm();
+    if (externalForm.startsWith(JAR_URL_PREFIX) && externalForm.contains(JAR_URL_SEPARATOR)) {
+      externalForm = externalForm.substring(JAR_URL_PREFIX.length(), externalForm.indexOf(JAR_URL_SEPARATOR));
+    }
+    try {
+      return Files.exists(Paths.get(new URL(externalForm).toURI()));
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private List<String> split(String value) {
+    return value == null || value.isEmpty() ? new ArrayList<>() : Arrays.asList(value.split(SEPARATOR));
+  }
+
+  private static String checksum(File file) throws IOException {
+    MessageDigest digest = digest();
+    byte[] buffer = new byte[8192];
+    try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+      while (inputStream.read(buffer) != -1) {
+        // Reading updates the digest
+      }
+    }
+    return toHex(digest.digest());
+  }
+
+  private static MessageDigest digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder builder = new StringBuilder();
+    for (byte b : bytes) {
+      builder.append(format("%02x", b));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static java.nio.file.Files.createTempDirectory;
+import static org.apache.commons.io.FileUtils.deleteQuietly;
+import static org.mule.runtime.container.api.ContainerClassLoaderProvider.createContainerClassLoader;
+import static org.mule.runtime.container.api.ModuleRepository.createModuleRepository;
+
+import org.mule.maven.client.api.MavenClient;
+import org.mule.runtime.api.meta.MuleVersion;
+import org.mule.runtime.container.api.ModuleRepository;
+import org.mule.runtime.container.internal.ClasspathModuleDiscoverer;
+import org.mule.runtime.container.internal.CompositeModuleDiscoverer;
+import org.mule.runtime.container.internal.ContainerClassLoaderFactory;
+import org.mule.runtime.container.internal.DefaultModuleRepository;
+import org.mule.runtime.container.internal.JreModuleDiscoverer;
+import org.mule.runtime.container.internal.ModuleDiscoverer;
+import org.mule.runtime.module.artifact.activation.api.classloader.ArtifactClassLoaderResolver;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.classloader.MuleDeployableArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.ApplicationDescriptor;
+import org.mule.tooling.api.ToolingException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the resources shared by every plugin loaded by an {@link org.mule.tooling.api.ExtensionModelLoader}: the module
+ * repositories, the container class loader, the {@link ArtifactClassLoaderResolver} and the
+ * {@link MuleArtifactResourcesRegistry}.
+ * <p>
+ * Creating them once per build instead of once per plugin keeps the class loading time and the metaspace used by the build from
+ * growing with the amount of plugins. The application class loaders created through the session are tracked, so the ones that
+ * were not disposed when the session is closed are reported and disposed.
+ * <p>
+ * Every file the session creates (the module discoverer files and the native libraries extracted for the plugins) lives in a
+ * temporary folder of the session, which is deleted when the session is closed.
+ */
+public class ExtensionModelLoaderSession implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionModelLoaderSession.class);
+
+  private static final String MODULE_DISCOVERER_FOLDER = ".moduleDiscoverer";
+  private static final String NATIVE_LIBRARIES_FOLDER = ".nativeLibraries";
+
+  private final MuleArtifactResourcesRegistry resourcesRegistry;
+  private final File temporaryFolder;
+  private final File moduleDiscovererFolder;
+  private final File nativeLibrariesFolder;
+  private final ArtifactClassLoaderResolver artifactClassLoaderResolver;
+  private final Map<ArtifactClassLoader, String> activeClassLoaders = new IdentityHashMap<>();
+  private int createdClassLoaders;
+  private boolean closed;
+
+  public ExtensionModelLoaderSession(MavenClient mavenClient, Path workingDir, ClassLoader parentClassloader,
+                                     String runtimeVersion) {
+    this(createResourcesRegistry(mavenClient, workingDir, parentClassloader, runtimeVersion));
+  }
+
+  public ExtensionModelLoaderSession(MuleArtifactResourcesRegistry resourcesRegistry) {
+    this.resourcesRegistry = resourcesRegistry;
+    try {
+      this.temporaryFolder = createTempDirectory(null).toFile();
+      this.moduleDiscovererFolder = createFolder(temporaryFolder, MODULE_DISCOVERER_FOLDER);
+      this.nativeLibrariesFolder = createFolder(temporaryFolder, NATIVE_LIBRARIES_FOLDER);
+    } catch (IOException e) {
+      throw new ToolingException("Error while generating class loaders", e);
+    }
+    ModuleRepository moduleRepository =
+        createModuleRepository(ArtifactClassLoaderResolver.class.getClassLoader(), moduleDiscovererFolder);
+    this.artifactClassLoaderResolver = ArtifactClassLoaderResolver
+        .classLoaderResolver(createContainerClassLoader(moduleRepository), moduleRepository,
+                             artifactName -> new File(nativeLibrariesFolder, artifactName));
+  }
+
+  private static MuleArtifactResourcesRegistry createResourcesRegistry(MavenClient mavenClient, Path workingDir,
+                                                                       ClassLoader parentClassloader, String runtimeVersion) {
+    List<ModuleDiscoverer> result = new ArrayList<>();
+    result.add(new JreModuleDiscoverer());
+    result.add(new ClasspathModuleDiscoverer(parentClassloader, workingDir.toFile()));
+    final ModuleRepository moduleRepository =
+        new DefaultModuleRepository(new CompositeModuleDiscoverer(result.toArray(new ModuleDiscoverer[0])));
+
+    ArtifactClassLoader containerClassLoader =
+        (new ContainerClassLoaderFactory(moduleRepository)).createContainerClassLoader(parentClassloader)
+            .getContainerClassLoader();
+    return new MuleArtifactResourcesRegistry(runtimeVersion, Optional.of(new MuleVersion(runtimeVersion)), mavenClient,
+                                             moduleRepository, containerClassLoader, workingDir.toFile());
+  }
+
+  private static File createFolder(File parent, String name) throws IOException {
+    File folder = new File(parent, name);
+    if (!folder.mkdir()) {
+      throw new IOException("Cannot create directory " + folder.getAbsolutePath());
+    }
+    return folder;
+  }
+
+  public MuleArtifactResourcesRegistry getResourcesRegistry() {
+    return resourcesRegistry;
+  }
+
+  /**
+   * @return the folder holding every file created by the session, deleted when the session is closed
+   */
+  File getTemporaryFolder() {
+    return temporaryFolder;
+  }
+
+  /**
+   * @return the folder where the native libraries of the plugins are extracted
+   */
+  File getNativeLibrariesFolder() {
+    return nativeLibrariesFolder;
+  }
+
+  /**
+   * Creates the class loader of a temporary application, which must be disposed with {@link #dispose(ArtifactClassLoader)}.
+   *
+   * @param descriptor the descriptor of the temporary application
+   * @return the application class loader
+   */
+  public synchronized MuleDeployableArtifactClassLoader createApplicationClassLoader(ApplicationDescriptor descriptor) {
+    if (closed) {
+      throw new IllegalStateException("The extension model loader session is already closed");
+    }
+    MuleDeployableArtifactClassLoader classLoader =
+        artifactClassLoaderResolver.createApplicationClassLoader(descriptor, resourcesRegistry::getContainerArtifactClassLoader);
+    activeClassLoaders.put(classLoader, descriptor.getName());
+    createdClassLoaders++;
+    return classLoader;
+  }
+
+  /**
+   * Disposes a class loader created by this session. Disposing the same class loader more than once has no effect.
+   *
+   * @param classLoader the class loader to dispose
+   */
+  public synchronized void dispose(ArtifactClassLoader classLoader) {
+    if (classLoader != null && activeClassLoaders.remove(classLoader) != null) {
+      classLoader.dispose();
+    }
+  }
+
+  /**
+   * @return the number of class loaders created by this session that are not disposed yet
+   */
+  public synchronized int getActiveClassLoaders() {
+    return activeClassLoaders.size();
+  }
+
+  /**
+   * Disposes the resources of the session and deletes its temporary folder. Class loaders that were not disposed are reported as
+   * leaks and disposed.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (!activeClassLoaders.isEmpty()) {
+      LOGGER.warn("{} of {} plugin class loaders were not disposed: {}", activeClassLoaders.size(), createdClassLoaders,
+                  activeClassLoaders.values());
+      new ArrayList<>(activeClassLoaders.keySet()).forEach(this::dispose);
+    }
+    LOGGER.debug("Extension model loader session closed after creating {} class loaders", createdClassLoaders);
+    deleteQuietly(temporaryFolder);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static org.mule.runtime.core.api.extension.provider.RuntimeExtensionModelProvider.discoverRuntimeExtensionModels;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.core.api.extension.provider.MuleExtensionModelProvider;
+import org.mule.runtime.extension.api.extension.XmlSdk1ExtensionModelProvider;
+
+import com.mulesoft.mule.runtime.bti.api.extension.provider.BtiExtensionModelProvider;
+import com.mulesoft.mule.runtime.core.api.extension.provider.MuleEeExtensionModelProvider;
+import com.mulesoft.mule.runtime.http.policy.api.extension.provider.HttpPolicyEeExtensionModelProvider;
+import com.mulesoft.mule.runtime.module.batch.api.extension.provider.BatchExtensionModelProvider;
+import com.mulesoft.mule.runtime.module.serialization.kryo.api.extension.provider.KryoSerializerEeExtensionModelProvider;
+import com.mulesoft.mule.runtime.tracking.api.extension.provider.TrackingEeExtensionModelProvider;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JVM wide cache of the runtime extension models, keyed by runtime version.
+ * <p>
+ * Runtime extension models are immutable and only depend on the runtime libraries available to the plugin, so every loader
+ * created in the same Maven session (i.e. every module of a reactor) shares them instead of building them again.
+ */
+public final class RuntimeExtensionModelsCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RuntimeExtensionModelsCache.class);
+
+  private static final Map<String, RuntimeExtensionModels> CACHE = new ConcurrentHashMap<>();
+  private static final AtomicInteger HITS = new AtomicInteger();
+  private static final AtomicInteger MISSES = new AtomicInteger();
+
+  private RuntimeExtensionModelsCache() {}
+
+  /**
+   * @param runtimeVersion the target runtime version
+   * @return every runtime extension model, including the ones of the core and EE modules
+   */
+  public static Set<ExtensionModel> getAll(String runtimeVersion) {
+    return get(runtimeVersion).all;
+  }
+
+  /**
+   * @param runtimeVersion the target runtime version
+   * @return the runtime extension models discovered through the runtime providers
+   */
+  public static List<ExtensionModel> getDiscovered(String runtimeVersion) {
+    return get(runtimeVersion).discovered;
+  }
+
+  public static int getHits() {
+    return HITS.get();
+  }
+
+  public static int getMisses() {
+    return MISSES.get();
+  }
+
+  /**
+   * Removes every cached entry and resets the statistics.
+   */
+  public static void clear() {
+    CACHE.clear();
+    HITS.set(0);
+    MISSES.set(0);
+  }
+
+  private static RuntimeExtensionModels get(String runtimeVersion) {
+    RuntimeExtensionModels cached = CACHE.get(runtimeVersion);
+    if (cached != null) {
+      HITS.incrementAndGet();
+      return cached;
+    }
+    return CACHE.computeIfAbsent(runtimeVersion, version -> {
+      MISSES.incrementAndGet();
+      long start = System.currentTimeMillis();
+      RuntimeExtensionModels models = new RuntimeExtensionModels();
+      LOGGER.debug("Runtime extension models for {} discovered in {}ms", version, System.currentTimeMillis() - start);
+      return models;
+    });
+  }
+
+  private static class RuntimeExtensionModels {
+
+    private final List<ExtensionModel> discovered;
+    private final Set<ExtensionModel> all;
+
+    private RuntimeExtensionModels() {
+      this.discovered = unmodifiableList(new ArrayList<>(discoverRuntimeExtensionModels()));
+
+      Set<ExtensionModel> all = new HashSet<>(discovered);
+      all.add(MuleExtensionModelProvider.getExtensionModel());
+      all.add(XmlSdk1ExtensionModelProvider.getExtensionModel());
+      all.add(MuleExtensionModelProvider.getTlsExtensionModel());
+      all.add(MuleEeExtensionModelProvider.getExtensionModel());
+      all.add(BatchExtensionModelProvider.getExtensionModel());
+      all.add(BtiExtensionModelProvider.getExtensionModel());
+      all.add(HttpPolicyEeExtensionModelProvider.getExtensionModel());
+      all.add(KryoSerializerEeExtensionModelProvider.getExtensionModel());
+      all.add(TrackingEeExtensionModelProvider.getExtensionModel());
+      this.all = unmodifiableSet(all);
+    }
+  }
+}
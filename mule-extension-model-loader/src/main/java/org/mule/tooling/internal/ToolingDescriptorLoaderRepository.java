@@ -6,15 +6,21 @@
  */
 package org.mule.tooling.internal;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.mule.maven.client.api.MavenClient;
 import org.mule.runtime.core.api.config.bootstrap.ArtifactType;
@@ -28,64 +34,138 @@ import org.mule.runtime.module.deployment.impl.internal.plugin.PluginMavenClassL
 import org.mule.runtime.module.service.internal.artifact.LibFolderClassLoaderConfigurationLoader;
 
 import static com.google.common.collect.ImmutableList.copyOf;
-import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 
+/**
+ * {@link DescriptorLoaderRepository} with the loaders used by the tooling.
+ * <p>
+ * Loaders are indexed by loader class, id and supported artifact type when the repository is created, so lookups do not scan
+ * the registered loaders. The repository is immutable and can be shared between threads.
+ */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ToolingDescriptorLoaderRepository implements DescriptorLoaderRepository {
 
-  public static synchronized <T> Collection<T> doLookupProviders(Class<T> providerClass, ClassLoader classLoader) {
-    Iterator<T> iterator = ServiceLoader.load(providerClass, classLoader).iterator();
-    if (iterator.hasNext()) {
-      return copyOf(iterator);
-    } else {
-      return emptyList();
+  /**
+   * Classes of the providers discovered through {@link ServiceLoader}, by class loader and provider class name. Plugin class
+   * realms are reused during the whole Maven session, so the providers are only discovered once no matter how many repositories
+   * are created. A class keeps its class loader reachable, so the classes are only weakly referenced and the entries go away
+   * with their class loaders.
+   */
+  private static final Map<ClassLoader, Map<String, List<WeakReference<Class<?>>>>> PROVIDER_CLASSES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * @return new instances of the providers of {@code providerClass} available in {@code classLoader}, whose classes are
+   *         discovered only once per class loader
+   */
+  public static <T> Collection<T> doLookupProviders(Class<T> providerClass, ClassLoader classLoader) {
+    Map<String, List<WeakReference<Class<?>>>> providers =
+        PROVIDER_CLASSES.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>());
+    List<WeakReference<Class<?>>> providerClasses = providers.get(providerClass.getName());
+    if (providerClasses == null) {
+      // Concurrent lookups may discover the providers more than once, which is harmless as every lookup gets its own instances
+      List<T> discovered = copyOf(ServiceLoader.load(providerClass, classLoader).iterator());
+      providers.put(providerClass.getName(), discovered.stream()
+          .<WeakReference<Class<?>>>map(provider -> new WeakReference<>(provider.getClass())).collect(toList()));
+      return discovered;
+    }
+    List<T> instances = new ArrayList<>();
+    for (WeakReference<Class<?>> reference : providerClasses) {
+      Class<?> providerType = reference.get();
+      if (providerType != null) {
+        instances.add(providerClass.cast(newInstance(providerType)));
+      }
+    }
+    return instances;
+  }
+
+  private static Object newInstance(Class<?> providerType) {
+    try {
+      return providerType.getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new ServiceConfigurationError("Provider " + providerType.getName() + " could not be instantiated", e);
     }
   }
 
-  private final Map<Class, List<DescriptorLoader>> descriptorLoaders = Maps.newHashMap();
+  private final Map<LoaderKey, DescriptorLoader> descriptorLoaders;
 
   public ToolingDescriptorLoaderRepository(MavenClient mavenClient) {
-    ToolingClassLoaderConfigurationLoader toolingClassLoaderConfigurationLoader =
-        new ToolingClassLoaderConfigurationLoader(Lists.newArrayList(new ClassLoaderConfigurationLoader[] {
-            new DeployableMavenClassLoaderConfigurationLoader(Optional.of(mavenClient)),
-            new PluginMavenClassLoaderConfigurationLoader(Optional.of(mavenClient))}));
-    this.descriptorLoaders.put(BundleDescriptorLoader.class, this.findBundleDescriptorLoaders());
-    this.descriptorLoaders.put(ClassLoaderConfigurationLoader.class,
-                               Lists.newArrayList(new DescriptorLoader[] {toolingClassLoaderConfigurationLoader}));
+    this(new ClassLoaderConfigurationLoader[] {
+        new DeployableMavenClassLoaderConfigurationLoader(Optional.of(mavenClient)),
+        new PluginMavenClassLoaderConfigurationLoader(Optional.of(mavenClient))});
   }
 
   public ToolingDescriptorLoaderRepository() {
-    ToolingClassLoaderConfigurationLoader toolingClassLoaderConfigurationLoader = new ToolingClassLoaderConfigurationLoader(Lists
-        .newArrayList(new ClassLoaderConfigurationLoader[] {new LibFolderClassLoaderConfigurationLoader()}));
-    this.descriptorLoaders.put(BundleDescriptorLoader.class, this.findBundleDescriptorLoaders());
-    this.descriptorLoaders.put(ClassLoaderConfigurationLoader.class,
-                               Lists.newArrayList(new DescriptorLoader[] {toolingClassLoaderConfigurationLoader}));
+    this(new ClassLoaderConfigurationLoader[] {new LibFolderClassLoaderConfigurationLoader()});
+  }
+
+  private ToolingDescriptorLoaderRepository(ClassLoaderConfigurationLoader[] classLoaderConfigurationLoaders) {
+    ToolingClassLoaderConfigurationLoader toolingClassLoaderConfigurationLoader =
+        new ToolingClassLoaderConfigurationLoader(Lists.newArrayList(classLoaderConfigurationLoaders));
+    Map<Class, List<DescriptorLoader>> loaders = new HashMap<>();
+    loaders.put(BundleDescriptorLoader.class, this.findBundleDescriptorLoaders());
+    loaders.put(ClassLoaderConfigurationLoader.class,
+                Lists.newArrayList(new DescriptorLoader[] {toolingClassLoaderConfigurationLoader}));
+    this.descriptorLoaders = index(loaders);
   }
 
   private List<DescriptorLoader> findBundleDescriptorLoaders() {
     return new ArrayList<>(doLookupProviders(BundleDescriptorLoader.class, this.getClass().getClassLoader()));
   }
 
-  public <T extends DescriptorLoader> T get(String id, ArtifactType artifactType, Class<T> loaderClass)
-      throws LoaderNotFoundException {
-    T descriptorLoader = null;
-    List<T> registeredDescriptorLoaders = (List) this.descriptorLoaders.get(loaderClass);
-    if (registeredDescriptorLoaders != null) {
-      Iterator iterator = registeredDescriptorLoaders.iterator();
-
-      while (iterator.hasNext()) {
-        DescriptorLoader loader = (DescriptorLoader) iterator.next();
-        if (loader.getId().equals(id) && loader.supportsArtifactType(artifactType)) {
-          descriptorLoader = loaderClass.cast(loader);
+  private static Map<LoaderKey, DescriptorLoader> index(Map<Class, List<DescriptorLoader>> loaders) {
+    Map<LoaderKey, DescriptorLoader> index = new HashMap<>();
+    loaders.forEach((loaderClass, registeredLoaders) -> {
+      for (DescriptorLoader loader : registeredLoaders) {
+        for (ArtifactType artifactType : ArtifactType.values()) {
+          if (loader.supportsArtifactType(artifactType)) {
+            // The last registered loader wins, as it did when the loaders were scanned on each lookup
+            index.put(new LoaderKey(loaderClass, loader.getId(), artifactType), loader);
+          }
         }
       }
-    }
+    });
+    return ImmutableMap.copyOf(index);
+  }
 
+  public <T extends DescriptorLoader> T get(String id, ArtifactType artifactType, Class<T> loaderClass)
+      throws LoaderNotFoundException {
+    DescriptorLoader descriptorLoader = this.descriptorLoaders.get(new LoaderKey(loaderClass, id, artifactType));
     if (descriptorLoader == null) {
       throw new LoaderNotFoundException(String.format("There is no loader with ID='%s' and type '%s'", id,
                                                       loaderClass.getName()));
     } else {
-      return descriptorLoader;
+      return loaderClass.cast(descriptorLoader);
+    }
+  }
+
+  private static final class LoaderKey {
+
+    private final Class loaderClass;
+    private final String id;
+    private final ArtifactType artifactType;
+
+    private LoaderKey(Class loaderClass, String id, ArtifactType artifactType) {
+      this.loaderClass = loaderClass;
+      this.id = id;
+      this.artifactType = artifactType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof LoaderKey)) {
+        return false;
+      }
+      LoaderKey other = (LoaderKey) o;
+      return loaderClass.equals(other.loaderClass) && Objects.equals(id, other.id) && artifactType == other.artifactType;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(loaderClass, id, artifactType);
     }
   }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Load of the extension models of a mule-plugin.
+ */
+@Name("org.mule.tools.ExtensionModelLoad")
+@Label("Extension Model Load")
+@Description("Load of the extension models of a mule-plugin in a temporary application")
+@Category({"Mule", "Extension Models"})
+public class ExtensionModelLoadEvent extends jdk.jfr.Event {
+
+  @Label("Plugin")
+  public String plugin;
+
+  @Label("Extension Models")
+  public int extensionModels;
+
+  @Label("Exported Resources")
+  public int exportedResources;
+}
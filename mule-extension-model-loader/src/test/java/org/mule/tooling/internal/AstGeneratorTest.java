@@ -6,22 +6,36 @@
  */
 package org.mule.tooling.internal;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.maven.model.Dependency;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mule.maven.client.api.MavenClient;
+import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.ast.api.ArtifactAst;
+import org.mule.runtime.ast.api.validation.ValidationResultItem;
 import org.mule.runtime.extension.api.model.construct.ImmutableConstructModel;
 import org.mule.tooling.api.AstGenerator;
+import org.mule.tooling.api.AstSerializationResult;
 import org.mule.tooling.api.ConfigurationException;
 
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mule.tooling.api.AstGenerator.PARSE_PHASE;
+import static org.mule.tooling.api.AstGenerator.VALIDATE_PHASE;
 
 class AstGeneratorTest extends MavenClientTest {
 
@@ -42,6 +56,89 @@ class AstGeneratorTest extends MavenClientTest {
         .isExactlyInstanceOf(ConfigurationException.class);
   }
 
+  @Test
+  void phaseTimesAreRecorded() throws Exception {
+    final Pair<AstGenerator, ArtifactAst> elements = getElements("mule-config.xml");
+    elements.getLeft().validateAST(elements.getRight());
+
+    assertThat(elements.getLeft().getPhaseTimes()).containsKeys(PARSE_PHASE, VALIDATE_PHASE);
+  }
+
+  @Test
+  void pluginsAreLoadedConcurrently() throws Exception {
+    final Path workingPath = Paths.get("src", "test", "resources", "test-project");
+    final File m2Repo = getM2Repo(getM2Home());
+    final MavenClient client =
+        getMavenClientInstance(getMavenConfiguration(m2Repo, getUserSettings(m2Repo), getSettingsSecurity(m2Repo)));
+    final List<Dependency> plugins = asList(plugin("mule-http-connector", "1.5.25"), plugin("mule-sockets-connector", "1.2.2"));
+
+    final AstGenerator serial =
+        new AstGenerator(client, "4.4.0", Collections.emptySet(), workingPath, null, plugins, true, null, 1);
+    final AstGenerator concurrent =
+        new AstGenerator(client, "4.4.0", Collections.emptySet(), workingPath, null, plugins, true, null, 2);
+
+    assertThat(concurrent.getPluginLoadTimes()).containsOnlyKeys("org.mule.connectors:mule-http-connector:1.5.25",
+                                                                 "org.mule.connectors:mule-sockets-connector:1.2.2");
+    // The extension models do not depend on the order in which the plugins finish loading
+    assertThat(concurrent.getExtensionModels()).extracting(ExtensionModel::getName)
+        .containsExactlyElementsOf(serial.getExtensionModels().stream().map(ExtensionModel::getName).collect(toList()));
+  }
+
+  @Test
+  void cachedExtensionModelsGenerateTheSameAst(@TempDir Path cacheFolder) throws Exception {
+    final Path workingPath = Paths.get("src", "test", "resources", "test-project");
+    final File m2Repo = getM2Repo(getM2Home());
+    final MavenClient client =
+        getMavenClientInstance(getMavenConfiguration(m2Repo, getUserSettings(m2Repo), getSettingsSecurity(m2Repo)));
+    final List<Dependency> plugins = asList(plugin("mule-http-connector", "1.5.25"), plugin("mule-sockets-connector", "1.2.2"));
+
+    final AstGenerator loaded =
+        new AstGenerator(client, "4.4.0", Collections.emptySet(), workingPath, null, plugins, true, cacheFolder);
+    try (Stream<Path> files = Files.walk(cacheFolder)) {
+      assertThat(files.filter(file -> file.getFileName().toString().endsWith(".json"))).isNotEmpty();
+    }
+    final AstGenerator cached =
+        new AstGenerator(client, "4.4.0", Collections.emptySet(), workingPath, null, plugins, true, cacheFolder);
+
+    final ArtifactAst loadedAst = generate(loaded, "mule-config-http.xml");
+    final ArtifactAst cachedAst = generate(cached, "mule-config-http.xml");
+
+    assertThat(IOUtils.toByteArray(AstGenerator.serialize(cachedAst)))
+        .isEqualTo(IOUtils.toByteArray(AstGenerator.serialize(loadedAst)));
+    assertThat(messages(cached.validateAST(cachedAst).getWarnings()))
+        .isEqualTo(messages(loaded.validateAST(loadedAst).getWarnings()));
+  }
+
+  private static ArtifactAst generate(AstGenerator generator, String muleConfiguration) throws FileNotFoundException {
+    final Path configsBasePath = Paths.get("src", "test", "resources", "test-project").resolve("src/main/mule");
+    return generator.generateAST(Collections.singletonList(configsBasePath.resolve(muleConfiguration).toFile().getAbsolutePath()),
+                                 configsBasePath);
+  }
+
+  private static List<String> messages(List<ValidationResultItem> items) {
+    return items.stream().map(ValidationResultItem::getMessage).collect(toList());
+  }
+
+  private static Dependency plugin(String artifactId, String version) {
+    final Dependency plugin = new Dependency();
+    plugin.setGroupId("org.mule.connectors");
+    plugin.setArtifactId(artifactId);
+    plugin.setVersion(version);
+    plugin.setClassifier("mule-plugin");
+    return plugin;
+  }
+
+  @Test
+  void astIsSerializedIntoFile(@TempDir Path temporaryFolder) throws Exception {
+    final ArtifactAst artifact = getElements("mule-config.xml").getRight();
+    final byte[] expected = IOUtils.toByteArray(AstGenerator.serialize(artifact));
+
+    final AstSerializationResult result = AstGenerator.serialize(artifact, temporaryFolder.resolve("artifact.ast"));
+
+    assertThat(Files.readAllBytes(temporaryFolder.resolve("artifact.ast"))).isEqualTo(expected);
+    assertThat(result.getSize()).isEqualTo(expected.length);
+  }
+
   private Pair<AstGenerator, ArtifactAst> getElements(String muleConfiguration) {
     try {
       final Path workingPath = Paths.get("src", "test", "resources", "test-project");
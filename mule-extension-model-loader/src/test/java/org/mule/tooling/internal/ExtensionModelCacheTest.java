@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.mule.maven.pom.parser.api.model.BundleDescriptor;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.core.api.extension.provider.MuleExtensionModelProvider;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExtensionModelCacheTest {
+
+  private static final String RUNTIME_VERSION = "4.4.0";
+
+  @TempDir
+  Path temporaryFolder;
+
+  private File pluginJar;
+  private ExtensionModel extensionModel;
+  private AtomicInteger loads;
+  private Supplier<PluginResources> loader;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    pluginJar = Files.write(temporaryFolder.resolve("plugin.jar"), new byte[] {1, 2, 3}).toFile();
+    extensionModel = MuleExtensionModelProvider.getTlsExtensionModel();
+    loads = new AtomicInteger();
+    loader = () -> {
+      loads.incrementAndGet();
+      return new PluginResources(singleton(extensionModel), emptyList());
+    };
+  }
+
+  @Test
+  void releasedPluginIsLoadedOnce() {
+    ExtensionModelCache cache = new ExtensionModelCache(temporaryFolder.resolve("cache"), RUNTIME_VERSION, () -> emptySet());
+
+    cache.get(descriptor("1.0.0"), pluginJar, loader);
+    PluginResources cached =
+        new ExtensionModelCache(temporaryFolder.resolve("cache"), RUNTIME_VERSION, () -> emptySet())
+            .get(descriptor("1.0.0"), pluginJar, loader);
+
+    assertThat(loads).hasValue(1);
+    assertThat(cached.getExtensionModels()).extracting(ExtensionModel::getName).containsExactly(extensionModel.getName());
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void snapshotPluginIsNotCached() {
+    ExtensionModelCache cache = new ExtensionModelCache(temporaryFolder.resolve("cache"), RUNTIME_VERSION, () -> emptySet());
+
+    cache.get(descriptor("1.0.0-SNAPSHOT"), pluginJar, loader);
+    cache.get(descriptor("1.0.0-SNAPSHOT"), pluginJar, loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void changedPluginJarIsLoadedAgain() throws Exception {
+    ExtensionModelCache cache = new ExtensionModelCache(temporaryFolder.resolve("cache"), RUNTIME_VERSION, () -> emptySet());
+
+    cache.get(descriptor("1.0.0"), pluginJar, loader);
+    Files.write(pluginJar.toPath(), new byte[] {4, 5, 6});
+    cache.get(descriptor("1.0.0"), pluginJar, loader);
+
+    assertThat(loads).hasValue(2);
+    assertThat(cache.getHits()).isZero();
+  }
+
+  @Test
+  void runtimeExtensionModelsAreTakenFromTheRuntime() {
+    ExtensionModelCache cache =
+        new ExtensionModelCache(temporaryFolder.resolve("cache"), RUNTIME_VERSION, () -> singleton(extensionModel));
+
+    cache.get(descriptor("1.0.0"), pluginJar, loader);
+    PluginResources cached = cache.get(descriptor("1.0.0"), pluginJar, loader);
+
+    assertThat(loads).hasValue(1);
+    assertThat(cached.getExtensionModels()).singleElement().isSameAs(extensionModel);
+  }
+
+  private BundleDescriptor descriptor(String version) {
+    return new BundleDescriptor.Builder()
+        .setGroupId("org.mule.connectors")
+        .setArtifactId("mule-test-connector")
+        .setClassifier("mule-plugin")
+        .setVersion(version).build();
+  }
+}
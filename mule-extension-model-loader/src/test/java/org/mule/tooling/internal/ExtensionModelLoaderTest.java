@@ -59,4 +59,44 @@ class ExtensionModelLoaderTest extends MavenClientTest {
         .as("No all extensions models has been loaded")
         .containsAll(Arrays.asList("ee", "mule", "Sockets", "module", "api-gateway", "tls", "HTTP"));
   }
+
+  @Test
+  void pluginClassLoadersAreDisposed(@TempDir Path tempDir) throws IOException {
+    final Path temp = Files.createDirectories(tempDir.resolve("dummy/"));
+    final File m2Repo = getM2Repo(getM2Home());
+    final MavenClient client =
+        getMavenClientInstance(getMavenConfiguration(m2Repo, getUserSettings(m2Repo), getSettingsSecurity(m2Repo)));
+    final DefaultExtensionModelLoader extensionModelLoader = (DefaultExtensionModelLoader) ExtensionModelLoaderFactory
+        .createLoader(client, temp, ModuleDiscoverer.class.getClassLoader(), "4.4.0");
+    final BundleDescriptor bundleDescriptor = new BundleDescriptor.Builder()
+        .setGroupId("org.mule.connectors")
+        .setArtifactId("mule-http-connector")
+        .setClassifier("mule-plugin")
+        .setVersion("1.5.25").build();
+
+    extensionModelLoader.load(bundleDescriptor);
+    extensionModelLoader.load(bundleDescriptor);
+
+    assertThat(extensionModelLoader.getSession().getActiveClassLoaders())
+        .as("Plugin class loaders should be disposed once the plugin is loaded")
+        .isZero();
+    extensionModelLoader.close();
+  }
+
+  @Test
+  void sessionFilesAreDeletedWhenTheLoaderIsClosed(@TempDir Path tempDir) throws IOException {
+    final Path temp = Files.createDirectories(tempDir.resolve("dummy/"));
+    final File m2Repo = getM2Repo(getM2Home());
+    final MavenClient client =
+        getMavenClientInstance(getMavenConfiguration(m2Repo, getUserSettings(m2Repo), getSettingsSecurity(m2Repo)));
+    final DefaultExtensionModelLoader extensionModelLoader = (DefaultExtensionModelLoader) ExtensionModelLoaderFactory
+        .createLoader(client, temp, ModuleDiscoverer.class.getClassLoader(), "4.4.0");
+    final ExtensionModelLoaderSession session = extensionModelLoader.getSession();
+
+    assertThat(session.getNativeLibrariesFolder().toPath()).startsWith(session.getTemporaryFolder().toPath());
+
+    extensionModelLoader.close();
+
+    assertThat(session.getTemporaryFolder()).doesNotExist();
+  }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.core.api.extension.provider.MuleExtensionModelProvider;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RuntimeExtensionModelsCacheTest {
+
+  @BeforeEach
+  @AfterEach
+  void clearCache() {
+    RuntimeExtensionModelsCache.clear();
+  }
+
+  @Test
+  void runtimeExtensionModelsAreBuiltOncePerRuntimeVersion() {
+    Set<ExtensionModel> first = RuntimeExtensionModelsCache.getAll("4.4.0");
+    Set<ExtensionModel> second = RuntimeExtensionModelsCache.getAll("4.4.0");
+    RuntimeExtensionModelsCache.getAll("4.5.0");
+
+    assertThat(second).isSameAs(first);
+    assertThat(first).contains(MuleExtensionModelProvider.getExtensionModel())
+        .containsAll(RuntimeExtensionModelsCache.getDiscovered("4.4.0"));
+    assertThat(RuntimeExtensionModelsCache.getMisses()).isEqualTo(2);
+    assertThat(RuntimeExtensionModelsCache.getHits()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tooling.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
+import static org.mule.runtime.module.artifact.api.descriptor.ArtifactDescriptorConstants.MULE_LOADER_ID;
+
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptorLoader;
+import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderConfigurationLoader;
+import org.mule.runtime.module.artifact.api.descriptor.LoaderNotFoundException;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+
+class ToolingDescriptorLoaderRepositoryTest {
+
+  @Test
+  void loaderIsFoundByIdAndArtifactType() throws Exception {
+    ToolingDescriptorLoaderRepository repository = new ToolingDescriptorLoaderRepository();
+
+    assertThat(repository.get(MULE_LOADER_ID, APP, ClassLoaderConfigurationLoader.class))
+        .isInstanceOf(ToolingClassLoaderConfigurationLoader.class);
+  }
+
+  @Test
+  void unknownLoaderIsNotFound() {
+    ToolingDescriptorLoaderRepository repository = new ToolingDescriptorLoaderRepository();
+
+    assertThatThrownBy(() -> repository.get("unknown", APP, ClassLoaderConfigurationLoader.class))
+        .isInstanceOf(LoaderNotFoundException.class);
+  }
+
+  @Test
+  void everyLookupGetsItsOwnProviders() {
+    ClassLoader classLoader = getClass().getClassLoader();
+
+    Collection<BundleDescriptorLoader> first =
+        ToolingDescriptorLoaderRepository.doLookupProviders(BundleDescriptorLoader.class, classLoader);
+    Collection<BundleDescriptorLoader> second =
+        ToolingDescriptorLoaderRepository.doLookupProviders(BundleDescriptorLoader.class, classLoader);
+
+    assertThat(second).extracting(Object::getClass).containsExactlyElementsOf(first.stream().map(Object::getClass)
+        .collect(toList()));
+    assertThat(second).doesNotContainAnyElementsOf(first);
+  }
+}
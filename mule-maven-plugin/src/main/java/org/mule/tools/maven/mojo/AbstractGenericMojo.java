@@ -15,6 +15,7 @@ import org.mule.tools.api.packager.packaging.PackagingType;
 import org.mule.tools.api.validation.project.ProjectRequirement;
 import org.mule.tools.api.verifier.ProjectVerifier;
 import org.mule.tools.api.verifier.ProjectVerifyFactory;
+import org.mule.tools.api.repository.MavenClientPool;
 import org.mule.tools.api.repository.MuleMavenPluginClientBuilder;
 import org.mule.tools.api.validation.project.AbstractProjectValidator;
 import org.mule.tools.api.validation.project.ProjectValidatorFactory;
@@ -22,6 +23,8 @@ import org.mule.tools.api.classloader.model.resolver.Plugin;
 import org.mule.tools.api.util.ArtifactUtils;
 import org.mule.tools.api.util.MavenPackagerLog;
 import org.mule.tools.api.util.MavenProjectInformation;
+import org.mule.tools.api.util.ProjectInformationCache;
+import org.mule.tools.api.util.TimingReports;
 import org.mule.tools.maven.utils.ProjectDirectoryUpdater;
 import org.mule.tools.model.Deployment;
 import org.mule.tools.model.agent.AgentDeployment;
@@ -31,8 +34,12 @@ import org.mule.tools.model.anypoint.Cloudhub2Deployment;
 import org.mule.tools.model.anypoint.RuntimeFabricOnPremiseDeployment;
 import org.mule.tools.model.standalone.ClusterDeployment;
 import org.mule.tools.model.standalone.StandaloneDeployment;
+import org.mule.tools.utils.TimingReport;
+import org.mule.tools.utils.jfr.FlightRecorderEvents;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -45,6 +52,7 @@ import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -54,6 +62,8 @@ import org.eclipse.aether.repository.RemoteRepository;
 @SuppressWarnings("unchecked")
 public abstract class AbstractGenericMojo extends AbstractMojo {
 
+  private static final String TIMING_REPORT = "mule-build-timings.json";
+
   @Parameter
   protected CloudHubDeployment cloudHubDeployment;
 
@@ -120,6 +130,24 @@ public abstract class AbstractGenericMojo extends AbstractMojo {
   @Parameter
   protected List<String> customDomains = new ArrayList<>();
 
+  /**
+   * Writes the time and memory allocated by each step of the module build to
+   * {@code ${project.build.directory}/mule-build-timings.json}. When the build ends, a summary of every module is logged and
+   * written to {@code mule-build-timings-summary.json} in the build directory of the top level project.
+   */
+  @Parameter(property = "timingReport", defaultValue = "false")
+  protected boolean timingReport = false;
+
+  /**
+   * Emits Java Flight Recorder events for artifact installs, jar scans, extension model loads, deployment HTTP calls and
+   * deployment verification polls, so they show up in the JFR recordings of the build. Requires a JVM with JFR support.
+   */
+  @Parameter(property = "flightRecorderEvents", defaultValue = "false")
+  protected boolean flightRecorderEvents = false;
+
+  @Parameter(readonly = true, defaultValue = "${mojoExecution}")
+  protected MojoExecution mojoExecution;
+
   protected AbstractProjectValidator validator;
 
   protected ProjectVerifier verifier;
@@ -142,6 +170,12 @@ public abstract class AbstractGenericMojo extends AbstractMojo {
     if (customDomains.size() > 0) {
       new ExchangeHelper(customDomains).saveCustomDomains(session.getRequest().getSystemProperties());
     }
+    if (flightRecorderEvents != FlightRecorderEvents.isEnabled()) {
+      boolean enabled = FlightRecorderEvents.setEnabled(flightRecorderEvents);
+      if (flightRecorderEvents && !enabled) {
+        getLog().warn("Flight recorder events were requested but the JVM does not support them");
+      }
+    }
   }
 
   public void setCloudHubDeployment(CloudHubDeployment cloudHubDeployment) {
@@ -193,7 +227,8 @@ public abstract class AbstractGenericMojo extends AbstractMojo {
       ProjectRequirement requirement = new ProjectRequirement.ProjectRequirementBuilder().withStrictCheck(strictCheck)
           .withDisableSemver(disableSemver).build();
       validator =
-          ProjectValidatorFactory.create(getProjectInformation(), getMavenClient(), sharedLibraries, requirement);
+          ProjectValidatorFactory.create(getProjectInformation(), getMavenClient(), sharedLibraries, requirement,
+                                         ProjectInformationCache.getInstance(session));
     }
     return validator;
   }
@@ -210,11 +245,46 @@ public abstract class AbstractGenericMojo extends AbstractMojo {
           .withUserProperties(request.getUserProperties())
           .withActiveProfiles(request.getActiveProfiles())
           .withInactiveProfiles(request.getInactiveProfiles())
-          .build();
+          .build(getMavenClientPool());
     }
     return mavenClient;
   }
 
+  protected MavenClientPool getMavenClientPool() {
+    return MavenClientPool.getInstance(session);
+  }
+
+  /**
+   * Runs {@link #doExecute()}, measuring its steps when the timing report is enabled.
+   */
+  protected void doExecuteWithTimings() throws MojoExecutionException, MojoFailureException {
+    if (!timingReport) {
+      doExecute();
+      return;
+    }
+    TimingReports reports = TimingReports.getInstance(session);
+    TimingReport report = reports.getReport(project.getId());
+    TimingReport.bind(report);
+    try (TimingReport.Step step = TimingReport.step("mojo:" + getGoal())) {
+      doExecute();
+    } finally {
+      TimingReport.unbind();
+      writeTimingReport(report);
+    }
+  }
+
+  private void writeTimingReport(TimingReport report) {
+    try {
+      report.write(Paths.get(project.getBuild().getDirectory()).resolve(TIMING_REPORT));
+    } catch (IOException e) {
+      getLog().warn("Could not write the build timing report", e);
+    }
+  }
+
+  protected String getGoal() {
+    return mojoExecution != null ? mojoExecution.getGoal() : getClass().getSimpleName();
+  }
+
   protected List<ArtifactCoordinates> toArtifactCoordinates(List<Dependency> dependencies) {
     return dependencies.stream().map(ArtifactUtils::toArtifactCoordinates).collect(Collectors.toList());
   }
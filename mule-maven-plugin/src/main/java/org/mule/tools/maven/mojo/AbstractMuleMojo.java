@@ -8,10 +8,16 @@ package org.mule.tools.maven.mojo;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.ProjectBuilder;
@@ -21,13 +27,18 @@ import org.mule.runtime.api.deployment.persistence.MuleApplicationModelJsonSeria
 import org.mule.tools.api.packager.resources.content.ResourcesContent;
 import org.mule.tools.api.packager.sources.ContentGenerator;
 import org.mule.tools.api.packager.sources.ContentGeneratorFactory;
+import org.mule.tools.api.util.BuildStatus;
+import org.mule.tools.api.util.Fingerprint;
 import org.mule.tools.api.util.Project;
 import org.mule.tools.api.validation.resolver.MulePluginResolver;
 import org.mule.tools.api.util.MavenProjectBuilder;
 import org.mule.tools.maven.utils.MuleApplicationModelLoader;
 
 import static java.nio.charset.Charset.defaultCharset;
+import static java.util.Collections.emptyList;
 import static org.apache.commons.io.FileUtils.readFileToString;
+import static org.mule.tools.api.packager.structure.PackagerFiles.MULE_ARTIFACT_JSON;
+import static org.mule.tools.api.packager.structure.PackagerFiles.POM_XML;
 import static org.mule.tools.maven.utils.MuleApplicationModelLoader.MULE_ARTIFACT_JSON_FILE_NAME;
 
 /**
@@ -54,16 +65,134 @@ public abstract class AbstractMuleMojo extends AbstractGenericMojo {
 
   protected static ResourcesContent resourcesContent;
 
+  /**
+   * Skips the goal when none of its inputs (project files, resolved dependencies, plugin configuration, user properties and
+   * plugin version) changed since its last execution and its outputs are intact. The fingerprints of the last execution are
+   * stored in {@code ${project.build.directory}/maven-status/mule-maven-plugin}. Disabled by default.
+   */
+  @Parameter(property = "incrementalBuild", defaultValue = "false")
+  protected boolean incrementalBuild;
 
   public void execute() throws MojoExecutionException, MojoFailureException {
     if (!hasExecutedBefore()) {
       initMojo();
-      doExecute();
+      if (incrementalBuild) {
+        executeIncrementally();
+      } else {
+        executeGoal();
+      }
     } else {
       getLog().debug("Skipping execution because it has already been run");
     }
   }
 
+  private void executeGoal() throws MojoExecutionException, MojoFailureException {
+    if (timingReport) {
+      doExecuteWithTimings();
+    } else {
+      doExecute();
+    }
+  }
+
+  private void executeIncrementally() throws MojoExecutionException, MojoFailureException {
+    Optional<Fingerprint> inputs;
+    try {
+      inputs = getIncrementalInputs();
+    } catch (IOException e) {
+      getLog().warn("Could not fingerprint the inputs of " + getGoal() + ", it will be executed", e);
+      inputs = Optional.empty();
+    }
+    if (!inputs.isPresent()) {
+      executeGoal();
+      return;
+    }
+
+    BuildStatus status = new BuildStatus(getBuildStatusFolder(), getGoal());
+    try {
+      if (status.isUpToDate(inputs.get(), getIncrementalOutputs())) {
+        getLog().info("Nothing changed since the last execution of " + getGoal() + ", skipping it");
+        onUpToDate();
+        return;
+      }
+      status.getChangedInputs(inputs.get())
+          .ifPresent(changed -> getLog().debug("Inputs of " + getGoal() + " changed: " + changed));
+      // The status is only kept for executions that completed
+      status.invalidate();
+    } catch (IOException e) {
+      getLog().warn("Could not read the status of the last execution of " + getGoal(), e);
+    }
+
+    executeGoal();
+
+    try {
+      status.record(inputs.get(), getIncrementalOutputs());
+    } catch (IOException e) {
+      getLog().warn("Could not record the status of " + getGoal() + ", it will be executed again in the next build", e);
+    }
+  }
+
+  /**
+   * Fingerprint of everything the goal depends on, so it is skipped when it did not change. Goals that can not be skipped return
+   * empty, which is the default.
+   */
+  protected Optional<Fingerprint> getIncrementalInputs() throws IOException {
+    return Optional.empty();
+  }
+
+  /**
+   * Files and folders the goal produces. The goal is not skipped if any of them is missing or was modified since its last
+   * execution.
+   */
+  protected List<Path> getIncrementalOutputs() {
+    return emptyList();
+  }
+
+  /**
+   * Called instead of {@link #doExecute()} when the goal is up to date, for goals that have to update the project model on every
+   * build.
+   */
+  protected void onUpToDate() throws MojoExecutionException {}
+
+  /**
+   * @return the inputs shared by every goal: project descriptors, resolved dependencies, plugin configuration and version, user
+   *         properties and active profiles
+   */
+  protected Fingerprint getCommonInputs() throws IOException {
+    Path basePath = projectBaseFolder.toPath();
+    Fingerprint fingerprint = new Fingerprint()
+        .with("goal", getGoal())
+        .with("pluginVersion", getPluginDescriptor().map(PluginDescriptor::getVersion).orElse(null))
+        .with("classifier", getClassifier())
+        .with("configuration", mojoExecution != null ? mojoExecution.getConfiguration() : null)
+        .with("activeProfiles", session.getRequest().getActiveProfiles())
+        .withFile(POM_XML, basePath.resolve(POM_XML))
+        .withFile(MULE_ARTIFACT_JSON, basePath.resolve(MULE_ARTIFACT_JSON));
+    Properties userProperties = session.getUserProperties();
+    if (userProperties != null) {
+      userProperties.stringPropertyNames()
+          .forEach(name -> fingerprint.with("property." + name, userProperties.getProperty(name)));
+    }
+    for (Artifact artifact : project.getArtifacts()) {
+      // Reactor modules resolved to their output folder change without any change in their own stamp
+      fingerprint.withPathStamps("dependency." + artifact.getId(), artifact.getFile());
+    }
+    // Snapshots of the plugin keep their version, so its jar is part of the fingerprint as well
+    getPluginDescriptor().map(PluginDescriptor::getPluginArtifact)
+        .ifPresent(pluginArtifact -> fingerprint.withFileStamp("pluginArtifact", pluginArtifact.getFile()));
+    return fingerprint;
+  }
+
+  protected Path getBuildStatusFolder() {
+    return Paths.get(project.getBuild().getDirectory()).resolve("maven-status").resolve("mule-maven-plugin");
+  }
+
+  private Optional<PluginDescriptor> getPluginDescriptor() {
+    if (mojoExecution == null || mojoExecution.getMojoDescriptor() == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(mojoExecution.getMojoDescriptor().getPluginDescriptor());
+  }
+
   public ContentGenerator getContentGenerator() {
     if (contentGenerator == null) {
       contentGenerator = ContentGeneratorFactory.create(getProjectInformation(), project.getModel().getParent());
@@ -6,7 +6,16 @@
  */
 package org.mule.tools.maven.mojo;
 
+import static java.util.Collections.emptyList;
+import static org.mule.tools.api.packager.structure.FolderNames.CLASSES;
+
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
@@ -14,7 +23,9 @@ import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.mule.tools.api.packager.packaging.PackagingType;
 import org.mule.tools.api.packager.sources.MuleContentGenerator;
+import org.mule.tools.api.util.Fingerprint;
 
 /**
  * @author Mulesoft Inc.
@@ -38,6 +49,34 @@ public class CompileMojo extends AbstractMuleMojo {
     }
   }
 
+  @Override
+  protected Optional<Fingerprint> getIncrementalInputs() throws IOException {
+    return Optional.of(getCommonInputs().withDirectory("sources", getSourceFolder(), file -> true));
+  }
+
+  /**
+   * The copies of the Mule sources in the classes folder, which is shared with the Java compilation, so only the copied files are
+   * checked.
+   */
+  @Override
+  protected List<Path> getIncrementalOutputs() {
+    Path sourceFolder = getSourceFolder();
+    if (!Files.isDirectory(sourceFolder)) {
+      return emptyList();
+    }
+    Path classesFolder = getProjectInformation().getBuildDirectory().resolve(CLASSES.value());
+    try (Stream<Path> files = Files.walk(sourceFolder)) {
+      return files.filter(Files::isRegularFile).map(file -> classesFolder.resolve(sourceFolder.relativize(file).toString()))
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      return emptyList();
+    }
+  }
+
+  private Path getSourceFolder() {
+    return PackagingType.fromString(project.getPackaging()).getSourceFolderLocation(projectBaseFolder.toPath());
+  }
+
   @Override
   public String getPreviousRunPlaceholder() {
     return "MULE_MAVEN_PLUGIN_COMPILE_PREVIOUS_RUN_PLACEHOLDER";
@@ -9,6 +9,7 @@ package org.mule.tools.maven.mojo;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
 import org.mule.tools.api.packager.resources.generator.DomainBundleProjectResourcesContentGenerator;
@@ -22,6 +23,12 @@ import org.mule.tools.api.packager.resources.generator.ResourcesContentGenerator
     requiresDependencyResolution = ResolutionScope.RUNTIME)
 public class GenerateResourcesMojo extends AbstractMuleMojo {
 
+  /**
+   * Maximum number of applications and domains of a domain bundle resolved at the same time.
+   */
+  @Parameter(property = "domainBundleThreads", defaultValue = "4")
+  protected int domainBundleThreads = 4;
+
   @Override
   public void doExecute() throws MojoFailureException {
     try {
@@ -33,7 +40,8 @@ public class GenerateResourcesMojo extends AbstractMuleMojo {
 
   public ResourcesContentGenerator getResourcesContentGenerator() {
     return new DomainBundleProjectResourcesContentGenerator(getMavenClient(),
-                                                            toArtifactCoordinates(project.getDependencies()));
+                                                            toArtifactCoordinates(project.getDependencies()),
+                                                            getMavenClientPool().getResolutionCache(), domainBundleThreads);
   }
 
   @Override
@@ -6,7 +6,19 @@
  */
 package org.mule.tools.maven.mojo;
 
+import static java.util.Arrays.asList;
+import static org.mule.tools.api.packager.structure.FolderNames.MAVEN;
+import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
+import static org.mule.tools.api.packager.structure.FolderNames.MULE_SRC;
+
+import org.mule.tools.api.packager.ProjectInformation;
+import org.mule.tools.api.packager.sources.MuleContentGenerator;
+import org.mule.tools.api.util.Fingerprint;
+
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -31,6 +43,31 @@ public class GenerateSourcesMojo extends AbstractMuleMojo {
     }
   }
 
+  /**
+   * The whole project is copied to {@code META-INF/mule-src}, so any file of the project, other than the build output, is an
+   * input.
+   */
+  @Override
+  protected Optional<Fingerprint> getIncrementalInputs() throws IOException {
+    if (!(getContentGenerator() instanceof MuleContentGenerator)) {
+      return Optional.empty();
+    }
+    Path buildDirectory = getProjectInformation().getBuildDirectory().toAbsolutePath();
+    Path gitDirectory = projectBaseFolder.toPath().toAbsolutePath().resolve(".git");
+    return Optional.of(getCommonInputs()
+        .withDirectoryStamps("project", projectBaseFolder.toPath().toAbsolutePath(),
+                             file -> !file.startsWith(buildDirectory) && !file.startsWith(gitDirectory)));
+  }
+
+  @Override
+  protected List<Path> getIncrementalOutputs() {
+    ProjectInformation projectInformation = getProjectInformation();
+    Path metaInf = projectInformation.getBuildDirectory().resolve(META_INF.value());
+    return asList(metaInf.resolve(MULE_SRC.value()).resolve(projectInformation.getArtifactId()),
+                  metaInf.resolve(MAVEN.value()).resolve(projectInformation.getGroupId())
+                      .resolve(projectInformation.getArtifactId()));
+  }
+
   @Override
   public String getPreviousRunPlaceholder() {
     return "MULE_MAVEN_PLUGIN_GENERATE_SOURCES_PREVIOUS_RUN_PLACEHOLDER";
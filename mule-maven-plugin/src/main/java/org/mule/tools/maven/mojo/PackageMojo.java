@@ -8,24 +8,35 @@ package org.mule.tools.maven.mojo;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.mule.tools.api.packager.packaging.Classifier.MULE_APPLICATION_EXAMPLE;
 import static org.mule.tools.api.packager.packaging.Classifier.MULE_APPLICATION_TEMPLATE;
 import static org.mule.tools.api.packager.packaging.Classifier.MULE_PLUGIN;
 import static org.mule.tools.api.packager.packaging.Classifier.MULE_POLICY;
 import static org.mule.tools.api.packager.packaging.PackagingType.MULE_DOMAIN_BUNDLE;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.mule.tools.api.packager.archiver.CompressionLevel;
+import org.mule.tools.api.packager.archiver.OutputTimestamp;
 import org.mule.tools.api.packager.builder.PackageBuilder;
 import org.mule.tools.api.packager.builder.PackageBuilderFactory;
 import org.mule.tools.api.packager.packaging.PackagingOptions;
+import org.mule.tools.api.util.Fingerprint;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Component;
@@ -46,6 +57,8 @@ public class PackageMojo extends AbstractMuleMojo {
 
   private static final String JAR_EXTENSION = "jar";
   private static final String ZIP_EXTENSION = "zip";
+  private static final Set<String> EXCLUDED_BUILD_FOLDERS =
+      new HashSet<>(asList("maven-status", "surefire-reports", "munit-reports", "site"));
 
   @Component
   protected MavenProjectHelper helper;
@@ -58,6 +71,37 @@ public class PackageMojo extends AbstractMuleMojo {
 
   @Parameter(defaultValue = "${attachMuleSources}")
   protected boolean attachMuleSources = false;
+
+  /**
+   * Compresses the archive entries in parallel, storing the already compressed ones (e.g. the jars in the repository folder)
+   * without compressing them again.
+   */
+  @Parameter(defaultValue = "${parallelCompression}")
+  protected boolean parallelCompression = false;
+
+  /**
+   * Compression level, from 0 (store) to 9, by entry path glob pattern. Only applied when {@code parallelCompression} is enabled.
+   */
+  @Parameter
+  protected List<CompressionLevel> compressionLevels;
+
+  /**
+   * Creates a reproducible archive: sorted entries, normalized permissions and fixed timestamps, taken from
+   * {@code project.build.outputTimestamp} when defined. Defining {@code project.build.outputTimestamp} also enables it.
+   */
+  @Parameter(defaultValue = "${reproducibleBuild}")
+  protected boolean reproducibleBuild = false;
+
+  @Parameter(defaultValue = "${project.build.outputTimestamp}")
+  protected String outputTimestamp;
+
+  /**
+   * Creates the application as a folder instead of an archive, hard linking its files where possible. Meant for fast local
+   * development loops: the folder can be deployed straight to a Standalone Mule Runtime, but not installed in a Maven repository.
+   * Not supported for domain bundles.
+   */
+  @Parameter(defaultValue = "${explodedPackage}")
+  protected boolean explodedPackage = false;
   protected PackagingOptions options;
 
   @Override
@@ -71,7 +115,46 @@ public class PackageMojo extends AbstractMuleMojo {
     } catch (ArchiverException | IOException e) {
       throw new MojoExecutionException("Exception creating the Mule App", e);
     }
+    attachArtifacts(destinationFile);
+  }
 
+  /**
+   * The package is up to date, but the project still needs its main artifact.
+   */
+  @Override
+  protected void onUpToDate() {
+    attachArtifacts(Paths.get(project.getBuild().getDirectory(), getFileName()).toFile());
+  }
+
+  /**
+   * The package contains the content generated in the build directory by the previous goals, so every file in it is an input
+   * except the packages themselves, the build status and the reports.
+   */
+  @Override
+  protected Optional<Fingerprint> getIncrementalInputs() throws IOException {
+    Path buildDirectory = Paths.get(project.getBuild().getDirectory()).toAbsolutePath();
+    Path destination = buildDirectory.resolve(getFileName());
+    return Optional.of(getCommonInputs()
+        .with("onlyMuleSources", onlyMuleSources)
+        .with("attachMuleSources", attachMuleSources)
+        .with("parallelCompression", parallelCompression)
+        .with("reproducibleBuild", reproducibleBuild)
+        .with("outputTimestamp", outputTimestamp)
+        .with("explodedPackage", explodedPackage)
+        .with("lightweightPackage", lightweightPackage)
+        .with("useLocalRepository", useLocalRepository)
+        .with("testJar", testJar)
+        .withDirectoryStamps("target", buildDirectory,
+                             file -> !file.startsWith(destination) && (!file.getParent().equals(buildDirectory)
+                                 || Files.isDirectory(file) && !EXCLUDED_BUILD_FOLDERS.contains(file.getFileName().toString()))));
+  }
+
+  @Override
+  protected List<Path> getIncrementalOutputs() {
+    return singletonList(Paths.get(project.getBuild().getDirectory(), getFileName()));
+  }
+
+  private void attachArtifacts(File destinationFile) {
     Artifact artifact = new DefaultArtifact(this.project.getGroupId(),
                                             this.project.getArtifactId(),
                                             this.project.getVersion(),
@@ -93,8 +176,8 @@ public class PackageMojo extends AbstractMuleMojo {
   }
 
   /**
-   * Given a {@code targetFolder}, it returns a new {@link File} to the new compressed file where the complete Mule app will be
-   * stored. If the file already exists, it will delete it and create a new one.
+   * Given a {@code targetFolder}, it returns a new {@link File} to the new compressed file (or folder, for exploded packages)
+   * where the complete Mule app will be stored. If the file already exists, it will delete it and create a new one.
    *
    * @param targetFolder starting path in which the destination file will be stored
    * @return the destination file to store the Mule app
@@ -104,7 +187,11 @@ public class PackageMojo extends AbstractMuleMojo {
     checkArgument(targetFolder != null, "The target folder must not be null");
     Path destinationPath = Paths.get(targetFolder, getFileName());
     try {
-      Files.deleteIfExists(destinationPath);
+      if (Files.isDirectory(destinationPath)) {
+        FileUtils.deleteDirectory(destinationPath.toFile());
+      } else {
+        Files.deleteIfExists(destinationPath);
+      }
     } catch (IOException e) {
       throw new MojoExecutionException(String.format("Exception deleting the file [%s]", destinationPath), e);
     }
@@ -112,21 +199,41 @@ public class PackageMojo extends AbstractMuleMojo {
   }
 
   protected String getFileName() {
-    return project.getBuild().getFinalName() + "-" + getClassifier() + "." + getType();
+    String fileName = project.getBuild().getFinalName() + "-" + getClassifier();
+    return isExplodedPackage() ? fileName : fileName + "." + getType();
+  }
+
+  protected boolean isExplodedPackage() {
+    return explodedPackage && !getPackagingType().equals(MULE_DOMAIN_BUNDLE);
   }
 
-  protected PackageBuilder getPackageBuilder() {
+  protected PackageBuilder getPackageBuilder() throws MojoExecutionException {
     options = buildPackagingOptions();
     return PackageBuilderFactory.create(getPackagingType(), options);
   }
 
-  protected PackagingOptions buildPackagingOptions() {
+  protected PackagingOptions buildPackagingOptions() throws MojoExecutionException {
     boolean isMuleApplicationTemplate = MULE_APPLICATION_TEMPLATE.equals(classifier);
     boolean isMuleApplicationExample = MULE_APPLICATION_EXAMPLE.equals(classifier);
     boolean isMuleReusableApp = MULE_PLUGIN.equals(classifier);
     return new PackagingOptions(isMuleApplicationTemplate || onlyMuleSources,
                                 isMuleReusableApp || lightweightPackage, isMuleApplicationExample || attachMuleSources,
-                                testJar, useLocalRepository);
+                                testJar, useLocalRepository)
+                                    .withParallelCompression(parallelCompression, compressionLevels)
+                                    .withOutputTimestamp(getOutputTimestamp())
+                                    .withExploded(isExplodedPackage());
+  }
+
+  protected FileTime getOutputTimestamp() throws MojoExecutionException {
+    try {
+      if (reproducibleBuild) {
+        return OutputTimestamp.resolve(outputTimestamp);
+      }
+      return OutputTimestamp.parse(outputTimestamp).orElse(null);
+    } catch (IllegalArgumentException e) {
+      throw new MojoExecutionException("Invalid project.build.outputTimestamp value '" + outputTimestamp + "', it should be an "
+          + "ISO-8601 date with offset, such as 2023-01-01T00:00:00Z, or the number of seconds since the epoch", e);
+    }
   }
 
   private String getType() {
@@ -6,13 +6,20 @@
  */
 package org.mule.tools.maven.mojo;
 
+import static org.mule.tooling.api.ExtensionModelLoaderFactory.getRuntimeExtensionModelsCacheHits;
+import static org.mule.tooling.api.ExtensionModelLoaderFactory.getRuntimeExtensionModelsCacheMisses;
 import static org.mule.tools.api.packager.packaging.Classifier.MULE_PLUGIN;
+import static org.mule.tools.api.packager.structure.FolderNames.CLASSES;
+import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
+import static org.mule.tools.api.packager.structure.FolderNames.MULE_ARTIFACT;
+import static org.mule.tools.api.packager.structure.PackagerFiles.MULE_ARTIFACT_JSON;
 import static org.mule.tools.maven.mojo.model.lifecycle.MavenLifecyclePhase.VALIDATE;
 
 import org.mule.runtime.api.meta.MuleVersion;
 import org.mule.runtime.ast.api.ArtifactAst;
 import org.mule.runtime.ast.api.validation.ValidationResultItem;
 import org.mule.tooling.api.AstGenerator;
+import org.mule.tooling.api.AstSerializationResult;
 import org.mule.tooling.api.AstValidatonResult;
 import org.mule.tooling.api.ConfigurationException;
 import org.mule.tooling.api.DynamicStructureException;
@@ -20,11 +27,21 @@ import org.mule.tools.api.exception.ValidationException;
 import org.mule.tools.api.packager.sources.MuleArtifactContentResolver;
 import org.mule.tools.api.packager.sources.MuleContentGenerator;
 import org.mule.tools.api.packager.structure.ProjectStructure;
+import org.mule.tools.api.util.Fingerprint;
+import org.mule.tools.utils.TimingReport;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -33,6 +50,7 @@ import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
 /**
@@ -51,6 +69,27 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
   private static final String MULE_DOMAIN = "mule-domain";
   private static final String SKIP_AST = "skipAST";
   private static final String SKIP_AST_VALIDATION = "skipASTValidation";
+  private static final String AST_WARNINGS = "artifact-ast.warnings";
+
+  private final List<String> astWarnings = new ArrayList<>();
+
+  /**
+   * Folder where the extension models of released mule-plugins are cached between builds, keyed by plugin coordinates, plugin
+   * jar checksum and runtime version.
+   */
+  @Parameter(property = "extensionModelsCacheDirectory",
+      defaultValue = "${settings.localRepository}/.cache/mule-extension-models")
+  protected File extensionModelsCacheDirectory;
+
+  @Parameter(property = "skipExtensionModelsCache", defaultValue = "false")
+  protected boolean skipExtensionModelsCache;
+
+  /**
+   * Maximum number of dependencies whose extension models are loaded concurrently when generating the artifact AST. Each plugin
+   * is loaded in its own class loader, so loading them concurrently does not change the resulting extension models.
+   */
+  @Parameter(property = "extensionModelLoadingThreads", defaultValue = "1")
+  protected int extensionModelLoadingThreads = 1;
 
   @Override
   public void doExecute() throws MojoExecutionException, MojoFailureException {
@@ -59,7 +98,7 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
 
       String skipAST = System.getProperty(SKIP_AST);
       // apps in domains are not currently supported MMP-588
-      if ((skipAST == null || skipAST.equals("false")) && !project.getPackaging().equals(MULE_POLICY) && !hasDomain()) {
+      if ((skipAST == null || skipAST.equals("false")) && !isPolicy() && !hasDomain()) {
         processAst();
       }
     } catch (IllegalArgumentException | IOException | ConfigurationException e) {
@@ -89,6 +128,11 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
   }
 
   private void processAst() throws IOException, ConfigurationException, MojoExecutionException {
+    MuleContentGenerator contentGenerator = (MuleContentGenerator) getContentGenerator();
+    Path warningsFile = getBuildStatusFolder().resolve(AST_WARNINGS);
+    // The warnings are only kept for ASTs that were completely generated
+    Files.deleteIfExists(warningsFile);
+
     ArtifactAst artifact;
     try {
       artifact = getArtifactAst();
@@ -100,10 +144,84 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
     }
 
     if (artifact != null) {
-      ((MuleContentGenerator) getContentGenerator()).createAstFile(serialize(artifact));
+      AstSerializationResult serialization = AstGenerator.serialize(artifact, contentGenerator.getAstFile());
+      getLog().debug("Artifact AST serialized: " + serialization);
+      if (incrementalBuild) {
+        Files.createDirectories(warningsFile.getParent());
+        Files.write(warningsFile, astWarnings);
+      }
+    }
+  }
+
+  /**
+   * The validation warnings of the artifact AST are shown again when the goal is skipped, as they are not part of its outputs.
+   */
+  @Override
+  protected void onUpToDate() throws MojoExecutionException {
+    Path warningsFile = getBuildStatusFolder().resolve(AST_WARNINGS);
+    if (!Files.isRegularFile(warningsFile)) {
+      return;
+    }
+    try {
+      for (String warning : Files.readAllLines(warningsFile)) {
+        getLog().warn(warning);
+      }
+    } catch (IOException e) {
+      getLog().debug("Could not read the warnings of the artifact AST", e);
     }
   }
 
+  /**
+   * The goal generates the artifact AST, completes the mule-artifact.json from the compiled classes and validates the project, so
+   * its inputs are the ones of the AST (configs, resources, dependencies, runtime version and AST settings) plus the compiled
+   * classes and the validation settings. The artifact AST is generated by a single parse that resolves the references between
+   * configs, so any change in them requires running the whole goal again.
+   */
+  @Override
+  protected Optional<Fingerprint> getIncrementalInputs() throws IOException {
+    Path basePath = projectBaseFolder.toPath();
+    Fingerprint inputs = getCommonInputs().with("skipValidation", skipValidation);
+    // Policies never have an artifact AST, so the AST settings do not change their outcome
+    if (!isPolicy()) {
+      inputs.with("skipAST", System.getProperty(SKIP_AST))
+          .with("skipASTValidation", System.getProperty(SKIP_AST_VALIDATION))
+          .with("runtimeVersion", runtimeVersion);
+    }
+    return Optional.of(inputs
+        .withDirectory("configs", new ProjectStructure(basePath, false).getConfigsPath(), file -> true)
+        .withDirectoryStamps("resources", basePath.resolve("src").resolve("main").resolve("resources"), file -> true)
+        .withDirectoryStamps("classes", Paths.get(project.getBuild().getDirectory()).resolve(CLASSES.value()), file -> true));
+  }
+
+  private boolean isPolicy() {
+    return MULE_POLICY.equals(project.getPackaging());
+  }
+
+  @Override
+  protected List<Path> getIncrementalOutputs() {
+    List<Path> outputs = new ArrayList<>();
+    outputs.add(getProjectInformation().getBuildDirectory().resolve(META_INF.value()).resolve(MULE_ARTIFACT.value())
+        .resolve(MULE_ARTIFACT_JSON));
+    if (getContentGenerator() instanceof MuleContentGenerator) {
+      Path astFile = ((MuleContentGenerator) getContentGenerator()).getAstFile();
+      if (Files.exists(astFile)) {
+        outputs.add(astFile);
+      }
+    }
+    return outputs;
+  }
+
+  private MuleVersion getAstRuntimeVersion() throws MojoExecutionException {
+    MuleVersion appMinRuntimeVersion = new MuleVersion(this.getMuleApplicationModelLoader().getRuntimeVersion());
+    return appMinRuntimeVersion.newerThan(MIN_RUNTIME_AST_VERSION) ? appMinRuntimeVersion : MIN_RUNTIME_AST_VERSION;
+  }
+
+  private boolean isAstValidationEnabled() {
+    String skipASTValidation = System.getProperty(SKIP_AST_VALIDATION);
+    return !this.getClassifier().equalsIgnoreCase(MULE_PLUGIN.toString())
+        && (skipASTValidation == null || skipASTValidation.equals("false"));
+  }
+
   @Override
   public String getPreviousRunPlaceholder() {
     return "MULE_MAVEN_PLUGIN_PROCESS_CLASSES_PREVIOUS_RUN_PLACEHOLDER";
@@ -113,35 +231,61 @@ public class ProcessClassesMojo extends AbstractMuleMojo {
       throws IOException, ConfigurationException, DynamicStructureException, MojoExecutionException {
     descriptor.getClassRealm()
         .addURL(project.getBasedir().toPath().resolve("src").resolve("main").resolve("resources").toUri().toURL());
-    MuleVersion appMinRuntimeVersion = new MuleVersion(this.getMuleApplicationModelLoader().getRuntimeVersion());
-    MuleVersion runtimeVersion =
-        appMinRuntimeVersion.newerThan(MIN_RUNTIME_AST_VERSION) ? appMinRuntimeVersion : MIN_RUNTIME_AST_VERSION;
+    MuleVersion runtimeVersion = getAstRuntimeVersion();
+    astWarnings.clear();
     MuleArtifactContentResolver contentResolver =
         new MuleArtifactContentResolver(new ProjectStructure(projectBaseFolder.toPath(), false),
                                         getProjectInformation().getEffectivePom(),
                                         getProjectInformation().getProject().getBundleDependencies());
-    AstGenerator astGenerator = new AstGenerator(getMavenClient(), runtimeVersion.toString(),
-                                                 project.getArtifacts(), Paths.get(project.getBuild().getDirectory()),
-                                                 descriptor.getClassRealm(), project.getDependencies(),
-                                                 contentResolver.isApplication());
+    AstGenerator astGenerator;
+    try (TimingReport.Step step = TimingReport.step("extension-model-loading")) {
+      astGenerator = new AstGenerator(getMavenClient(), runtimeVersion.toString(),
+                                      project.getArtifacts(), Paths.get(project.getBuild().getDirectory()),
+                                      descriptor.getClassRealm(), project.getDependencies(),
+                                      contentResolver.isApplication(), getExtensionModelsCacheDirectory(),
+                                      extensionModelLoadingThreads);
+    }
+    logPluginLoadTimes(astGenerator.getPluginLoadTimes());
+    getLog().debug("Runtime extension models cache: " + getRuntimeExtensionModelsCacheHits() + " hits, "
+        + getRuntimeExtensionModelsCacheMisses() + " misses");
     ProjectStructure projectStructure = new ProjectStructure(projectBaseFolder.toPath(), false);
 
-    ArtifactAst artifactAST = astGenerator.generateAST(contentResolver.getConfigs(), projectStructure.getConfigsPath());
-    String skipASTValidation = System.getProperty(SKIP_AST_VALIDATION);
-    if (artifactAST != null && !this.getClassifier().equalsIgnoreCase(MULE_PLUGIN.toString())
-        && (skipASTValidation == null || skipASTValidation.equals("false"))) {
-      AstValidatonResult validationResult = astGenerator.validateAST(artifactAST);
-      for (ValidationResultItem warning : validationResult.getWarnings()) {
-        getLog().warn(warning.getMessage());
-      }
-      if (!validationResult.getDynamicStructureErrors().isEmpty()) {
-        for (ValidationResultItem dynamicStructureError : validationResult.getDynamicStructureErrors()) {
-          getLog().warn(dynamicStructureError.getMessage());
+    try {
+      ArtifactAst artifactAST = astGenerator.generateAST(contentResolver.getConfigs(), projectStructure.getConfigsPath());
+      if (artifactAST != null && isAstValidationEnabled()) {
+        AstValidatonResult validationResult = astGenerator.validateAST(artifactAST);
+        for (ValidationResultItem warning : validationResult.getWarnings()) {
+          getLog().warn(warning.getMessage());
+          astWarnings.add(warning.getMessage());
+        }
+        if (!validationResult.getDynamicStructureErrors().isEmpty()) {
+          for (ValidationResultItem dynamicStructureError : validationResult.getDynamicStructureErrors()) {
+            getLog().warn(dynamicStructureError.getMessage());
+          }
+          throw new DynamicStructureException();
         }
-        throw new DynamicStructureException();
       }
+      return artifactAST;
+    } finally {
+      astGenerator.getPhaseTimes().forEach((phase, time) -> {
+        getLog().debug("AST " + phase + " phase took " + time + "ms");
+        TimingReport.current().ifPresent(report -> report.record("ast-" + phase, time, 0));
+      });
+    }
+  }
+
+  private void logPluginLoadTimes(Map<String, Long> pluginLoadTimes) {
+    if (pluginLoadTimes.isEmpty()) {
+      return;
     }
-    return artifactAST;
+    pluginLoadTimes.forEach((plugin, time) -> getLog().debug("Extension model for " + plugin + " loaded in " + time + "ms"));
+    Map.Entry<String, Long> slowest = Collections.max(pluginLoadTimes.entrySet(), Map.Entry.comparingByValue());
+    getLog().debug("Loaded the extension models of " + pluginLoadTimes.size() + " plugins using " + extensionModelLoadingThreads
+        + " thread(s), slowest was " + slowest.getKey() + " (" + slowest.getValue() + "ms)");
+  }
+
+  private Path getExtensionModelsCacheDirectory() {
+    return skipExtensionModelsCache || extensionModelsCacheDirectory == null ? null : extensionModelsCacheDirectory.toPath();
   }
 
   private boolean hasDomain() {
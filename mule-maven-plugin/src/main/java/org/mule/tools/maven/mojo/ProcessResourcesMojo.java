@@ -13,6 +13,7 @@ import java.util.Optional;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
 import org.mule.tools.api.packager.packaging.PackagingType;
@@ -24,6 +25,12 @@ import org.mule.tools.api.packager.resources.processor.ResourcesContentProcessor
     requiresDependencyResolution = ResolutionScope.RUNTIME)
 public class ProcessResourcesMojo extends AbstractMuleMojo {
 
+  /**
+   * Maximum number of applications and domains of a domain bundle placed in the bundle folders at the same time.
+   */
+  @Parameter(property = "domainBundleThreads", defaultValue = "4")
+  protected int domainBundleThreads = 4;
+
   @Override
   public void doExecute() throws MojoFailureException {
     try {
@@ -39,7 +46,8 @@ public class ProcessResourcesMojo extends AbstractMuleMojo {
   protected Optional<ResourcesContentProcessor> getResourcesContentProcessor() {
     PackagingType packaging = PackagingType.fromString(getProjectInformation().getPackaging());
     if (packaging == PackagingType.MULE_DOMAIN_BUNDLE) {
-      return Optional.of(new DomainBundleProjectResourcesContentProcessor(Paths.get(project.getBuild().getDirectory())));
+      return Optional.of(new DomainBundleProjectResourcesContentProcessor(Paths.get(project.getBuild().getDirectory()),
+                                                                          domainBundleThreads));
     } else {
       return Optional.empty();
     }
@@ -7,11 +7,20 @@
 package org.mule.tools.maven.mojo;
 
 import static java.lang.String.format;
+import static org.mule.tools.api.classloader.Constants.CLASSLOADER_MODEL_FILE_NAME;
 import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
 import static org.mule.tools.api.packager.structure.FolderNames.MULE_ARTIFACT;
+import static org.mule.tools.api.packager.structure.FolderNames.REPOSITORY;
+import org.mule.tools.api.util.Fingerprint;
 import org.mule.tools.api.util.MavenComponents;
 import org.mule.tools.api.util.SourcesProcessor;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -71,6 +80,30 @@ public class ProcessSourcesMojo extends AbstractMuleMojo {
     }
   }
 
+  /**
+   * The class loader model and the repository only depend on the resolved dependencies and the packaging flags. The goal runs
+   * before the compilation, so the compiled classes are not one of its inputs.
+   */
+  @Override
+  protected Optional<Fingerprint> getIncrementalInputs() throws IOException {
+    return Optional.of(getCommonInputs()
+        .with("prettyPrinting", prettyPrinting)
+        .with("lightweightPackage", lightweightPackage)
+        .with("useLocalRepository", useLocalRepository)
+        .with("testJar", testJar));
+  }
+
+  @Override
+  protected List<Path> getIncrementalOutputs() {
+    List<Path> outputs = new ArrayList<>();
+    if (!lightweightPackage || useLocalRepository) {
+      outputs.add(getProjectInformation().getBuildDirectory().resolve(META_INF.value()).resolve(MULE_ARTIFACT.value())
+          .resolve(CLASSLOADER_MODEL_FILE_NAME));
+      outputs.add(outputDirectory.toPath().resolve(REPOSITORY.value()));
+    }
+    return outputs;
+  }
+
   @Override
   public String getPreviousRunPlaceholder() {
     return "MULE_MAVEN_PLUGIN_PROCESS_SOURCES_PREVIOUS_RUN_PLACEHOLDER";
@@ -19,11 +19,12 @@ import org.mule.tools.model.anypoint.DeploymentConfigurator;
 import org.mule.tools.model.anypoint.MavenResolverMetadata;
 import org.mule.tools.utils.DeployerLog;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.artifact.factory.ArtifactFactory;
 import org.apache.maven.artifact.resolver.ArtifactResolver;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -61,6 +62,11 @@ public abstract class AbstractMuleDeployerMojo extends AbstractGenericMojo {
 
   protected Deployment deploymentConfiguration;
 
+  /**
+   * Every target the artifact is deployed to, starting with {@link #deploymentConfiguration}. Targets to skip are left out.
+   */
+  protected List<Deployment> deploymentTargets;
+
   /**
    * @see org.apache.maven.plugin.Mojo#execute()
    */
@@ -71,37 +77,65 @@ public abstract class AbstractMuleDeployerMojo extends AbstractGenericMojo {
     try {
       validateUniqueDeploymentConfiguration();
       new ProjectDeploymentValidator(getProjectInformation()).isDeployable();
-      deploymentConfiguration = getDeploymentConfiguration();
+      List<Deployment> deployments = getDeploymentConfigurations();
+      deploymentConfiguration = deployments.get(0);
+      deploymentTargets = deployments.stream().filter(target -> !"true".equals(target.getSkip())).collect(Collectors.toList());
     } catch (DeploymentException | ValidationException e) {
       throw new MojoExecutionException("Deployment configuration is not valid, ", e);
     }
 
-    if (StringUtils.isNotEmpty(deploymentConfiguration.getSkip()) && "true".equals(deploymentConfiguration.getSkip())) {
+    if (deploymentTargets.isEmpty()) {
       getLog().info("Skipping execution: skip=" + deploymentConfiguration.getSkip());
       return;
     }
+    deploymentConfiguration = deploymentTargets.get(0);
 
     setupProxy();
 
-    if (deploymentConfiguration instanceof AnypointDeployment) {
-      initializeAnypointDeploymentEnvironment();
+    for (Deployment target : deploymentTargets) {
+      if (target instanceof AnypointDeployment) {
+        initializeAnypointDeploymentEnvironment((AnypointDeployment) target);
+      }
     }
 
     getLog().debug("Executing mojo, skip=" + deploymentConfiguration.getSkip());
-    doExecute();
+    doExecuteWithTimings();
   }
 
   protected Deployment getDeploymentConfiguration() throws DeploymentException {
-    List<Deployment> deployments = getProjectInformation().getDeployments().stream().filter(Objects::nonNull)
-        .collect(Collectors.toList());
+    return getDeploymentConfigurations().get(0);
+  }
+
+  /**
+   * @return the deployment configuration followed by the additional targets of {@link #getAdditionalDeploymentTargets()}, with
+   *         their default values set
+   */
+  protected List<Deployment> getDeploymentConfigurations() throws DeploymentException {
+    List<Deployment> deployments = getAllDeployments();
 
     if (deployments.isEmpty()) {
       throw new DeploymentException("No deployment configuration was defined. Aborting.");
     }
 
-    Deployment deploymentConfiguration = deployments.get(0);
-    deploymentConfiguration.setDefaultValues(mavenProject);
-    return deploymentConfiguration;
+    for (Deployment deployment : deployments) {
+      deployment.setDefaultValues(mavenProject);
+    }
+    return deployments;
+  }
+
+  /**
+   * @return the targets, besides the deployment configuration, the artifact is deployed to in the same execution
+   */
+  protected List<Deployment> getAdditionalDeploymentTargets() {
+    return Collections.emptyList();
+  }
+
+  private List<Deployment> getAllDeployments() {
+    Stream<Deployment> deployments = getProjectInformation().getDeployments() != null
+        ? getProjectInformation().getDeployments().stream()
+        : Stream.empty();
+    return Stream.concat(deployments, getAdditionalDeploymentTargets().stream()).filter(Objects::nonNull)
+        .collect(Collectors.toList());
   }
 
   private void validateUniqueDeploymentConfiguration() throws ValidationException {
@@ -110,10 +144,10 @@ public abstract class AbstractMuleDeployerMojo extends AbstractGenericMojo {
       deployments = getProjectInformation().getDeployments().stream()
           .filter(Objects::nonNull).collect(Collectors.toList());
     }
-    if (deployments == null || deployments.isEmpty()) {
+    if ((deployments == null || deployments.isEmpty()) && getAllDeployments().isEmpty()) {
       throw new ValidationException("No deployment configuration was defined. Aborting.");
     }
-    if (deployments.size() > 1) {
+    if (deployments != null && deployments.size() > 1) {
       throw new ValidationException("One and only one deployment type can be set up per build. Aborting");
     }
   }
@@ -127,8 +161,12 @@ public abstract class AbstractMuleDeployerMojo extends AbstractGenericMojo {
   }
 
   public void initializeAnypointDeploymentEnvironment() throws MojoFailureException, MojoExecutionException {
-    DeploymentConfigurator deploymentConfigurator =
-        new DeploymentConfigurator((AnypointDeployment) deploymentConfiguration, new MavenDeployerLog(getLog()));
+    initializeAnypointDeploymentEnvironment((AnypointDeployment) deploymentConfiguration);
+  }
+
+  protected void initializeAnypointDeploymentEnvironment(AnypointDeployment deployment)
+      throws MojoFailureException, MojoExecutionException {
+    DeploymentConfigurator deploymentConfigurator = new DeploymentConfigurator(deployment, new MavenDeployerLog(getLog()));
     deploymentConfigurator.initializeApplication(getMetadata());
     deploymentConfigurator.initializeEnvironment(settings, decrypter);
   }
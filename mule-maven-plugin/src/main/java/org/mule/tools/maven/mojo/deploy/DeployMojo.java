@@ -6,16 +6,29 @@
  */
 package org.mule.tools.maven.mojo.deploy;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.codehaus.plexus.archiver.manager.ArchiverManager;
 
 import org.mule.tools.client.standalone.controller.MuleProcessController;
 import org.mule.tools.client.core.exception.DeploymentException;
 import org.mule.tools.deployment.DefaultDeployer;
 import org.mule.tools.deployment.Deployer;
+import org.mule.tools.deployment.DeploymentReport;
+import org.mule.tools.deployment.MultiTargetDeployer;
+import org.mule.tools.model.Deployment;
+import org.mule.tools.model.anypoint.ArmDeployment;
+import org.mule.tools.model.anypoint.CloudHubDeployment;
+import org.mule.tools.model.anypoint.Cloudhub2Deployment;
+import org.mule.tools.model.anypoint.RuntimeFabricOnPremiseDeployment;
 
 import static org.mule.tools.validation.DeploymentValidatorFactory.createDeploymentValidator;
 
@@ -32,11 +45,63 @@ import static org.mule.tools.validation.DeploymentValidatorFactory.createDeploym
 @Mojo(name = "deploy", requiresProject = true)
 public class DeployMojo extends AbstractMuleDeployerMojo {
 
+  private static final String DEPLOYMENT_REPORT = "mule-deployment-report.json";
+
   @Component
   protected ArchiverManager archiverManager;
 
+  /**
+   * Additional CloudHub targets, deployed in the same execution as the deployment configuration.
+   */
+  @Parameter
+  protected List<CloudHubDeployment> cloudHubDeployments;
+
+  /**
+   * Additional Runtime Manager targets, deployed in the same execution as the deployment configuration.
+   */
+  @Parameter
+  protected List<ArmDeployment> armDeployments;
+
+  /**
+   * Additional Runtime Fabric targets, deployed in the same execution as the deployment configuration.
+   */
+  @Parameter
+  protected List<RuntimeFabricOnPremiseDeployment> runtimeFabricDeployments;
+
+  /**
+   * Additional CloudHub 2.0 targets, deployed in the same execution as the deployment configuration.
+   */
+  @Parameter
+  protected List<Cloudhub2Deployment> cloudhub2Deployments;
+
+  /**
+   * How many targets are deployed at the same time when more than one is configured.
+   */
+  @Parameter(property = "deploymentParallelism", defaultValue = "4")
+  protected int deploymentParallelism = 4;
+
+  @Override
+  protected List<Deployment> getAdditionalDeploymentTargets() {
+    List<Deployment> targets = new ArrayList<>();
+    addAll(targets, cloudHubDeployments);
+    addAll(targets, armDeployments);
+    addAll(targets, runtimeFabricDeployments);
+    addAll(targets, cloudhub2Deployments);
+    return targets;
+  }
+
+  private static void addAll(List<Deployment> targets, List<? extends Deployment> deployments) {
+    if (deployments != null) {
+      targets.addAll(deployments);
+    }
+  }
+
   @Override
   public void doExecute() throws MojoFailureException, MojoExecutionException {
+    if (deploymentTargets != null && deploymentTargets.size() > 1) {
+      deployToEveryTarget();
+      return;
+    }
     try {
       createDeploymentValidator(deploymentConfiguration).validateMuleVersionAgainstEnvironment();
       Deployer deployer = new DefaultDeployer(deploymentConfiguration, log);
@@ -47,6 +112,24 @@ public class DeployMojo extends AbstractMuleDeployerMojo {
     }
   }
 
+  private void deployToEveryTarget() throws MojoFailureException {
+    getLog().info("Deploying to " + deploymentTargets.size() + " targets, " + deploymentParallelism + " at a time");
+    DeploymentReport report = new MultiTargetDeployer(deploymentTargets, deploymentParallelism, (target, targetLog) -> {
+      createDeploymentValidator(target).validateMuleVersionAgainstEnvironment();
+      new DefaultDeployer(target, targetLog).deploy();
+    }, log).deploy();
+
+    report.getSummary().forEach(getLog()::info);
+    try {
+      report.write(Paths.get(project.getBuild().getDirectory()).resolve(DEPLOYMENT_REPORT));
+    } catch (IOException e) {
+      getLog().warn("Could not write the deployment report", e);
+    }
+    if (report.hasFailures()) {
+      throw new MojoFailureException("Failed to deploy [" + deploymentConfiguration.getArtifact() + "] to some of its targets");
+    }
+  }
+
   @Override
   public String getPreviousRunPlaceholder() {
     return "MULE_MAVEN_PLUGIN_DEPLOY_PREVIOUS_RUN_PLACEHOLDER";
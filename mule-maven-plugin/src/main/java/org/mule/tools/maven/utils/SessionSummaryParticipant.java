@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.maven.utils;
+
+import org.mule.tools.api.repository.MavenClientPool;
+import org.mule.tools.api.util.MavenPackagerLog;
+import org.mule.tools.api.util.PackagerLog;
+import org.mule.tools.api.util.TimingReports;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.apache.maven.AbstractMavenLifecycleParticipant;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.monitor.logging.DefaultLog;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.logging.LogEnabled;
+import org.codehaus.plexus.logging.Logger;
+
+/**
+ * Logs the statistics gathered by the session scoped components of the plugin once every module of the build is done.
+ * <p>
+ * Maven calls it after the whole session, so the summary is complete regardless of the order in which the modules finish,
+ * including parallel ({@code -T}) builds. It is only registered when the plugin is loaded with
+ * {@code <extensions>true</extensions>}, as mule projects require.
+ */
+public class SessionSummaryParticipant extends AbstractMavenLifecycleParticipant implements LogEnabled {
+
+  static final String TIMING_SUMMARY = "mule-build-timings-summary.json";
+
+  private Logger logger;
+
+  @Override
+  public void enableLogging(Logger logger) {
+    this.logger = logger;
+  }
+
+  @Override
+  public void afterSessionEnd(MavenSession session) {
+    if (logger == null) {
+      return;
+    }
+    PackagerLog log = new MavenPackagerLog(new DefaultLog(logger));
+    MavenClientPool pool = MavenClientPool.find(session);
+    if (pool != null) {
+      pool.logStatistics(log);
+    }
+    TimingReports reports = TimingReports.find(session);
+    if (reports != null) {
+      reports.logSummary(log);
+      writeTimingSummary(session, reports);
+    }
+  }
+
+  private void writeTimingSummary(MavenSession session, TimingReports reports) {
+    MavenProject topLevelProject = session.getTopLevelProject();
+    if (topLevelProject == null) {
+      return;
+    }
+    try {
+      reports.getSummary().write(Paths.get(topLevelProject.getBuild().getDirectory()).resolve(TIMING_SUMMARY));
+    } catch (IOException e) {
+      logger.warn("Could not write the build timing summary", e);
+    }
+  }
+}
@@ -7,7 +7,12 @@
 package org.mule.tools.maven.mojo;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Build;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -16,7 +21,10 @@ import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mule.tools.api.packager.sources.MuleContentGenerator;
+import org.mule.tools.api.util.Fingerprint;
 
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -76,4 +84,25 @@ class CompileMojoTest extends AbstractMuleMojoTest {
     doCallRealMethod().when(mojoMock).doExecute();
     assertThatThrownBy(() -> mojoMock.execute()).isExactlyInstanceOf(MojoFailureException.class);
   }
+
+  @Test
+  void changesInDirectoryDependencyChangeTheInputs() throws Exception {
+    // Reactor modules are resolved to their output folder instead of their packaged artifact
+    Path classes = createFolder(projectBaseFolder.resolve("module").resolve("target").resolve("classes")).toPath();
+    Files.write(classes.resolve("Module.class"), new byte[] {1});
+    Artifact dependency = mock(Artifact.class);
+    when(dependency.getId()).thenReturn("group:module:jar:1.0.0");
+    when(dependency.getFile()).thenReturn(classes.toFile());
+    when(projectMock.getArtifacts()).thenReturn(singleton(dependency));
+    MavenSession session = mock(MavenSession.class);
+    when(session.getRequest()).thenReturn(mock(MavenExecutionRequest.class));
+    mojoMock.session = session;
+    doCallRealMethod().when(mojoMock).getCommonInputs();
+
+    Fingerprint before = mojoMock.getCommonInputs();
+    Files.write(classes.resolve("Module.class"), new byte[] {1, 2});
+
+    assertThat(mojoMock.getCommonInputs().getChangedKeys(before))
+        .containsExactly("dependency.group:module:jar:1.0.0/Module.class");
+  }
 }
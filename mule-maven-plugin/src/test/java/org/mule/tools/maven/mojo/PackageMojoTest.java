@@ -13,6 +13,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.apache.maven.model.Build;
@@ -112,7 +113,21 @@ public class PackageMojoTest extends AbstractMuleMojoTest {
   }
 
   @Test
-  void setOnlyMuleSourcesWhenMuleApplicationTemplate() {
+  void getDestinationFileExplodedPackageTest() throws Exception {
+    mojo.classifier = Classifier.MULE_APPLICATION.toString();
+    mojo.explodedPackage = true;
+    when(projectMock.getPackaging()).thenReturn(PackagingType.MULE_APPLICATION.toString());
+    Path previousPackage = targetFolder.resolve(FINAL_NAME + "-" + MULE_APPLICATION);
+    Files.createDirectories(previousPackage.resolve("META-INF"));
+
+    File destinationFile = mojo.getDestinationFile(targetFolder.toString());
+
+    assertThat(destinationFile.getAbsolutePath()).isEqualTo(previousPackage.toFile().getAbsolutePath());
+    assertThat(destinationFile).doesNotExist();
+  }
+
+  @Test
+  void setOnlyMuleSourcesWhenMuleApplicationTemplate() throws Exception {
     mojo = new PackageMojo();
     mojo.classifier = Classifier.MULE_APPLICATION_TEMPLATE.toString();
     when(projectMock.getPackaging()).thenReturn(MULE_APPLICATION);
@@ -129,7 +144,7 @@ public class PackageMojoTest extends AbstractMuleMojoTest {
   }
 
   @Test
-  void buildPackagingOptionsMuleApplicationTemplateTest() {
+  void buildPackagingOptionsMuleApplicationTemplateTest() throws Exception {
     mojo.onlyMuleSources = false;
     mojo.classifier = Classifier.MULE_APPLICATION_TEMPLATE.toString();
     assertThat(mojo.buildPackagingOptions().isOnlyMuleSources())
@@ -137,13 +152,20 @@ public class PackageMojoTest extends AbstractMuleMojoTest {
   }
 
   @Test
-  void buildPackagingOptionsMuleApplicationExampleTest() {
+  void buildPackagingOptionsMuleApplicationExampleTest() throws Exception {
     mojo.attachMuleSources = false;
     mojo.classifier = Classifier.MULE_APPLICATION_EXAMPLE.toString();
     assertThat(mojo.buildPackagingOptions().isAttachMuleSources())
         .as("Packaging options should have attachMuleSources property set to true").isTrue();
   }
 
+  @Test
+  void malformedOutputTimestampTest() {
+    mojo.outputTimestamp = "yesterday";
+    assertThatThrownBy(() -> mojo.buildPackagingOptions()).isExactlyInstanceOf(MojoExecutionException.class)
+        .hasMessageContaining("'yesterday'");
+  }
+
   private class PackageMojoImpl extends PackageMojo {
 
     @Override
@@ -110,6 +110,23 @@ public class AbstractMuleDeployerMojoTest {
         .isEqualTo(cloudHubDeploymentMock);
   }
 
+  @Test
+  void additionalTargetsFollowTheDeploymentConfigurationTest() throws DeploymentException {
+    mojoSpy.setAgentDeployment(null);
+    mojoSpy.setArmDeployment(null);
+    mojoSpy.setStandaloneDeployment(null);
+    mojoSpy.setClusterDeployment(null);
+    mojoSpy.setCloudHubDeployment(null);
+
+    CloudHubDeployment firstTarget = mock(CloudHubDeployment.class);
+    CloudHubDeployment secondTarget = mock(CloudHubDeployment.class);
+    when(mojoSpy.getAdditionalDeploymentTargets()).thenReturn(newArrayList(firstTarget, secondTarget));
+
+    assertThat(mojoSpy.getDeploymentConfigurations()).containsExactly(firstTarget, secondTarget);
+    verify(firstTarget).setDefaultValues(projectMock);
+    verify(secondTarget).setDefaultValues(projectMock);
+  }
+
   @Test
   void setDeploymentAllDeploymentNullTest() {
     assertThatThrownBy(() -> {
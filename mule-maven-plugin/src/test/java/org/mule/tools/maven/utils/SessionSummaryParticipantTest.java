@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.maven.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.tools.api.repository.MavenClientPool;
+import org.mule.tools.api.util.TimingReports;
+
+import java.nio.file.Path;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.logging.Logger;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SessionSummaryParticipantTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  private MavenSession session;
+  private Logger logger;
+  private SessionSummaryParticipant participant;
+
+  @BeforeEach
+  public void setUp() {
+    session = mock(MavenSession.class);
+    when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+    logger = mock(Logger.class);
+    when(logger.isInfoEnabled()).thenReturn(true);
+    participant = new SessionSummaryParticipant();
+    participant.enableLogging(logger);
+  }
+
+  @Test
+  public void clientPoolStatisticsAreLoggedWhenTheSessionEnds() {
+    MavenClientPool.getInstance(session);
+
+    participant.afterSessionEnd(session);
+
+    verify(logger).info(startsWith("Maven clients: 0 built"));
+  }
+
+  @Test
+  public void timingSummaryIsLoggedAndWrittenWhenTheSessionEnds() throws Exception {
+    MavenProject topLevelProject = new MavenProject();
+    topLevelProject.getBuild().setDirectory(temporaryFolder.toString());
+    when(session.getTopLevelProject()).thenReturn(topLevelProject);
+    TimingReports reports = TimingReports.getInstance(session);
+    reports.getReport("first").record("mojo:package", 10, 0);
+    reports.getReport("second").record("mojo:package", 5, 0);
+
+    participant.afterSessionEnd(session);
+
+    verify(logger).info("Build timings of 2 modules:");
+    verify(logger).info(startsWith("  mojo:package: 15ms in 2 executions"));
+    assertThat(temporaryFolder.resolve(SessionSummaryParticipant.TIMING_SUMMARY)).exists();
+  }
+
+  @Test
+  public void nothingIsLoggedWithoutSessionComponents() {
+    participant.afterSessionEnd(session);
+
+    verify(logger, never()).info(anyString());
+  }
+}
@@ -23,6 +23,7 @@ import org.mule.tools.api.classloader.model.resolver.ApplicationDependencyResolv
 import org.mule.tools.api.classloader.model.resolver.ClassloaderModelResolver;
 import org.mule.tools.api.classloader.model.resolver.MulePluginClassloaderModelResolver;
 import org.mule.tools.api.classloader.model.util.ArtifactUtils;
+import org.mule.tools.api.util.FileJarExplorer;
 import org.mule.tools.api.util.JarExplorer;
 import org.mule.tools.api.util.JarInfo;
 
@@ -52,6 +53,7 @@ public class ApplicationClassLoaderModelAssembler {
     this.mulePluginClassLoaderModelResolver = new MulePluginClassloaderModelResolver(mavenClient);
     this.additionalPluginDependenciesResolver =
         new AdditionalPluginDependenciesResolver(mavenClient, emptyList(), temporaryFolder);
+    this.jarExplorer = new FileJarExplorer();
   }
 
   public ApplicationClassLoaderModelAssembler(ApplicationDependencyResolver applicationDependencyResolver,
@@ -93,15 +95,16 @@ public class ApplicationClassLoaderModelAssembler {
 
     if (outputDirectory != null && get(outputDirectory.getAbsolutePath(), CLASSES).toFile().exists()) {
       JarInfo jarInfo = jarExplorer.explore(get(outputDirectory.getAbsolutePath(), CLASSES).toFile().toURI());
-      appModel.setPackages(jarInfo.getPackages().toArray(new String[jarInfo.getPackages().size()]));
-      appModel.setResources(jarInfo.getResources().toArray(new String[jarInfo.getResources().size()]));
+      appModel.setPackages(jarInfo.getPackagesArray());
+      appModel.setResources(jarInfo.getResourcesArray());
     }
 
     List<BundleDependency> appDependencies =
         applicationDependencyResolver.resolveApplicationDependencies(pomFile, includeTestDependencies, mavenReactorResolver);
 
     List<Artifact> dependencies =
-        updateArtifactsSharedState(appDependencies, updatePackagesResources(toApplicationModelArtifacts(appDependencies)),
+        updateArtifactsSharedState(appDependencies,
+                                   updatePackagesResources(toApplicationModelArtifacts(appDependencies), jarExplorer),
                                    pomModel, activeProfiles);
     appModel.setDependencies(dependencies);
 
@@ -6,12 +6,15 @@
  */
 package org.mule.tools.api.classloader.model.resolver;
 
+import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 
 import org.mule.maven.client.api.MavenClient;
 import org.mule.maven.client.api.MavenReactorResolver;
 import org.mule.maven.pom.parser.api.model.BundleDependency;
 import org.mule.maven.pom.parser.api.model.BundleScope;
+import org.mule.tools.api.repository.DependencyResolutionCache;
+import org.mule.tools.utils.TimingReport;
 
 import java.io.File;
 import java.util.List;
@@ -23,9 +26,19 @@ public class ApplicationDependencyResolver {
   protected static final String MULE_DOMAIN_CLASSIFIER = "mule-domain";
 
   private final MavenClient mavenClient;
+  private final DependencyResolutionCache resolutionCache;
 
   public ApplicationDependencyResolver(MavenClient mavenClient) {
+    this(mavenClient, null);
+  }
+
+  /**
+   * @param mavenClient     client used to resolve the dependencies
+   * @param resolutionCache cache shared across the build, {@code null} to always resolve
+   */
+  public ApplicationDependencyResolver(MavenClient mavenClient, DependencyResolutionCache resolutionCache) {
     this.mavenClient = mavenClient;
+    this.resolutionCache = resolutionCache;
   }
 
   /**
@@ -59,8 +72,7 @@ public class ApplicationDependencyResolver {
   public List<BundleDependency> resolveApplicationDependencies(File pomFile, boolean includeTestDependencies,
                                                                Optional<MavenReactorResolver> mavenReactorResolver) {
     List<BundleDependency> resolvedApplicationDependencies =
-        mavenClient
-            .resolveArtifactDependencies(pomFile, includeTestDependencies, true, empty(), mavenReactorResolver, empty())
+        resolveArtifactDependencies(pomFile, includeTestDependencies, mavenReactorResolver)
             .stream()
             .filter(d -> !(d.getScope() == BundleScope.PROVIDED) || (d.getDescriptor().getClassifier().isPresent()
                 && d.getDescriptor().getClassifier().get().equals(MULE_DOMAIN_CLASSIFIER)))
@@ -69,4 +81,19 @@ public class ApplicationDependencyResolver {
     return resolvedApplicationDependencies;
   }
 
+  private List<BundleDependency> resolveArtifactDependencies(File pomFile, boolean includeTestDependencies,
+                                                             Optional<MavenReactorResolver> mavenReactorResolver) {
+    try (TimingReport.Step step = TimingReport.step("dependency-resolution")) {
+      if (resolutionCache == null) {
+        return mavenClient.resolveArtifactDependencies(pomFile, includeTestDependencies, true, empty(), mavenReactorResolver,
+                                                       empty());
+      }
+      // The reactor resolver is compared by identity, two resolvers may know different reactor projects
+      Object key = asList(mavenClient, "artifactDependencies", pomFile.getAbsolutePath(), pomFile.lastModified(),
+                          includeTestDependencies, mavenReactorResolver.orElse(null));
+      return resolutionCache.get(key, () -> mavenClient.resolveArtifactDependencies(pomFile, includeTestDependencies, true,
+                                                                                      empty(), mavenReactorResolver, empty()));
+    }
+  }
+
 }
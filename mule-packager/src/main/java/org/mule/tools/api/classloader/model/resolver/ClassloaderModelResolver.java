@@ -32,11 +32,20 @@ public abstract class ClassloaderModelResolver {
   private final String classifier;
   protected Map<BundleDependency, List<BundleDependency>> dependenciesMap;
 
-  private JarExplorer jarExplorer = new FileJarExplorer();
+  private final JarExplorer jarExplorer;
 
   public ClassloaderModelResolver(MavenClient mavenClient, String classifier) {
+    this(mavenClient, classifier, new FileJarExplorer());
+  }
+
+  /**
+   * @param jarExplorer explorer of the plugins and their dependencies, share a {@link org.mule.tools.api.util.MemoizingJarExplorer}
+   *        with the application model so the dependencies they have in common are explored once and share their packages
+   */
+  public ClassloaderModelResolver(MavenClient mavenClient, String classifier, JarExplorer jarExplorer) {
     this.mavenClient = mavenClient;
     this.classifier = classifier;
+    this.jarExplorer = jarExplorer;
     dependenciesMap = new HashMap<>();
   }
 
@@ -56,12 +65,12 @@ public abstract class ClassloaderModelResolver {
           new ClassLoaderModel(CLASS_LOADER_MODEL_VERSION, toArtifactCoordinates(dependencyListEntry.getKey().getDescriptor()));
 
       JarInfo jarInfo = jarExplorer.explore(dependencyListEntry.getKey().getBundleUri());
-      dependencyClassloaderModel.setPackages(jarInfo.getPackages().toArray(new String[jarInfo.getPackages().size()]));
-      dependencyClassloaderModel.setResources(jarInfo.getResources().toArray(new String[jarInfo.getResources().size()]));
+      dependencyClassloaderModel.setPackages(jarInfo.getPackagesArray());
+      dependencyClassloaderModel.setResources(jarInfo.getResourcesArray());
 
       List<BundleDependency> dependencyDependencies =
           resolveConflicts(dependencyListEntry.getValue(), dependencies);
-      dependencyClassloaderModel.setDependencies(updatePackagesResources(toArtifacts(dependencyDependencies)));
+      dependencyClassloaderModel.setDependencies(updatePackagesResources(toArtifacts(dependencyDependencies), jarExplorer));
       classloaderModels.add(dependencyClassloaderModel);
     }
     return classloaderModels;
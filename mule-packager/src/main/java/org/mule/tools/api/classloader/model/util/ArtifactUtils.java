@@ -28,7 +28,9 @@ import org.mule.tools.api.classloader.model.ApplicationGAVModel;
 import org.mule.tools.api.classloader.model.Artifact;
 import org.mule.tools.api.classloader.model.ArtifactCoordinates;
 import org.mule.tools.api.util.FileJarExplorer;
+import org.mule.tools.api.util.JarExplorer;
 import org.mule.tools.api.util.JarInfo;
+import org.mule.tools.api.util.MemoizingJarExplorer;
 
 import java.net.URI;
 import java.util.ArrayList;
@@ -139,19 +141,31 @@ public class ArtifactUtils {
   }
 
   public static List<Artifact> updatePackagesResources(List<Artifact> artifacts) {
-    return artifacts.stream().map(artifact -> updatePackagesResources(artifact)).collect(toList());
+    return updatePackagesResources(artifacts, new FileJarExplorer());
+  }
+
+  /**
+   * Sets the packages and resources of each artifact, found with {@code jarExplorer}. Artifacts explored by the same
+   * {@link MemoizingJarExplorer} share their package and resource arrays.
+   */
+  public static List<Artifact> updatePackagesResources(List<Artifact> artifacts, JarExplorer jarExplorer) {
+    return artifacts.stream().map(artifact -> updatePackagesResources(artifact, jarExplorer)).collect(toList());
   }
 
   public static Artifact updatePackagesResources(Artifact artifact) {
+    return updatePackagesResources(artifact, new FileJarExplorer());
+  }
+
+  public static Artifact updatePackagesResources(Artifact artifact, JarExplorer jarExplorer) {
     if (MULE_PLUGIN.equals(artifact.getArtifactCoordinates().getClassifier())
         || artifact.getUri() == null
         // mule-domain are set with a "" URI
         || isBlank(artifact.getUri().getPath())) {
       return artifact;
     }
-    JarInfo jarInfo = new FileJarExplorer().explore(artifact.getUri());
-    artifact.setPackages(jarInfo.getPackages().toArray(new String[jarInfo.getPackages().size()]));
-    artifact.setResources(jarInfo.getResources().toArray(new String[jarInfo.getResources().size()]));
+    JarInfo jarInfo = jarExplorer.explore(artifact.getUri());
+    artifact.setPackages(jarInfo.getPackagesArray());
+    artifact.setResources(jarInfo.getResourcesArray());
     return artifact;
   }
 
@@ -11,6 +11,7 @@ import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.attribute.FileTime;
 
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.plexus.archiver.ArchiverException;
@@ -58,6 +59,16 @@ public class AbstractArchiver {
     archiver.setDestFile(destFile);
   }
 
+  /**
+   * Configures the archive to be reproducible: entries are sorted, their timestamps set to the given time and their permissions
+   * normalized, so archiving the same content always yields the same bytes. It must be called before adding any resource.
+   *
+   * @param lastModifiedTime the timestamp for every entry of the archive
+   */
+  public void configureReproducibleBuild(FileTime lastModifiedTime) {
+    archiver.configureReproducibleBuild(lastModifiedTime);
+  }
+
   /**
    * It saves the archive in the file sytem
    * 
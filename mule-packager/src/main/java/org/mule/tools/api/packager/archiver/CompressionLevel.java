@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.packager.archiver;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Compression level to apply to the archive entries whose path matches a glob pattern, e.g. {@code repository/**}.
+ * <p>
+ * The level goes from {@code 0} (entries are stored without compression) to {@code 9} (best compression).
+ */
+public class CompressionLevel {
+
+  public static final int NO_COMPRESSION = 0;
+
+  public static final int BEST_COMPRESSION = 9;
+
+  private String pattern;
+
+  private int level;
+
+  public CompressionLevel() {}
+
+  public CompressionLevel(String pattern, int level) {
+    setPattern(pattern);
+    setLevel(level);
+  }
+
+  public String getPattern() {
+    return pattern;
+  }
+
+  public void setPattern(String pattern) {
+    checkArgument(pattern != null, "Pattern should not be null");
+    this.pattern = pattern;
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public void setLevel(int level) {
+    checkArgument(level >= NO_COMPRESSION && level <= BEST_COMPRESSION,
+                  "Compression level should be between " + NO_COMPRESSION + " and " + BEST_COMPRESSION);
+    this.level = level;
+  }
+}
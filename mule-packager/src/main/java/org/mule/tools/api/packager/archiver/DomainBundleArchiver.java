@@ -29,7 +29,7 @@ public class DomainBundleArchiver extends AbstractArchiver {
     this(new ZipArchiver());
   }
 
-  protected DomainBundleArchiver(org.codehaus.plexus.archiver.AbstractArchiver archiver) {
+  public DomainBundleArchiver(org.codehaus.plexus.archiver.AbstractArchiver archiver) {
     super(archiver);
   }
 
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.packager.archiver;
+
+import static org.mule.tools.api.packager.structure.FolderNames.REPOSITORY;
+import static org.mule.tools.utils.FileLinks.linkOrCopy;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.codehaus.plexus.archiver.ArchiveEntry;
+import org.codehaus.plexus.archiver.ArchiverException;
+import org.codehaus.plexus.archiver.dir.DirectoryArchiver;
+import org.codehaus.plexus.components.io.resources.PlexusIoFileResource;
+import org.codehaus.plexus.components.io.resources.PlexusIoResource;
+
+/**
+ * Directory archiver that hard links the artifacts of the repository folder instead of copying them, falling back to a copy when
+ * the destination is in a different file store. Creating an exploded package this way does not duplicate the repository jars.
+ * <p>
+ * The other files, such as the compiled classes and the descriptors, are written in place by later builds or by the runtime,
+ * which would change both sides of a link, so they are always copied.
+ */
+public class LinkingDirectoryArchiver extends DirectoryArchiver {
+
+  @Override
+  protected void copyFile(ArchiveEntry entry, String vPath) throws ArchiverException, IOException {
+    PlexusIoResource resource = entry.getResource();
+    if (vPath.length() > 0 && !resource.isDirectory() && resource instanceof PlexusIoFileResource
+        && isRepositoryArtifact(entry)) {
+      linkOrCopy(((PlexusIoFileResource) resource).getFile().toPath(), Paths.get(vPath));
+      return;
+    }
+    super.copyFile(entry, vPath);
+  }
+
+  private boolean isRepositoryArtifact(ArchiveEntry entry) {
+    return entry.getName().replace('\\', '/').startsWith(REPOSITORY.value() + "/");
+  }
+}
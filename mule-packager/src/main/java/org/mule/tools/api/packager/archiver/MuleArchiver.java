@@ -33,7 +33,7 @@ public class MuleArchiver extends AbstractArchiver {
     this(new ZipArchiver());
   }
 
-  protected MuleArchiver(org.codehaus.plexus.archiver.AbstractArchiver archiver) {
+  public MuleArchiver(org.codehaus.plexus.archiver.AbstractArchiver archiver) {
     super(archiver);
   }
 
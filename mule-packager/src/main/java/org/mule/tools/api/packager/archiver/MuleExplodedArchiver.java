@@ -20,4 +20,12 @@ public class MuleExplodedArchiver extends MuleArchiver {
     super(new DirectoryArchiver());
   }
 
+  /**
+   * @param linkFiles if {@code true} the repository artifacts are hard linked into the destination folder where possible instead
+   *        of being copied
+   */
+  public MuleExplodedArchiver(boolean linkFiles) {
+    super(linkFiles ? new LinkingDirectoryArchiver() : new DirectoryArchiver());
+  }
+
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.packager.archiver;
+
+import static org.apache.commons.lang3.StringUtils.isNumeric;
+
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Resolves the timestamp used for the entries of reproducible archives.
+ */
+public final class OutputTimestamp {
+
+  /**
+   * Timestamp used for reproducible archives when the project does not define {@code project.build.outputTimestamp}. It is the
+   * first instant that every zip tool represents the same way.
+   */
+  public static final FileTime DEFAULT_OUTPUT_TIMESTAMP = FileTime.from(Instant.parse("1980-02-01T00:00:00Z"));
+
+  private OutputTimestamp() {}
+
+  /**
+   * Parses a {@code project.build.outputTimestamp} value, following the Maven conventions: either an ISO-8601 date with offset
+   * or the number of seconds since the epoch. Values shorter than two characters disable the timestamp.
+   *
+   * @param outputTimestamp the value to parse, may be {@code null}
+   * @return the parsed timestamp or empty if the value does not define one
+   * @throws IllegalArgumentException if the value is not a valid timestamp
+   */
+  public static Optional<FileTime> parse(String outputTimestamp) {
+    if (outputTimestamp == null || outputTimestamp.trim().length() < 2) {
+      return Optional.empty();
+    }
+    String value = outputTimestamp.trim();
+    if (isNumeric(value)) {
+      return Optional.of(FileTime.from(Instant.ofEpochSecond(Long.parseLong(value))));
+    }
+    try {
+      return Optional.of(FileTime.from(OffsetDateTime.parse(value).toInstant()));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid project.build.outputTimestamp value '" + value + "'", e);
+    }
+  }
+
+  /**
+   * @param outputTimestamp the {@code project.build.outputTimestamp} value, may be {@code null}
+   * @return the timestamp defined by the value or {@link #DEFAULT_OUTPUT_TIMESTAMP} if it does not define one
+   */
+  public static FileTime resolve(String outputTimestamp) {
+    return parse(outputTimestamp).orElse(DEFAULT_OUTPUT_TIMESTAMP);
+  }
+}
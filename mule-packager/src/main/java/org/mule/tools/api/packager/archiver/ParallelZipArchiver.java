@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.packager.archiver;
+
+import static java.nio.file.FileSystems.getDefault;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.mule.tools.api.packager.archiver.CompressionLevel.NO_COMPRESSION;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+import org.mule.tools.utils.TimingReport;
+
+import org.apache.commons.compress.archivers.zip.StreamCompressor;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.parallel.FileBasedScatterGatherBackingStore;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
+import org.codehaus.plexus.archiver.ArchiveEntry;
+import org.codehaus.plexus.archiver.ArchiverException;
+import org.codehaus.plexus.archiver.ResourceIterator;
+
+/**
+ * Zip archiver that compresses entries in parallel.
+ * <p>
+ * Entries that are already compressed (nested jars, zips and images) are stored as they are, as deflating them again takes
+ * most of the packaging time for a negligible size reduction. The remaining entries are deflated with the default level, unless
+ * their path matches one of the configured {@link CompressionLevel} patterns, in which case the level of the first matching
+ * pattern is used.
+ * <p>
+ * Each entry is compressed on its own, with its own method and level, and entries are written in the order in which they were
+ * added, so the output is the same as the one of a serial archiver and it is reproducible when the archiver is configured with
+ * {@link #configureReproducibleBuild(java.nio.file.attribute.FileTime)}. Only a bounded number of compressed entries waits to be
+ * written at any time, small ones in memory and the rest in temporary files.
+ */
+public class ParallelZipArchiver extends org.codehaus.plexus.archiver.AbstractArchiver {
+
+  public static final List<String> COMPRESSED_EXTENSIONS = asList("jar", "zip", "png", "jpg", "jpeg", "gif", "gz", "tgz");
+
+  private static final String ARCHIVE_TYPE = "zip";
+  private static final String PATH_SEPARATOR = "/";
+  private static final String SCATTER_FILE_PREFIX = "parallel-zip-scatter";
+  private static final long IN_MEMORY_ENTRY_SIZE = 1024 * 1024;
+  private static final int PENDING_ENTRIES_PER_THREAD = 4;
+
+  private final List<PathMatcher> matchers = new ArrayList<>();
+  private final List<Integer> levels = new ArrayList<>();
+  private final int threads;
+
+  public ParallelZipArchiver() {
+    this(emptyList());
+  }
+
+  public ParallelZipArchiver(List<CompressionLevel> compressionLevels) {
+    this(compressionLevels, Runtime.getRuntime().availableProcessors());
+  }
+
+  public ParallelZipArchiver(List<CompressionLevel> compressionLevels, int threads) {
+    for (CompressionLevel compressionLevel : compressionLevels) {
+      matchers.add(getDefault().getPathMatcher("glob:" + compressionLevel.getPattern()));
+      levels.add(compressionLevel.getLevel());
+    }
+    this.threads = threads;
+  }
+
+  /**
+   * @param entryName the name of the entry in the archive, using {@code /} as separator
+   * @return the compression level to use for the entry
+   */
+  public int getCompressionLevel(String entryName) {
+    for (int i = 0; i < matchers.size(); i++) {
+      if (matchers.get(i).matches(Paths.get(entryName))) {
+        return levels.get(i);
+      }
+    }
+    return isCompressed(entryName) ? NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION;
+  }
+
+  private boolean isCompressed(String entryName) {
+    int extensionIndex = entryName.lastIndexOf('.');
+    return extensionIndex >= 0 && COMPRESSED_EXTENSIONS.contains(entryName.substring(extensionIndex + 1).toLowerCase());
+  }
+
+  @Override
+  protected void execute() throws ArchiverException, IOException {
+    ExecutorService executor = newFixedThreadPool(threads);
+    Deque<Future<CompressedEntry>> pending = new ArrayDeque<>();
+    try (ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(getDestFile())) {
+      ResourceIterator resources = getResources();
+      while (resources.hasNext()) {
+        ArchiveEntry entry = resources.next();
+        pending.add(executor.submit(TimingReport.propagate(() -> {
+          try (TimingReport.Step step = TimingReport.step("archive-compression")) {
+            return compress(entry);
+          }
+        })));
+        if (pending.size() >= threads * PENDING_ENTRIES_PER_THREAD) {
+          pending.poll().get().writeTo(outputStream);
+        }
+      }
+      while (!pending.isEmpty()) {
+        pending.poll().get().writeTo(outputStream);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ArchiverException("Interrupted while creating " + getDestFile(), e);
+    } catch (ExecutionException e) {
+      throw new ArchiverException("Could not create " + getDestFile(), e.getCause());
+    } finally {
+      executor.shutdownNow();
+      discard(executor, pending);
+    }
+  }
+
+  private CompressedEntry compress(ArchiveEntry entry) throws IOException {
+    String name = entry.getName().replace(File.separatorChar, '/');
+    boolean isDirectory = entry.getType() == ArchiveEntry.DIRECTORY;
+    if (isDirectory && !name.endsWith(PATH_SEPARATOR)) {
+      name = name + PATH_SEPARATOR;
+    }
+    int level = isDirectory ? NO_COMPRESSION : getCompressionLevel(name);
+    int method = level == NO_COMPRESSION ? ZipEntry.STORED : ZipEntry.DEFLATED;
+
+    ZipArchiveEntry zipEntry = new ZipArchiveEntry(name);
+    zipEntry.setMethod(method);
+    zipEntry.setTime(getLastModifiedTime() != null ? getLastModifiedTime().toMillis() : entry.getResource().getLastModified());
+    zipEntry.setUnixMode(entry.getMode());
+
+    long size = entry.getResource().getSize();
+    ScatterGatherBackingStore store = isDirectory || (size >= 0 && size <= IN_MEMORY_ENTRY_SIZE) ? new MemoryBackingStore()
+        : new FileBasedScatterGatherBackingStore(Files.createTempFile(SCATTER_FILE_PREFIX, null).toFile());
+    try (StreamCompressor compressor = StreamCompressor.create(level == NO_COMPRESSION ? Deflater.DEFAULT_COMPRESSION : level,
+                                                               store);
+        InputStream inputStream = isDirectory ? new ByteArrayInputStream(new byte[0]) : entry.getInputStream()) {
+      compressor.deflate(inputStream, method);
+      zipEntry.setCrc(compressor.getCrc32());
+      zipEntry.setSize(compressor.getBytesRead());
+      zipEntry.setCompressedSize(compressor.getBytesWrittenForLastEntry());
+      store.closeForWriting();
+      return new CompressedEntry(zipEntry, store);
+    } catch (IOException | RuntimeException e) {
+      store.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Releases the entries compressed but not written because the archive could not be created.
+   */
+  private void discard(ExecutorService executor, Deque<Future<CompressedEntry>> pending) {
+    if (pending.isEmpty()) {
+      return;
+    }
+    try {
+      // Entries being compressed hold temporary files, wait for them so they can be deleted
+      executor.awaitTermination(1, MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (Future<CompressedEntry> future : pending) {
+      if (!future.isDone()) {
+        continue;
+      }
+      try {
+        future.get().close();
+      } catch (Exception e) {
+        // The entry was not compressed, or it can not be released anymore
+      }
+    }
+  }
+
+  @Override
+  protected void close() {}
+
+  private static class CompressedEntry {
+
+    private final ZipArchiveEntry entry;
+    private final ScatterGatherBackingStore store;
+
+    private CompressedEntry(ZipArchiveEntry entry, ScatterGatherBackingStore store) {
+      this.entry = entry;
+      this.store = store;
+    }
+
+    private void writeTo(ZipArchiveOutputStream outputStream) throws IOException {
+      try (InputStream inputStream = store.getInputStream()) {
+        outputStream.addRawArchiveEntry(entry, inputStream);
+      } finally {
+        close();
+      }
+    }
+
+    private void close() throws IOException {
+      store.close();
+    }
+  }
+
+  private static class MemoryBackingStore implements ScatterGatherBackingStore {
+
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(content.toByteArray());
+    }
+
+    @Override
+    public void writeOut(byte[] data, int offset, int length) {
+      content.write(data, offset, length);
+    }
+
+    @Override
+    public void closeForWriting() {}
+
+    @Override
+    public void close() {}
+  }
+
+  @Override
+  protected String getArchiveType() {
+    return ARCHIVE_TYPE;
+  }
+}
@@ -8,6 +8,7 @@ package org.mule.tools.api.packager.builder;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
+import static java.util.Collections.emptyList;
 import static org.mule.tools.api.packager.structure.FolderNames.APPLICATIONS;
 import static org.mule.tools.api.packager.structure.FolderNames.DOMAIN;
 import static org.mule.tools.api.packager.structure.FolderNames.MAVEN;
@@ -16,11 +17,15 @@ import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 
 import org.codehaus.plexus.archiver.ArchiverException;
 
 import org.mule.tools.api.packager.archiver.AbstractArchiver;
+import org.mule.tools.api.packager.archiver.CompressionLevel;
 import org.mule.tools.api.packager.archiver.DomainBundleArchiver;
+import org.mule.tools.api.packager.archiver.ParallelZipArchiver;
 
 /**
  * Builder for Mule Domain Bundle packages.
@@ -33,6 +38,10 @@ public class DomainBundlePackageBuilder implements PackageBuilder {
 
   private DomainBundleArchiver archiver;
 
+  private FileTime outputTimestamp;
+
+  private List<CompressionLevel> compressionLevels;
+
   public DomainBundlePackageBuilder withMaven(File folder) {
     checkArgument(folder != null, "The folder must not be null");
     checkArgument(folder.exists(), "The folder must exist");
@@ -60,6 +69,26 @@ public class DomainBundlePackageBuilder implements PackageBuilder {
     return this;
   }
 
+  /**
+   * @param outputTimestamp if not {@code null} the bundle is created as a reproducible archive, using this timestamp for every
+   *        entry
+   */
+  public DomainBundlePackageBuilder withOutputTimestamp(FileTime outputTimestamp) {
+    this.outputTimestamp = outputTimestamp;
+    return this;
+  }
+
+  /**
+   * @param parallelCompression if {@code true} the bundle entries are written in parallel and the applications and domain jars,
+   *        which are already compressed, are stored as they are instead of being compressed again
+   * @param compressionLevels compression levels by entry path, only applied when {@code parallelCompression} is enabled
+   */
+  public DomainBundlePackageBuilder withParallelCompression(boolean parallelCompression,
+                                                            List<CompressionLevel> compressionLevels) {
+    this.compressionLevels = parallelCompression ? (compressionLevels != null ? compressionLevels : emptyList()) : null;
+    return this;
+  }
+
   /**
    * Creates a mule domain bundle package based on the contents of the origin folder, writing them to the destination jar file.
    * The target file is supposed to have more or less the structure of the example below:
@@ -109,6 +138,9 @@ public class DomainBundlePackageBuilder implements PackageBuilder {
 
     validateState();
     DomainBundleArchiver archiver = getArchiver();
+    if (outputTimestamp != null) {
+      archiver.configureReproducibleBuild(outputTimestamp);
+    }
 
     archiver.addDomain(domainFolder, null, null);
     archiver.addApplications(applicationsFolder, null, null);
@@ -140,7 +172,8 @@ public class DomainBundlePackageBuilder implements PackageBuilder {
 
   protected DomainBundleArchiver getArchiver() {
     if (archiver == null) {
-      archiver = new DomainBundleArchiver();
+      archiver = compressionLevels != null ? new DomainBundleArchiver(new ParallelZipArchiver(compressionLevels))
+          : new DomainBundleArchiver();
     }
     return archiver;
   }
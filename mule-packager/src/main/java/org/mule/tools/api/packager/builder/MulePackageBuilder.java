@@ -27,8 +27,11 @@ import java.util.List;
 import org.codehaus.plexus.archiver.ArchiverException;
 
 import org.mule.tools.api.packager.archiver.MuleArchiver;
+import org.mule.tools.api.packager.archiver.MuleExplodedArchiver;
+import org.mule.tools.api.packager.archiver.ParallelZipArchiver;
 import org.mule.tools.api.packager.packaging.PackagingOptions;
 import org.mule.tools.api.packager.structure.FolderNames;
+import org.mule.tools.utils.TimingReport;
 
 /**
  * Builder for Mule Application packages.
@@ -205,6 +208,7 @@ public class MulePackageBuilder implements PackageBuilder {
     validateState(packagingOptions);
 
     MuleArchiver archiver = getArchiver();
+    packagingOptions.getOutputTimestamp().ifPresent(archiver::configureReproducibleBuild);
     if (!packagingOptions.isOnlyMuleSources()) {
       archiver.addToRoot(classesFolder, null, null);
       archiver.addMaven(mavenFolder, null, null);
@@ -232,7 +236,9 @@ public class MulePackageBuilder implements PackageBuilder {
     }
 
     archiver.setDestFile(destinationPath.toFile());
-    archiver.createArchive();
+    try (TimingReport.Step step = TimingReport.step("archive")) {
+      archiver.createArchive();
+    }
   }
 
   /**
@@ -277,7 +283,13 @@ public class MulePackageBuilder implements PackageBuilder {
 
   protected MuleArchiver getArchiver() {
     if (archiver == null) {
-      archiver = new MuleArchiver();
+      if (packagingOptions != null && packagingOptions.isExploded()) {
+        archiver = new MuleExplodedArchiver(true);
+      } else if (packagingOptions != null && packagingOptions.isParallelCompression()) {
+        archiver = new MuleArchiver(new ParallelZipArchiver(packagingOptions.getCompressionLevels()));
+      } else {
+        archiver = new MuleArchiver();
+      }
     }
     return archiver;
   }
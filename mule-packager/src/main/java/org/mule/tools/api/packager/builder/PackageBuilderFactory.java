@@ -18,12 +18,15 @@ public class PackageBuilderFactory {
 
   /**
    * @param packagingType packaging type of the package that is going to be built.
-   * @param options packaging options. It can only be applied to packages that are not domain bundles.
+   * @param options packaging options. Only the output timestamp and the parallel compression are applied to domain bundles.
    * @return
    */
   public static PackageBuilder create(PackagingType packagingType, PackagingOptions options) {
     if (packagingType.equals(MULE_DOMAIN_BUNDLE)) {
-      return new DomainBundlePackageBuilder();
+      return new DomainBundlePackageBuilder()
+          .withOutputTimestamp(options != null ? options.getOutputTimestamp().orElse(null) : null)
+          .withParallelCompression(options != null && options.isParallelCompression(),
+                                   options != null ? options.getCompressionLevels() : null);
     }
     return new MulePackageBuilder().withPackagingOptions(options);
   }
@@ -9,6 +9,13 @@
  */
 package org.mule.tools.api.packager.packaging;
 
+import org.mule.tools.api.packager.archiver.CompressionLevel;
+
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 public class PackagingOptions {
 
   private final boolean onlyMuleSources;
@@ -18,6 +25,11 @@ public class PackagingOptions {
 
   private boolean useLocalRepository;
 
+  private boolean parallelCompression;
+  private List<CompressionLevel> compressionLevels = new ArrayList<>();
+  private FileTime outputTimestamp;
+  private boolean exploded;
+
   @Deprecated
   public PackagingOptions(boolean onlyMuleSources, boolean lightweightPackage, boolean attachMuleSources, boolean testPackage) {
     this.onlyMuleSources = onlyMuleSources;
@@ -51,4 +63,48 @@ public class PackagingOptions {
   public boolean isTestPackage() {
     return testPackage;
   }
+
+  /**
+   * @param parallelCompression if {@code true} the archive entries are compressed in parallel and already compressed entries are
+   *        stored as they are
+   * @param compressionLevels compression levels by entry path pattern, only applied when using parallel compression
+   */
+  public PackagingOptions withParallelCompression(boolean parallelCompression, List<CompressionLevel> compressionLevels) {
+    this.parallelCompression = parallelCompression;
+    this.compressionLevels = compressionLevels != null ? compressionLevels : new ArrayList<>();
+    return this;
+  }
+
+  public boolean isParallelCompression() {
+    return parallelCompression;
+  }
+
+  public List<CompressionLevel> getCompressionLevels() {
+    return compressionLevels;
+  }
+
+  /**
+   * @param outputTimestamp if not {@code null} the package is created as a reproducible archive, using this timestamp for every
+   *        entry
+   */
+  public PackagingOptions withOutputTimestamp(FileTime outputTimestamp) {
+    this.outputTimestamp = outputTimestamp;
+    return this;
+  }
+
+  public Optional<FileTime> getOutputTimestamp() {
+    return Optional.ofNullable(outputTimestamp);
+  }
+
+  /**
+   * @param exploded if {@code true} the package is created as a folder instead of an archive, linking its files where possible
+   */
+  public PackagingOptions withExploded(boolean exploded) {
+    this.exploded = exploded;
+    return this;
+  }
+
+  public boolean isExploded() {
+    return exploded;
+  }
 }
@@ -13,24 +13,49 @@ import org.mule.tools.api.classloader.model.ArtifactCoordinates;
 import org.mule.tools.api.classloader.model.util.ArtifactUtils;
 import org.mule.tools.api.packager.resources.content.DomainBundleProjectResourcesContent;
 import org.mule.tools.api.packager.resources.content.ResourcesContent;
+import org.mule.tools.api.repository.DependencyResolutionCache;
+import org.mule.tools.utils.ParallelTasks;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static java.util.Arrays.asList;
 import static org.mule.tools.api.classloader.model.util.ArtifactUtils.toArtifact;
 
 /**
  * Generates the resources of a mule domain bundle, resolving the applications and domain locations.
+ * <p>
+ * Bundles usually contain many applications whose resolutions are independent from each other, so they can be resolved
+ * concurrently. The resources keep the order of the project dependencies no matter how many threads resolve them.
  */
 public class DomainBundleProjectResourcesContentGenerator implements ResourcesContentGenerator {
 
   private final MavenClient mavenClient;
   private final List<ArtifactCoordinates> projectDependencies;
+  private final DependencyResolutionCache resolutionCache;
+  private final int threads;
 
   public DomainBundleProjectResourcesContentGenerator(MavenClient mavenClient,
                                                       List<ArtifactCoordinates> projectDependencies) {
+    this(mavenClient, projectDependencies, null);
+  }
+
+  public DomainBundleProjectResourcesContentGenerator(MavenClient mavenClient,
+                                                      List<ArtifactCoordinates> projectDependencies,
+                                                      DependencyResolutionCache resolutionCache) {
+    this(mavenClient, projectDependencies, resolutionCache, 1);
+  }
+
+  /**
+   * @param threads maximum number of applications and domains resolved at the same time
+   */
+  public DomainBundleProjectResourcesContentGenerator(MavenClient mavenClient,
+                                                      List<ArtifactCoordinates> projectDependencies,
+                                                      DependencyResolutionCache resolutionCache, int threads) {
     this.mavenClient = mavenClient;
     this.projectDependencies = projectDependencies;
+    this.resolutionCache = resolutionCache;
+    this.threads = threads;
   }
 
   @Override
@@ -38,11 +63,18 @@ public class DomainBundleProjectResourcesContentGenerator implements ResourcesCo
     ResourcesContent resourcesContent = new DomainBundleProjectResourcesContent();
     List<BundleDescriptor> dependenciesBundleDescriptors =
         projectDependencies.stream().map(ArtifactUtils::toBundleDescriptor).collect(Collectors.toList());
-    for (BundleDescriptor bundleDescriptor : dependenciesBundleDescriptors) {
-      BundleDependency dependency = mavenClient.resolveBundleDescriptor(bundleDescriptor);
+    for (BundleDependency dependency : ParallelTasks.map(dependenciesBundleDescriptors, threads, this::resolve)) {
       resourcesContent.add(toArtifact(dependency));
     }
     return resourcesContent;
   }
 
+  private BundleDependency resolve(BundleDescriptor bundleDescriptor) {
+    if (resolutionCache == null) {
+      return mavenClient.resolveBundleDescriptor(bundleDescriptor);
+    }
+    return resolutionCache.get(asList(mavenClient, "bundleDescriptor", bundleDescriptor),
+                               () -> mavenClient.resolveBundleDescriptor(bundleDescriptor));
+  }
+
 }
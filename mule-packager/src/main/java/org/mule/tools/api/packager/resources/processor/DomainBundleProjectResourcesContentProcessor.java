@@ -8,37 +8,67 @@ package org.mule.tools.api.packager.resources.processor;
 
 import org.mule.tools.api.classloader.model.Artifact;
 import org.mule.tools.api.packager.resources.content.ResourcesContent;
-import org.mule.tools.api.packager.sources.MuleContentGenerator;
+import org.mule.tools.utils.ParallelTasks;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.mule.tools.api.packager.packaging.PackagingType.MULE_DOMAIN;
+import static org.mule.tools.api.packager.sources.ContentGenerator.checkPathExist;
 import static org.mule.tools.api.packager.structure.FolderNames.APPLICATIONS;
 import static org.mule.tools.api.packager.structure.FolderNames.DOMAIN;
+import static org.mule.tools.utils.FileLinks.linkOrCopy;
 
+/**
+ * Places the resolved applications and domain of a domain bundle in the bundle folders.
+ * <p>
+ * The artifacts come from the repository they were resolved to, usually the local Maven repository. A hard link shares the
+ * file with the repository, so anything rewriting the bundle folders in place would corrupt the repository as well. Artifacts
+ * are therefore copied, and only the ones that can not be written, as in a read-only repository, are hard linked where
+ * possible.
+ */
 public class DomainBundleProjectResourcesContentProcessor implements ResourcesContentProcessor {
 
   private Path domainFolderPath;
   private Path applicationsFolderPath;
+  private final int threads;
 
   public DomainBundleProjectResourcesContentProcessor(Path targetFolder) {
+    this(targetFolder, 1);
+  }
+
+  /**
+   * @param threads maximum number of artifacts placed at the same time
+   */
+  public DomainBundleProjectResourcesContentProcessor(Path targetFolder, int threads) {
     domainFolderPath = targetFolder.resolve(DOMAIN.value());
     applicationsFolderPath = targetFolder.resolve(APPLICATIONS.value());
+    this.threads = threads;
   }
 
   @Override
   public void process(ResourcesContent resourcesContent) throws IOException {
-    for (Artifact artifact : resourcesContent.getResources()) {
+    ParallelTasks.map(resourcesContent.getResources(), threads, artifact -> {
       copyAsDomainOrApplication(artifact);
-    }
+      return null;
+    });
   }
 
   protected void copyAsDomainOrApplication(Artifact artifact) throws IOException {
     Path originPath = Paths.get(artifact.getUri());
     String packagingType = artifact.getArtifactCoordinates().getClassifier();
     Path destinationPath = packagingType.equals(MULE_DOMAIN.toString()) ? domainFolderPath : applicationsFolderPath;
-    MuleContentGenerator.copyFile(originPath, destinationPath, originPath.getFileName().toString());
+    checkPathExist(originPath);
+    checkPathExist(destinationPath);
+    Path targetPath = destinationPath.resolve(originPath.getFileName().toString());
+    if (Files.isWritable(originPath)) {
+      Files.copy(originPath, targetPath, REPLACE_EXISTING, COPY_ATTRIBUTES);
+    } else {
+      linkOrCopy(originPath, targetPath);
+    }
   }
 }
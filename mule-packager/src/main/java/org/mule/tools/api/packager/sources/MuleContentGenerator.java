@@ -74,10 +74,14 @@ public class MuleContentGenerator extends ContentGenerator {
   }
 
   public void createAstFile(InputStream inputStream) throws IOException {
-    File targetFile = projectInformation.getBuildDirectory().resolve(META_INF.value()).resolve(MULE_ARTIFACT.value())
-        .resolve(ARTIFACT_AST).toFile();
+    FileUtils.copyInputStreamToFile(inputStream, getAstFile().toFile());
+  }
 
-    FileUtils.copyInputStreamToFile(inputStream, targetFile);
+  /**
+   * @return the location of the serialized artifact AST
+   */
+  public Path getAstFile() {
+    return projectInformation.getBuildDirectory().resolve(META_INF.value()).resolve(MULE_ARTIFACT.value()).resolve(ARTIFACT_AST);
   }
 
   /**
@@ -14,6 +14,8 @@ import org.mule.tools.api.classloader.model.Artifact;
 import org.mule.tools.api.classloader.model.ClassLoaderModel;
 import org.mule.tools.api.packager.sources.MuleContentGenerator;
 import org.mule.tools.api.util.PackagerLog;
+import org.mule.tools.utils.jfr.ArtifactInstallEvent;
+import org.mule.tools.utils.jfr.FlightRecorderEvents;
 
 import java.io.File;
 import java.io.IOException;
@@ -45,9 +47,17 @@ public class ArtifactInstaller {
       artifactFolderDestination.mkdirs();
     }
 
+    ArtifactInstallEvent event = null;
+    if (FlightRecorderEvents.isEnabled()) {
+      event = new ArtifactInstallEvent();
+      event.begin();
+    }
     try {
       generateArtifactFile(artifact, artifactFolderDestination, repositoryFile);
       generateDependencyDescriptorFile(artifact, artifactFolderDestination, classLoaderModel, prettyPrinting);
+      if (event != null) {
+        commit(event, artifact);
+      }
     } catch (IOException e) {
       throw new IOException(
                             format("There was a problem while copying the artifact [%s] file [%s] to the application local repository",
@@ -56,6 +66,17 @@ public class ArtifactInstaller {
     }
   }
 
+  private void commit(ArtifactInstallEvent event, Artifact artifact) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.artifact = artifact.getArtifactCoordinates().toString();
+      event.bytes = artifact.getUri() != null && "file".equals(artifact.getUri().getScheme())
+          ? new File(artifact.getUri()).length()
+          : 0;
+      event.commit();
+    }
+  }
+
   protected void generateArtifactFile(Artifact artifact, File artifactFolderDestination, File repositoryFile) throws IOException {
     String artifactFilename = artifact.getFormattedArtifactFileName();
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.repository;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.mule.tools.api.util.Memoizer;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread safe cache of dependency resolution results.
+ * <p>
+ * Keys are expected to contain every input that affects the resolution (the client that performs it, the artifact coordinates
+ * or pom file and the resolution flags), so a cached value can be reused by any module or mojo of the same build.
+ */
+public class DependencyResolutionCache {
+
+  private final Memoizer<Object, Object> results = new Memoizer<>();
+
+  /**
+   * Returns the cached result for the given key, resolving and caching it if it is not present. Failed resolutions are not
+   * cached, so they can be retried.
+   *
+   * @param key      identifies the resolution, must implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+   * @param resolver resolves the value when there is no cached result for the key
+   * @return the resolution result
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Supplier<T> resolver) {
+    checkArgument(key != null, "Key must not be null");
+    checkArgument(resolver != null, "Resolver must not be null");
+    return (T) results.get(key, resolver);
+  }
+
+  public long getHits() {
+    return results.getHits();
+  }
+
+  public long getMisses() {
+    return results.getMisses();
+  }
+
+  public int size() {
+    return results.size();
+  }
+
+  public void clear() {
+    results.clear();
+  }
+
+  @Override
+  public String toString() {
+    return "entries: " + size() + ", hits: " + getHits() + ", misses: " + getMisses();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.repository;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.mule.maven.client.internal.MuleMavenClient;
+import org.mule.tools.api.util.PackagerLog;
+import org.mule.tools.api.util.SessionScope;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Pool of {@link MuleMavenClient} instances shared by every module and mojo of a Maven session.
+ * <p>
+ * Clients are keyed by the settings used to build them, so two builders configured with the same repositories, settings files,
+ * user properties and profiles get the same client instance. The pool also holds a {@link DependencyResolutionCache} so
+ * resolutions of the same artifacts are not repeated across the reactor.
+ */
+public class MavenClientPool {
+
+  private final Map<Object, MuleMavenClient> clients = new ConcurrentHashMap<>();
+  private final DependencyResolutionCache resolutionCache = new DependencyResolutionCache();
+  private final AtomicLong clientRequests = new AtomicLong();
+
+  /**
+   * Returns the pool bound to the given session, creating it if this is the first request of the build.
+   * <p>
+   * When the session has no repository session (i.e. it is not a real build session) a new, unshared pool is returned.
+   *
+   * @param session the current maven session
+   * @return the session scoped pool
+   */
+  public static MavenClientPool getInstance(MavenSession session) {
+    return SessionScope.getOrCreate(session, MavenClientPool.class, MavenClientPool::new);
+  }
+
+  /**
+   * @param session the current maven session
+   * @return the pool bound to the given session, or {@code null} if no client was requested in the build
+   */
+  public static MavenClientPool find(MavenSession session) {
+    return SessionScope.find(session, MavenClientPool.class);
+  }
+
+  /**
+   * Returns a client configured as the given builder, building it only if there is no pooled client for that configuration.
+   * <p>
+   * Pooled clients do not keep the log of the mojo that built them, the log is only used while building the client, so it is
+   * passed by every caller.
+   *
+   * @param builder a configured client builder
+   * @param log     log of the caller
+   * @return the pooled client
+   */
+  public MuleMavenClient getClient(MuleMavenPluginClientBuilder builder, PackagerLog log) {
+    checkArgument(builder != null, "Builder must not be null");
+    checkArgument(log != null, "Log must not be null");
+    clientRequests.incrementAndGet();
+    Object key = builder.getConfigurationKey();
+    MuleMavenClient client = clients.get(key);
+    if (client != null) {
+      log.debug("Reusing the maven client of the session");
+      return client;
+    }
+    return clients.computeIfAbsent(key, configuration -> builder.build());
+  }
+
+  public DependencyResolutionCache getResolutionCache() {
+    return resolutionCache;
+  }
+
+  public int getClientCount() {
+    return clients.size();
+  }
+
+  public long getClientRequests() {
+    return clientRequests.get();
+  }
+
+  public void logStatistics(PackagerLog log) {
+    log.info("Maven clients: " + getClientCount() + " built for " + getClientRequests() + " requests. Dependency resolution "
+        + "cache: " + resolutionCache);
+  }
+}
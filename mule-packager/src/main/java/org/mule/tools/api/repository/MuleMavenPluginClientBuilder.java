@@ -19,6 +19,8 @@ import org.mule.tools.api.util.PackagerLog;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -86,6 +88,24 @@ public class MuleMavenPluginClientBuilder {
     return (MuleMavenClient) provider.createMavenClient(mavenConfiguration);
   }
 
+  /**
+   * Builds the client through the given pool, reusing a previously built client with the same configuration.
+   *
+   * @param pool session scoped pool of clients
+   * @return a client configured as this builder
+   */
+  public MuleMavenClient build(MavenClientPool pool) {
+    return pool.getClient(this, log);
+  }
+
+  /**
+   * @return a key that is equal for every builder that would build an equivalent client
+   */
+  protected Object getConfigurationKey() {
+    return Arrays.asList(remoteRepositories, localRepository, globalSettings, userSettings,
+                         userProperties != null ? new HashMap<>(userProperties) : null, activeProfiles, inactiveProfiles);
+  }
+
   protected MavenConfiguration buildMavenConfiguration() {
     MavenConfiguration.MavenConfigurationBuilder mavenConfigurationBuilder = new MavenConfiguration.MavenConfigurationBuilder();
     DefaultSettingsSupplierFactory settingsSupplierFactory = new DefaultSettingsSupplierFactory(new MavenEnvironmentVariables());
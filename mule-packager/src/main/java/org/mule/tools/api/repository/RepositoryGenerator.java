@@ -22,6 +22,7 @@ import org.mule.tools.api.classloader.model.ArtifactCoordinates;
 import org.mule.tools.api.classloader.model.ClassLoaderModel;
 import org.mule.tools.api.classloader.model.NotParameterizedClassLoaderModel;
 import org.mule.tools.api.util.FileUtils;
+import org.mule.tools.utils.TimingReport;
 
 import java.io.File;
 import java.io.IOException;
@@ -76,12 +77,17 @@ public class RepositoryGenerator {
   public ClassLoaderModel generate(boolean lightweight, boolean useLocalRepository, boolean prettyPrinting,
                                    boolean includeTestDependencies, Optional<MavenReactorResolver> mavenReactorResolver)
       throws IOException, IllegalStateException {
-    ApplicationClassloaderModel appModel =
-        applicationClassLoaderModelAssembler.getApplicationClassLoaderModel(projectPomFile, outputDirectory, appGAVModel,
-                                                                            includeTestDependencies, mavenReactorResolver,
-                                                                            activeProfiles);
+    ApplicationClassloaderModel appModel;
+    try (TimingReport.Step step = TimingReport.step("classloader-model")) {
+      appModel =
+          applicationClassLoaderModelAssembler.getApplicationClassLoaderModel(projectPomFile, outputDirectory, appGAVModel,
+                                                                              includeTestDependencies, mavenReactorResolver,
+                                                                              activeProfiles);
+    }
     if (!lightweight) {
-      installArtifacts(getRepositoryFolder(), artifactInstaller, appModel, prettyPrinting);
+      try (TimingReport.Step step = TimingReport.step("repository-install")) {
+        installArtifacts(getRepositoryFolder(), artifactInstaller, appModel, prettyPrinting);
+      }
     }
     if (useLocalRepository) {
       generateClassLoaderModelRepositoryFiles(appModel, prettyPrinting);
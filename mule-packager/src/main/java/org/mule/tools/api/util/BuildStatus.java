@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fingerprints of the last execution of a build step, used to skip the step when it would produce the same result again.
+ * <p>
+ * The fingerprint of the inputs is recorded together with the size and modification time of the outputs once the step completes.
+ * The step is up to date when its inputs did not change and its outputs are still the ones it produced, so outputs that were
+ * deleted or modified by something else are generated again.
+ */
+public class BuildStatus {
+
+  private static final String INPUTS_EXTENSION = ".inputs";
+  private static final String OUTPUTS_EXTENSION = ".outputs";
+
+  private final Path inputsFile;
+  private final Path outputsFile;
+
+  /**
+   * @param statusFolder folder where the fingerprints are stored
+   * @param step name of the step, unique within the folder
+   */
+  public BuildStatus(Path statusFolder, String step) {
+    this.inputsFile = statusFolder.resolve(step + INPUTS_EXTENSION);
+    this.outputsFile = statusFolder.resolve(step + OUTPUTS_EXTENSION);
+  }
+
+  /**
+   * @return whether the last execution of the step had the same {@code inputs} and its {@code outputs} were not modified since
+   */
+  public boolean isUpToDate(Fingerprint inputs, Collection<Path> outputs) throws IOException {
+    Optional<Fingerprint> previousOutputs = Fingerprint.read(outputsFile);
+    return !outputs.isEmpty() && outputs.stream().allMatch(Files::exists)
+        && Fingerprint.read(inputsFile).map(inputs::equals).orElse(false)
+        && previousOutputs.isPresent() && previousOutputs.get().equals(outputsFingerprint(outputs));
+  }
+
+  /**
+   * @return the keys of the inputs that changed since the last execution, or empty if the step was never executed
+   */
+  public Optional<Set<String>> getChangedInputs(Fingerprint inputs) {
+    return Fingerprint.read(inputsFile).map(inputs::getChangedKeys);
+  }
+
+  /**
+   * Forgets the last execution, so the step is not up to date until it completes again.
+   */
+  public void invalidate() throws IOException {
+    Files.deleteIfExists(inputsFile);
+    Files.deleteIfExists(outputsFile);
+  }
+
+  /**
+   * Records a completed execution of the step.
+   */
+  public void record(Fingerprint inputs, Collection<Path> outputs) throws IOException {
+    outputsFingerprint(outputs).write(outputsFile);
+    inputs.write(inputsFile);
+  }
+
+  private static Fingerprint outputsFingerprint(Collection<Path> outputs) throws IOException {
+    Fingerprint fingerprint = new Fingerprint();
+    for (Path output : outputs) {
+      String key = output.toAbsolutePath().toString().replace(File.separatorChar, '/');
+      fingerprint.withPathStamps(key, output.toFile());
+    }
+    return fingerprint;
+  }
+}
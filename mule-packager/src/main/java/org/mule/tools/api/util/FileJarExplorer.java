@@ -25,6 +25,10 @@ import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.mule.tools.utils.TimingReport;
+import org.mule.tools.utils.jfr.FlightRecorderEvents;
+import org.mule.tools.utils.jfr.JarScanEvent;
+
 /**
  * Discovers Java packages from files and folders.
  * This class has been copied from Mule Runtime as we don't have a common simple utils API that could be shared.
@@ -38,6 +42,25 @@ public class FileJarExplorer implements JarExplorer {
 
   @Override
   public JarInfo explore(URI library) {
+    try (TimingReport.Step step = TimingReport.step("jar-scan")) {
+      if (!FlightRecorderEvents.isEnabled()) {
+        return doExplore(library);
+      }
+      JarScanEvent event = new JarScanEvent();
+      event.begin();
+      JarInfo jarInfo = doExplore(library);
+      event.end();
+      if (event.shouldCommit()) {
+        event.library = library.toString();
+        event.packages = jarInfo.getPackages().size();
+        event.resources = jarInfo.getResources().size();
+        event.commit();
+      }
+      return jarInfo;
+    }
+  }
+
+  private JarInfo doExplore(URI library) {
     Set<String> packages = new TreeSet<>();
     Set<String> resources = new TreeSet<>();
 
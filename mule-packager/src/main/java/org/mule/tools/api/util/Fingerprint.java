@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static java.lang.String.format;
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprint of the inputs of a build step, so the step can be skipped when its inputs did not change since its last execution.
+ * <p>
+ * A fingerprint is a sorted set of entries: plain values (e.g. versions or coordinates) and the SHA-256 of files. Two
+ * fingerprints are equal when they have the same entries with the same values.
+ */
+public class Fingerprint {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private final SortedMap<String, String> entries = new TreeMap<>();
+
+  /**
+   * Adds a plain value to the fingerprint. {@code null} values are stored as empty values.
+   */
+  public Fingerprint with(String key, Object value) {
+    entries.put(key, value != null ? value.toString() : "");
+    return this;
+  }
+
+  /**
+   * Adds the checksum of {@code file} to the fingerprint, or an empty value if the file does not exist.
+   */
+  public Fingerprint withFile(String key, Path file) throws IOException {
+    return with(key, Files.isRegularFile(file) ? checksum(file) : null);
+  }
+
+  /**
+   * Adds the checksum of every file in {@code directory} accepted by {@code filter}, keyed by {@code key} followed by the path of
+   * the file relative to the directory.
+   */
+  public Fingerprint withDirectory(String key, Path directory, Predicate<Path> filter) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return with(key, null);
+    }
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).filter(filter)::iterator) {
+        withFile(key + "/" + directory.relativize(file).toString().replace(File.separatorChar, '/'), file);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds the size and modification time of {@code file}, which is much cheaper than its checksum for big files that are replaced
+   * rather than modified, such as resolved dependencies.
+   */
+  public Fingerprint withFileStamp(String key, File file) {
+    return with(key, file != null && file.isFile() ? file.length() + "@" + file.lastModified() : null);
+  }
+
+  /**
+   * Adds the size and modification time of every file in {@code directory}, keyed by {@code key} followed by the path of the
+   * file relative to the directory. Files and folders not accepted by {@code filter} are left out, including the whole content
+   * of the folders.
+   */
+  public Fingerprint withDirectoryStamps(String key, Path directory, Predicate<Path> filter) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return with(key, null);
+    }
+    Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+        return dir.equals(directory) || filter.test(dir) ? CONTINUE : SKIP_SUBTREE;
+      }
+
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+        if (attributes.isRegularFile() && filter.test(file)) {
+          with(key + "/" + directory.relativize(file).toString().replace(File.separatorChar, '/'),
+               attributes.size() + "@" + attributes.lastModifiedTime().toMillis());
+        }
+        return CONTINUE;
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Adds the stamps of {@code file} when it is a regular file, or the stamps of every file in it when it is a directory, such as
+   * a reactor module resolved to its output folder instead of its packaged artifact.
+   */
+  public Fingerprint withPathStamps(String key, File file) throws IOException {
+    if (file != null && file.isDirectory()) {
+      return withDirectoryStamps(key, file.toPath(), path -> true);
+    }
+    return withFileStamp(key, file);
+  }
+
+  public Map<String, String> getEntries() {
+    return entries;
+  }
+
+  /**
+   * @return the keys whose value differs between this fingerprint and {@code other}, including the keys only present in one of
+   *         them
+   */
+  public Set<String> getChangedKeys(Fingerprint other) {
+    Set<String> changed = new HashSet<>();
+    entries.forEach((key, value) -> {
+      if (!value.equals(other.entries.get(key))) {
+        changed.add(key);
+      }
+    });
+    other.entries.keySet().stream().filter(key -> !entries.containsKey(key)).forEach(changed::add);
+    return changed;
+  }
+
+  public void write(Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    Properties properties = new Properties();
+    properties.putAll(entries);
+    try (OutputStream outputStream = Files.newOutputStream(file)) {
+      properties.store(outputStream, null);
+    }
+  }
+
+  /**
+   * @return the fingerprint stored in {@code file}, or empty if the file does not exist or can not be read
+   */
+  public static Optional<Fingerprint> read(Path file) {
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+    Properties properties = new Properties();
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      properties.load(inputStream);
+    } catch (IOException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    Fingerprint fingerprint = new Fingerprint();
+    properties.stringPropertyNames().forEach(key -> fingerprint.entries.put(key, properties.getProperty(key)));
+    return Optional.of(fingerprint);
+  }
+
+  private static String checksum(Path file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    byte[] buffer = new byte[8192];
+    try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+      while (inputStream.read(buffer) != -1) {
+        // Reading updates the digest
+      }
+    }
+    StringBuilder checksum = new StringBuilder();
+    for (byte b : digest.digest()) {
+      checksum.append(format("%02x", b));
+    }
+    return checksum.toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof Fingerprint && entries.equals(((Fingerprint) o).entries);
+  }
+
+  @Override
+  public int hashCode() {
+    return entries.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "Fingerprint" + entries;
+  }
+}
@@ -8,6 +8,8 @@ package org.mule.tools.api.util;
 
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 
+import org.mule.tools.api.classloader.model.ModelInterner;
+
 import java.util.Set;
 
 /**
@@ -17,6 +19,8 @@ public class JarInfo {
 
   private final Set<String> packages;
   private final Set<String> resources;
+  private volatile String[] packagesArray;
+  private volatile String[] resourcesArray;
 
   /**
    * Creates a new instance corresponding to a given JAR.
@@ -45,4 +49,26 @@ public class JarInfo {
     return resources;
   }
 
+  /**
+   * @return Java packages found on the JAR. The array is interned by {@link ModelInterner#internAll(String[])} once, so every
+   *         model built from this instance keeps it without copying it. It must not be modified.
+   */
+  public String[] getPackagesArray() {
+    if (packagesArray == null) {
+      packagesArray = ModelInterner.internAll(packages.toArray(new String[0]));
+    }
+    return packagesArray;
+  }
+
+  /**
+   * @return Java resources found on the JAR. The array is interned by {@link ModelInterner#internAll(String[])} once, so every
+   *         model built from this instance keeps it without copying it. It must not be modified.
+   */
+  public String[] getResourcesArray() {
+    if (resourcesArray == null) {
+      resourcesArray = ModelInterner.internAll(resources.toArray(new String[0]));
+    }
+    return resourcesArray;
+  }
+
 }
@@ -21,6 +21,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.apache.maven.execution.MavenSession;
@@ -33,12 +34,10 @@ import org.mule.tools.model.anypoint.AnypointDeployment;
 
 public class MavenProjectInformation implements ProjectInformation {
 
-  private ProjectInformation projectInformation;
-
-  private static final MavenProjectInformation mavenProjectInformation = new MavenProjectInformation();
-
-  private MavenProjectInformation() {
+  private final ProjectInformation projectInformation;
 
+  private MavenProjectInformation(ProjectInformation projectInformation) {
+    this.projectInformation = projectInformation;
   }
 
   public static MavenProjectInformation getProjectInformation(MavenSession session, MavenProject project, File projectBaseFolder,
@@ -46,11 +45,26 @@ public class MavenProjectInformation implements ProjectInformation {
     return getProjectInformation(session, project, projectBaseFolder, testJar, deployments, classifier, new ArrayList<>());
   }
 
+  /**
+   * Returns the information of the given project. The information is memoized per project for the whole session and it is only
+   * rebuilt when any of the inputs it depends on changes.
+   */
   public static MavenProjectInformation getProjectInformation(MavenSession session, MavenProject project, File projectBaseFolder,
                                                               boolean testJar, List<Deployment> deployments, String classifier,
                                                               List<String> customDomains) {
-    DefaultProjectInformation.Builder builder = new DefaultProjectInformation.Builder();
     boolean isDeployment = isDeploymentGoal(session);
+    Inputs inputs = new Inputs(project, projectBaseFolder, testJar, isDeployment ? deployments : null, classifier, customDomains,
+                               isDeployment);
+    return new MavenProjectInformation(ProjectInformationCache.getInstance(session)
+        .get(project, inputs, () -> buildProjectInformation(session, project, projectBaseFolder, testJar, deployments,
+                                                             classifier, customDomains, isDeployment)));
+  }
+
+
+  private static ProjectInformation buildProjectInformation(MavenSession session, MavenProject project, File projectBaseFolder,
+                                                            boolean testJar, List<Deployment> deployments, String classifier,
+                                                            List<String> customDomains, boolean isDeployment) {
+    DefaultProjectInformation.Builder builder = new DefaultProjectInformation.Builder();
     builder.withGroupId(project.getGroupId())
         .withArtifactId(project.getArtifactId())
         .withVersion(project.getVersion())
@@ -78,8 +92,7 @@ public class MavenProjectInformation implements ProjectInformation {
 
     builder.withDependencyProject(new DependencyProject(project));
 
-    mavenProjectInformation.projectInformation = builder.build();
-    return mavenProjectInformation;
+    return builder.build();
   }
 
   private static boolean isDeploymentGoal(MavenSession session) {
@@ -170,4 +183,64 @@ public class MavenProjectInformation implements ProjectInformation {
     }
     return Optional.ofNullable(metadata);
   }
+
+  /**
+   * Every value the project information is built from. Deployment configurations have no value equality, and each mojo
+   * execution gets its own instances, so in deployment builds the information is built again for each mojo.
+   */
+  private static final class Inputs {
+
+    private final String projectId;
+    private final File pom;
+    private final Long pomLastModified;
+    private final List<String> dependencies = new ArrayList<>();
+    private final String packaging;
+    private final String classifier;
+    private final File projectBaseFolder;
+    private final String buildDirectory;
+    private final boolean testJar;
+    private final boolean deployment;
+    private final List<Deployment> deployments;
+    private final List<String> customDomains;
+
+    private Inputs(MavenProject project, File projectBaseFolder, boolean testJar, List<Deployment> deployments,
+                   String classifier, List<String> customDomains, boolean deployment) {
+      this.projectId = project.getId();
+      this.pom = project.getFile();
+      this.pomLastModified = pom != null ? pom.lastModified() : null;
+      project.getDependencies().forEach(dependency -> dependencies.add(dependency.getManagementKey() + ":"
+          + dependency.getVersion() + ":" + dependency.getScope()));
+      this.packaging = project.getPackaging();
+      this.classifier = classifier;
+      this.projectBaseFolder = projectBaseFolder;
+      this.buildDirectory = project.getBuild().getDirectory();
+      this.testJar = testJar;
+      this.deployment = deployment;
+      this.deployments = deployments != null ? new ArrayList<>(deployments) : null;
+      this.customDomains = customDomains != null ? new ArrayList<>(customDomains) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Inputs)) {
+        return false;
+      }
+      Inputs that = (Inputs) o;
+      return testJar == that.testJar && deployment == that.deployment && Objects.equals(projectId, that.projectId)
+          && Objects.equals(pom, that.pom) && Objects.equals(pomLastModified, that.pomLastModified)
+          && dependencies.equals(that.dependencies) && Objects.equals(packaging, that.packaging)
+          && Objects.equals(classifier, that.classifier) && Objects.equals(projectBaseFolder, that.projectBaseFolder)
+          && Objects.equals(buildDirectory, that.buildDirectory) && Objects.equals(deployments, that.deployments)
+          && Objects.equals(customDomains, that.customDomains);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(projectId, pom, pomLastModified, dependencies, packaging, classifier, projectBaseFolder, buildDirectory,
+                          testJar, deployment, deployments, customDomains);
+    }
+  }
 }
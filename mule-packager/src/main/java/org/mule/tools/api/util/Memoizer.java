@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Thread safe map of values computed once per key.
+ * <p>
+ * A value is computed outside of any lock by the first caller that asks for its key, and the callers that ask for the same key
+ * meanwhile wait for it, so callers asking for different keys never wait for each other. Failures are not kept, so the next
+ * caller computes the value again.
+ *
+ * @param <K> the type of the keys, which must implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+ * @param <V> the type of the values
+ */
+public class Memoizer<K, V> {
+
+  private final Map<K, FutureTask<V>> tasks = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Returns the value of the key, computing it with {@code factory} if there is none.
+   *
+   * @param key     identifies the value
+   * @param factory computes the value when there is none for the key
+   * @return the value of the key
+   */
+  public V get(K key, Supplier<? extends V> factory) {
+    FutureTask<V> newTask = new FutureTask<>(factory::get);
+    FutureTask<V> task = tasks.putIfAbsent(key, newTask);
+    if (task == null) {
+      misses.incrementAndGet();
+      task = newTask;
+      task.run();
+    } else {
+      hits.incrementAndGet();
+    }
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the value of " + key, e);
+    } catch (ExecutionException e) {
+      tasks.remove(key, task);
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Removes the values of the keys that match {@code filter}. Callers already waiting for one of them still get it.
+   */
+  public void removeIf(Predicate<? super K> filter) {
+    tasks.keySet().removeIf(filter);
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public int size() {
+    return tasks.size();
+  }
+
+  public void clear() {
+    tasks.clear();
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JarExplorer} that explores each library only once.
+ * <p>
+ * A dependency is usually explored for the application model and again for the model of every plugin that depends on it.
+ * Sharing the explorer between them avoids scanning the jar again and makes every model hold the same {@link JarInfo}, and
+ * therefore the same package and resource arrays, which are interned once and kept by the models without copying them. It is
+ * meant to be used while building the models of a single artifact.
+ */
+public class MemoizingJarExplorer implements JarExplorer {
+
+  private final JarExplorer delegate;
+  private final Map<URI, JarInfo> explored = new ConcurrentHashMap<>();
+
+  public MemoizingJarExplorer() {
+    this(new FileJarExplorer());
+  }
+
+  public MemoizingJarExplorer(JarExplorer delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public JarInfo explore(URI library) {
+    return explored.computeIfAbsent(library, delegate::explore);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+
+import org.mule.tools.api.packager.ProjectInformation;
+import org.mule.tools.client.authentication.model.Credentials;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Session scoped cache of {@link ProjectInformation}, with one entry per project of the reactor, and of the values the project
+ * information needs from remote services.
+ * <p>
+ * An entry is reused while the inputs used to build it remain the same. Inputs are compared with {@link Object#equals(Object)},
+ * so callers pass a key object with value semantics. Any change in those inputs rebuilds the entry and replaces the previous
+ * one.
+ * <p>
+ * Entries are built outside of any lock by a {@link Memoizer}, so the concurrent module builds of a parallel ({@code -T}) build
+ * never wait for each other unless they request the same entry.
+ */
+public class ProjectInformationCache {
+
+  private final Memoizer<List<Object>, ProjectInformation> entries = new Memoizer<>();
+  private final Memoizer<GeneratedGroupIdKey, String> generatedGroupIds = new Memoizer<>();
+
+  public static ProjectInformationCache getInstance(MavenSession session) {
+    return SessionScope.getOrCreate(session, ProjectInformationCache.class, ProjectInformationCache::new);
+  }
+
+  /**
+   * Returns the cached project information for the given project and inputs, building it if there is none or if it was built
+   * from other inputs.
+   *
+   * @param project the project the information belongs to
+   * @param inputs  every value the project information is built from, equal to the inputs of a previous call only when that
+   *                call would build the same project information
+   * @param factory builds the project information
+   * @return the project information
+   */
+  public ProjectInformation get(MavenProject project, Object inputs, Supplier<ProjectInformation> factory) {
+    List<Object> projectKey = getProjectKey(project);
+    List<Object> key = asList(projectKey, inputs);
+    // Entries built from previous inputs of the same project are stale
+    entries.removeIf(entryKey -> entryKey.get(0).equals(projectKey) && !entryKey.equals(key));
+    return entries.get(key, factory);
+  }
+
+  /**
+   * Returns the group id Exchange generates for the organization, looking it up once per Exchange instance, organization and
+   * credentials. Different credentials may see different groups, so they never share the looked up value.
+   *
+   * @param lookup looks up the group id in Exchange
+   */
+  public String getGeneratedGroupId(String baseUri, String organizationId, Credentials credentials, Supplier<String> lookup) {
+    return generatedGroupIds.get(new GeneratedGroupIdKey(baseUri, organizationId, credentials), lookup);
+  }
+
+  public void invalidate(MavenProject project) {
+    List<Object> projectKey = getProjectKey(project);
+    entries.removeIf(key -> key.get(0).equals(projectKey));
+  }
+
+  private static List<Object> getProjectKey(MavenProject project) {
+    return asList(project.getGroupId(), project.getArtifactId(), project.getVersion(), project.getBasedir());
+  }
+
+  /**
+   * Identifies the Exchange instance, the organization and the user a generated group id was looked up for. Only a digest of the
+   * password is kept, so a changed password looks the group id up again without holding the password in the cache.
+   */
+  private static final class GeneratedGroupIdKey {
+
+    private final String baseUri;
+    private final String organizationId;
+    private final String username;
+    private final byte[] passwordDigest;
+
+    private GeneratedGroupIdKey(String baseUri, String organizationId, Credentials credentials) {
+      this.baseUri = baseUri;
+      this.organizationId = organizationId;
+      this.username = credentials != null ? credentials.getUsername() : null;
+      this.passwordDigest = credentials != null && credentials.getPassword() != null ? digest(credentials.getPassword()) : null;
+    }
+
+    private static byte[] digest(String password) {
+      try {
+        return MessageDigest.getInstance("SHA-256").digest(password.getBytes(UTF_8));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof GeneratedGroupIdKey)) {
+        return false;
+      }
+      GeneratedGroupIdKey that = (GeneratedGroupIdKey) o;
+      return Objects.equals(baseUri, that.baseUri) && Objects.equals(organizationId, that.organizationId)
+          && Objects.equals(username, that.username) && Arrays.equals(passwordDigest, that.passwordDigest);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(baseUri, organizationId, username, Arrays.hashCode(passwordDigest));
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Binds objects to the lifetime of a Maven session, so they can be shared by every module and mojo of the same build, including
+ * parallel ({@code -T}) builds.
+ */
+public final class SessionScope {
+
+  private SessionScope() {}
+
+  /**
+   * Returns the instance of the given type bound to the session, creating it if this is the first request of the build.
+   * <p>
+   * When the session has no repository session (i.e. it is not a real build session) a new, unshared instance is returned.
+   *
+   * @param session the current maven session
+   * @param type    the type of the instance, also used as its key in the session
+   * @param factory creates the instance when it is not bound to the session yet
+   * @return the session scoped instance
+   */
+  public static <T> T getOrCreate(MavenSession session, Class<T> type, Supplier<T> factory) {
+    checkArgument(session != null, "Session must not be null");
+    RepositorySystemSession repositorySession = session.getRepositorySession();
+    if (repositorySession == null || repositorySession.getData() == null) {
+      return factory.get();
+    }
+    SessionData data = repositorySession.getData();
+    String key = type.getName();
+    Object instance = data.get(key);
+    while (!type.isInstance(instance)) {
+      T newInstance = factory.get();
+      if (data.set(key, instance, newInstance)) {
+        return newInstance;
+      }
+      instance = data.get(key);
+    }
+    return type.cast(instance);
+  }
+
+  /**
+   * @param session the current maven session
+   * @param type    the type of the instance, also used as its key in the session
+   * @return the instance of the given type bound to the session, or {@code null} if no mojo created it
+   */
+  public static <T> T find(MavenSession session, Class<T> type) {
+    checkArgument(session != null, "Session must not be null");
+    RepositorySystemSession repositorySession = session.getRepositorySession();
+    if (repositorySession == null || repositorySession.getData() == null) {
+      return null;
+    }
+    Object instance = repositorySession.getData().get(type.getName());
+    return type.isInstance(instance) ? type.cast(instance) : null;
+  }
+}
@@ -31,6 +31,7 @@ import org.mule.tools.api.packager.sources.ContentGenerator;
 import org.mule.tools.api.packager.sources.ContentGeneratorFactory;
 import org.mule.tools.api.packager.sources.MuleContentGenerator;
 import org.mule.tools.api.repository.ArtifactInstaller;
+import org.mule.tools.api.repository.MavenClientPool;
 import org.mule.tools.api.repository.MuleMavenPluginClientBuilder;
 import org.mule.tools.api.repository.RepositoryGenerator;
 import org.mule.tools.api.validation.MulePluginsCompatibilityValidator;
@@ -134,8 +135,11 @@ public class SourcesProcessor {
 
   protected ApplicationClassLoaderModelAssembler getClassLoaderModelAssembler() {
     MuleMavenClient mavenClient = getMavenClient();
-    return new ApplicationClassLoaderModelAssembler(new ApplicationDependencyResolver(mavenClient),
-                                                    new MulePluginClassloaderModelResolver(mavenClient),
+    // Shared by the application and plugin models, so the dependencies they have in common are explored once
+    JarExplorer jarExplorer = new MemoizingJarExplorer();
+    return new ApplicationClassLoaderModelAssembler(new ApplicationDependencyResolver(mavenClient,
+                                                                                      getMavenClientPool().getResolutionCache()),
+                                                    new MulePluginClassloaderModelResolver(mavenClient, jarExplorer),
                                                     new AdditionalPluginDependenciesResolver(mavenClient,
                                                                                              mavenComponents
                                                                                                  .getAdditionalPluginDependencies() == null
@@ -145,7 +149,7 @@ public class SourcesProcessor {
                                                                                              new File(mavenComponents
                                                                                                  .getOutputDirectory(),
                                                                                                       "temp")),
-                                                    new FileJarExplorer());
+                                                    jarExplorer);
   }
 
   protected final boolean validateMuleRuntimeSharedLibrary(String groupId, String artifactId) {
@@ -215,6 +219,10 @@ public class SourcesProcessor {
         .withUserProperties(request.getUserProperties())
         .withActiveProfiles(request.getActiveProfiles())
         .withInactiveProfiles(request.getInactiveProfiles())
-        .build();
+        .build(getMavenClientPool());
+  }
+
+  protected MavenClientPool getMavenClientPool() {
+    return MavenClientPool.getInstance(mavenComponents.getSession());
   }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import org.mule.tools.utils.TimingReport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * The {@link TimingReport}s of every module built in a Maven session, used to aggregate them into a summary of the reactor.
+ */
+public class TimingReports {
+
+  private final Map<String, TimingReport> reports = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the reports bound to the given session, creating them if this is the first request of the build.
+   *
+   * @param session the current maven session
+   * @return the session scoped reports
+   */
+  public static TimingReports getInstance(MavenSession session) {
+    return SessionScope.getOrCreate(session, TimingReports.class, TimingReports::new);
+  }
+
+  /**
+   * @param session the current maven session
+   * @return the reports bound to the given session, or {@code null} if the timing report is not enabled in the build
+   */
+  public static TimingReports find(MavenSession session) {
+    return SessionScope.find(session, TimingReports.class);
+  }
+
+  /**
+   * @param module the id of the module
+   * @return the report of the module, created if it does not exist yet
+   */
+  public TimingReport getReport(String module) {
+    return reports.computeIfAbsent(module, TimingReport::new);
+  }
+
+  public Collection<TimingReport> getReports() {
+    return reports.values();
+  }
+
+  /**
+   * @return the steps of every module accumulated in a single report
+   */
+  public TimingReport getSummary() {
+    TimingReport summary = new TimingReport("reactor (" + reports.size() + " modules)");
+    reports.values().forEach(summary::merge);
+    return summary;
+  }
+
+  /**
+   * Logs the accumulated steps of every module, slowest first.
+   */
+  public void logSummary(PackagerLog log) {
+    List<TimingReport.StepTiming> steps = new ArrayList<>(getSummary().getSteps());
+    steps.sort(Comparator.comparingLong(TimingReport.StepTiming::getTimeMillis).reversed());
+    log.info("Build timings of " + reports.size() + " modules:");
+    for (TimingReport.StepTiming step : steps) {
+      log.info("  " + step.getName() + ": " + step.getTimeMillis() + "ms in " + step.getCount() + " executions, "
+          + step.getAllocatedBytes() / (1024 * 1024) + "MB allocated");
+    }
+  }
+}
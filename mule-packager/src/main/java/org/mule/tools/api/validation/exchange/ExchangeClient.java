@@ -18,6 +18,7 @@ import javax.ws.rs.core.Response;
 
 import org.apache.commons.lang3.StringUtils;
 
+import org.mule.tools.api.util.ProjectInformationCache;
 import org.mule.tools.api.validation.exchange.model.Group;
 import org.mule.tools.client.core.AbstractClient;
 import org.mule.tools.client.authentication.AuthenticationServiceClient;
@@ -38,16 +39,33 @@ public class ExchangeClient extends AbstractClient {
   private AuthenticationServiceClient authenticationServiceClient;
 
   private ExchangeRepositoryMetadata metadata;
+  private final ProjectInformationCache cache;
 
   public ExchangeClient(ExchangeRepositoryMetadata metadata) {
+    this(metadata, null);
+  }
+
+  /**
+   * @param cache session cache where the generated group id is kept, or {@code null} to look it up on every call
+   */
+  public ExchangeClient(ExchangeRepositoryMetadata metadata, ProjectInformationCache cache) {
     checkArgument(metadata != null, "The metadata must not be null");
     this.metadata = metadata;
+    this.cache = cache;
     this.authenticationServiceClient = new AuthenticationServiceClient(metadata.getBaseUri());
   }
 
   protected void init() {}
 
   public String getGeneratedGroupId() {
+    if (cache == null) {
+      return lookupGeneratedGroupId();
+    }
+    return cache.getGeneratedGroupId(metadata.getBaseUri(), metadata.getOrganizationId(), metadata.getCredentials(),
+                                     this::lookupGeneratedGroupId);
+  }
+
+  private String lookupGeneratedGroupId() {
     getBearerToken(metadata.getCredentials());
 
     Response response = get(metadata.getBaseUri(), String.format(GROUPS_PATH, metadata.getOrganizationId()));
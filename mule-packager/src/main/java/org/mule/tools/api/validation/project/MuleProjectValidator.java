@@ -26,6 +26,7 @@ import org.mule.tools.api.classloader.model.SharedLibraryDependency;
 import org.mule.tools.api.exception.ValidationException;
 import org.mule.tools.api.packager.ProjectInformation;
 import org.mule.tools.api.packager.packaging.PackagingType;
+import org.mule.tools.api.util.ProjectInformationCache;
 import org.mule.tools.api.validation.MuleArtifactJsonValidator;
 import org.mule.tools.api.validation.deployment.ProjectDeploymentValidator;
 import org.mule.tools.api.validation.exchange.ExchangeClient;
@@ -42,6 +43,7 @@ public class MuleProjectValidator extends AbstractProjectValidator {
 
   private final Optional<String> deployMuleVersion;
   private final ProjectDeploymentValidator deploymentValidator;
+  private final ProjectInformationCache cache;
 
   public MuleProjectValidator(ProjectInformation projectInformation, List<SharedLibraryDependency> sharedLibraries,
                               boolean strictCheck) {
@@ -51,8 +53,17 @@ public class MuleProjectValidator extends AbstractProjectValidator {
 
   public MuleProjectValidator(ProjectInformation projectInformation, List<SharedLibraryDependency> sharedLibraries,
                               ProjectRequirement requirement) {
+    this(projectInformation, sharedLibraries, requirement, null);
+  }
+
+  /**
+   * @param cache session cache of the values looked up in remote services, or {@code null} to look them up on every validation
+   */
+  public MuleProjectValidator(ProjectInformation projectInformation, List<SharedLibraryDependency> sharedLibraries,
+                              ProjectRequirement requirement, ProjectInformationCache cache) {
     super(projectInformation, requirement);
     this.sharedLibraries = sharedLibraries;
+    this.cache = cache;
 
     // TODO we should know how to validate each deployment regardles of how many are they
     Optional<Deployment> deploymentConfiguration;
@@ -174,7 +185,7 @@ public class MuleProjectValidator extends AbstractProjectValidator {
   }
 
   private void validateIsDeployableInExchange() throws ValidationException {
-    ExchangeClient client = new ExchangeClient(projectInformation.getExchangeRepositoryMetadata().get());
+    ExchangeClient client = new ExchangeClient(projectInformation.getExchangeRepositoryMetadata().get(), cache);
     String requiredGroupId = client.getGeneratedGroupId();
     if (!StringUtils.equals(projectInformation.getGroupId(), requiredGroupId)) {
       throw new ValidationException("Deployment to Exchange is about to fail. Required groupId: [" + requiredGroupId
@@ -10,6 +10,7 @@ import org.mule.maven.client.api.MavenClient;
 import org.mule.tools.api.classloader.model.SharedLibraryDependency;
 import org.mule.tools.api.packager.ProjectInformation;
 import org.mule.tools.api.packager.packaging.PackagingType;
+import org.mule.tools.api.util.ProjectInformationCache;
 
 import java.util.List;
 
@@ -30,11 +31,19 @@ public class ProjectValidatorFactory {
                                                 MavenClient mavenClient,
                                                 List<SharedLibraryDependency> sharedLibraries,
                                                 ProjectRequirement requirement) {
+    return create(defaultProjectInformation, mavenClient, sharedLibraries, requirement, null);
+  }
+
+  public static AbstractProjectValidator create(ProjectInformation defaultProjectInformation,
+                                                MavenClient mavenClient,
+                                                List<SharedLibraryDependency> sharedLibraries,
+                                                ProjectRequirement requirement,
+                                                ProjectInformationCache cache) {
 
     if (PackagingType.fromString(defaultProjectInformation.getPackaging()).equals(MULE_DOMAIN_BUNDLE)) {
       return new DomainBundleProjectValidator(defaultProjectInformation, mavenClient);
     }
 
-    return new MuleProjectValidator(defaultProjectInformation, sharedLibraries, requirement);
+    return new MuleProjectValidator(defaultProjectInformation, sharedLibraries, requirement, cache);
   }
 }
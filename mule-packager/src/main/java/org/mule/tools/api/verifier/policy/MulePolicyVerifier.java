@@ -11,10 +11,12 @@ import org.mule.tools.api.packager.ProjectInformation;
 import org.mule.tools.api.verifier.ProjectVerifier;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
+import static java.lang.System.lineSeparator;
 import static java.util.Arrays.asList;
 import static org.mule.tools.api.packager.structure.PackagerFiles.MULE_ARTIFACT_JSON;
 import static org.mule.tools.api.packager.structure.PackagerFiles.POM_XML;
@@ -31,27 +33,45 @@ public class MulePolicyVerifier implements ProjectVerifier {
 
   private final String yamlFileName;
   private final ProjectInformation projectInformation;
+  private final PolicyYamlVerifier yamlVerifier;
 
   public MulePolicyVerifier(ProjectInformation projectInformation) {
     this.projectInformation = projectInformation;
     this.yamlFileName = format("%s.yaml", projectInformation.getArtifactId());
+    this.yamlVerifier = new PolicyYamlVerifier(getBaseDir(), yamlFileName);
   }
 
+  /**
+   * Verifies the policy files, the policy definition and the policy descriptor in a single pass, reporting every problem found
+   * instead of only the first one.
+   */
   @Override
   public void verify() throws ValidationException {
-    allFilesPresent();
-    validateYaml();
-    validateJson();
+    List<String> problems = new ArrayList<>();
+    for (String file : getNecessaryFiles()) {
+      check(() -> fileExists(getBaseDir(), file), problems);
+    }
+    if (new File(getBaseDir(), yamlFileName).exists()) {
+      check(this::validateYaml, problems);
+    }
+    if (getMuleArtifactFile().exists()) {
+      check(this::validateJson, problems);
+    }
+    if (!problems.isEmpty()) {
+      throw new ValidationException(join(lineSeparator(), problems));
+    }
   }
 
-  private void allFilesPresent() throws ValidationException {
-    for (String file : getNecessaryFiles()) {
-      fileExists(getBaseDir(), file);
+  private void check(Verification verification, List<String> problems) {
+    try {
+      verification.verify();
+    } catch (ValidationException e) {
+      problems.add(e.getMessage());
     }
   }
 
   private void validateYaml() throws ValidationException {
-    new PolicyYamlVerifier(getBaseDir(), yamlFileName).validate();
+    yamlVerifier.validate();
   }
 
   private void validateJson() throws ValidationException {
@@ -86,6 +106,9 @@ public class MulePolicyVerifier implements ProjectVerifier {
     }
   }
 
+  @FunctionalInterface
+  private interface Verification {
 
-
+    void verify() throws ValidationException;
+  }
 }
@@ -34,6 +34,7 @@ class PolicyMuleArtifactJsonVerifier {
   private static final String EXPORTED_RESOURCES = "exportedResources";
   private static final String CONFIGS = "configs";
   private static final String TEMPLATE_XML = "template.xml";
+  private static final MuleApplicationModelJsonSerializer SERIALIZER = new MuleApplicationModelJsonSerializer();
 
   private final ProjectInformation projectInformation;
   private final File file;
@@ -100,7 +101,7 @@ class PolicyMuleArtifactJsonVerifier {
 
   private MuleApplicationModel getMuleArtifact(File file) throws ValidationException {
     try {
-      return new MuleApplicationModelJsonSerializer().deserialize(FileUtils.readFileToString(file, (String) null));
+      return SERIALIZER.deserialize(FileUtils.readFileToString(file, (String) null));
     } catch (IOException e) {
       throw new ValidationException(format("Error validating '%s'. %s", file.getName(), e.getMessage()));
     }
@@ -13,6 +13,7 @@ import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -22,6 +23,10 @@ public class PolicyYamlVerifier {
 
   private final String yamlFileName;
   private final String path;
+  /**
+   * Parsers are not thread safe, so each verifier has its own one. A verifier must not validate from several threads at once.
+   */
+  private final Yaml parser = createParser();
 
   public PolicyYamlVerifier(String path, String yamlFileName) {
     this.path = path;
@@ -29,19 +34,19 @@ public class PolicyYamlVerifier {
   }
 
   public void validate() throws ValidationException {
-    try {
-      Representer representer = new Representer();
-      representer.getPropertyUtils().setSkipMissingProperties(true);
-
-      Yaml yamlParser = new Yaml(new Constructor(PolicyYaml.class), representer);
-      File yamlFile = new File(path, yamlFileName);
-      checkNotNullFields(yamlParser.load(new FileInputStream(yamlFile)));
-
+    try (InputStream yaml = new FileInputStream(new File(path, yamlFileName))) {
+      checkNotNullFields(parser.load(yaml));
     } catch (Exception e) {
       throw new ValidationException(format("Error validating '%s'. %s", yamlFileName, e.getMessage()));
     }
   }
 
+  private static Yaml createParser() {
+    Representer representer = new Representer();
+    representer.getPropertyUtils().setSkipMissingProperties(true);
+    return new Yaml(new Constructor(PolicyYaml.class), representer);
+  }
+
   private void checkNotNullFields(PolicyYaml policy) {
     checkArgument(policy.id != null, "Missing required creator property 'id'");
     checkArgument(policy.name != null, "Missing required creator property 'name'");
@@ -127,7 +127,7 @@ class ApplicationClassLoaderModelAssemblerTest {
     when(additionalPluginDependenciesResolver.resolveDependencies(eq(appDependencies), any(Collection.class)))
         .thenReturn(additionalPluginDependencies);
 
-    JarExplorer jarExplorer = mock(JarExplorer.class);
+    JarExplorer jarExplorer = spy(new FileJarExplorer());
     ApplicationClassLoaderModelAssembler applicationClassLoaderModelAssemblerSpy =
         getClassLoaderModelAssemblySpy(mavenClient, additionalPluginDependenciesResolver, jarExplorer);
 
@@ -138,7 +138,7 @@ class ApplicationClassLoaderModelAssemblerTest {
     packages.add("org.test");
     Set<String> resources = new HashSet<>();
     resources.add("folder/file.properties");
-    when(jarExplorer.explore(classesDirectory.toURI())).thenReturn(new JarInfo(packages, resources));
+    doReturn(new JarInfo(packages, resources)).when(jarExplorer).explore(classesDirectory.toURI());
     ApplicationClassloaderModel applicationClassloaderModel =
         applicationClassLoaderModelAssemblerSpy.getApplicationClassLoaderModel(mock(File.class), outputDirectory,
                                                                                mock(ApplicationGAVModel.class), true, empty(),
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.packager.archiver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mule.tools.api.packager.archiver.OutputTimestamp.DEFAULT_OUTPUT_TIMESTAMP;
+
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+public class OutputTimestampTest {
+
+  @Test
+  public void parseIsoDateTest() {
+    assertThat(OutputTimestamp.parse("2023-10-01T10:15:30Z"))
+        .contains(FileTime.from(Instant.parse("2023-10-01T10:15:30Z")));
+    assertThat(OutputTimestamp.parse("2023-10-01T12:15:30+02:00"))
+        .contains(FileTime.from(Instant.parse("2023-10-01T10:15:30Z")));
+  }
+
+  @Test
+  public void parseEpochSecondsTest() {
+    assertThat(OutputTimestamp.parse("1696155330")).contains(FileTime.from(Instant.ofEpochSecond(1696155330L)));
+  }
+
+  @Test
+  public void undefinedTimestampTest() {
+    assertThat(OutputTimestamp.parse(null)).isEmpty();
+    assertThat(OutputTimestamp.parse("a")).isEmpty();
+    assertThat(OutputTimestamp.resolve(null)).isEqualTo(DEFAULT_OUTPUT_TIMESTAMP);
+  }
+
+  @Test
+  public void invalidTimestampTest() {
+    assertThatThrownBy(() -> OutputTimestamp.parse("yesterday")).isExactlyInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.packager.archiver;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mule.tools.api.packager.archiver.CompressionLevel.NO_COMPRESSION;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ParallelZipArchiverTest {
+
+  @TempDir
+  public Path temporaryFolder;
+
+  @Test
+  public void alreadyCompressedEntriesAreStoredTest() {
+    ParallelZipArchiver archiver = new ParallelZipArchiver();
+
+    assertThat(archiver.getCompressionLevel("repository/org/mule/dep/1.0.0/dep-1.0.0.jar")).isEqualTo(NO_COMPRESSION);
+    assertThat(archiver.getCompressionLevel("images/logo.PNG")).isEqualTo(NO_COMPRESSION);
+    assertThat(archiver.getCompressionLevel("org/mule/MyClass.class")).isEqualTo(Deflater.DEFAULT_COMPRESSION);
+    assertThat(archiver.getCompressionLevel("mule-config.xml")).isEqualTo(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  @Test
+  public void configuredCompressionLevelsTakePrecedenceTest() {
+    ParallelZipArchiver archiver = new ParallelZipArchiver(asList(new CompressionLevel("**/*.xml", 9),
+                                                                  new CompressionLevel("repository/**", 1)));
+
+    assertThat(archiver.getCompressionLevel("mule/mule-config.xml")).isEqualTo(9);
+    assertThat(archiver.getCompressionLevel("repository/org/mule/dep/1.0.0/dep-1.0.0.jar")).isEqualTo(1);
+    assertThat(archiver.getCompressionLevel("log4j2.properties")).isEqualTo(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  @Test
+  public void createArchiveTest() throws Exception {
+    File sources = Files.createDirectories(temporaryFolder.resolve("sources")).toFile();
+    Files.write(sources.toPath().resolve("mule-config.xml"), "<mule/>".getBytes());
+    Files.createDirectories(sources.toPath().resolve("repository"));
+    Files.write(sources.toPath().resolve("repository").resolve("dep.jar"), new byte[] {1, 2, 3});
+    File destinationFile = temporaryFolder.resolve("app.jar").toFile();
+
+    MuleArchiver archiver = new MuleArchiver(new ParallelZipArchiver(emptyList(), 2));
+    archiver.addToRoot(sources, null, null);
+    archiver.setDestFile(destinationFile);
+    archiver.createArchive();
+
+    try (ZipFile zipFile = new ZipFile(destinationFile)) {
+      ZipEntry config = zipFile.getEntry("mule-config.xml");
+      ZipEntry jar = zipFile.getEntry("repository/dep.jar");
+      assertThat(config.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+      assertThat(jar.getMethod()).isEqualTo(ZipEntry.STORED);
+      assertThat(jar.getSize()).isEqualTo(3);
+      assertThat(zipFile.getEntry("repository/")).isNotNull();
+    }
+  }
+
+  @Test
+  public void entriesAreWrittenInInputOrderTest() throws Exception {
+    File sources = Files.createDirectories(temporaryFolder.resolve("sources")).toFile();
+    ParallelZipArchiver archiver = new ParallelZipArchiver(asList(new CompressionLevel("**/*.xml", 9)), 4);
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      // Alternate stored, default and configured compression levels
+      String name = "entry-" + (99 - i) + (i % 3 == 0 ? ".jar" : i % 3 == 1 ? ".properties" : ".xml");
+      File file = sources.toPath().resolve(name).toFile();
+      Files.write(file.toPath(), ("content of " + name).getBytes());
+      archiver.addFile(file, name);
+      names.add(name);
+    }
+    File destinationFile = temporaryFolder.resolve("app.jar").toFile();
+    archiver.setDestFile(destinationFile);
+    archiver.createArchive();
+
+    try (ZipFile zipFile = new ZipFile(destinationFile)) {
+      assertThat(Collections.list(zipFile.entries())).extracting(ZipEntry::getName).containsExactlyElementsOf(names);
+      assertThat(IOUtils.toString(zipFile.getInputStream(zipFile.getEntry("entry-0.jar")), UTF_8))
+          .isEqualTo("content of entry-0.jar");
+      assertThat(zipFile.getEntry("entry-0.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+      assertThat(zipFile.getEntry("entry-98.properties").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+    }
+  }
+}
@@ -7,6 +7,7 @@
 
 package org.mule.tools.api.packager.builder;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -20,7 +21,10 @@ import static org.mule.tools.api.packager.structure.FolderNames.META_INF;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +61,20 @@ public class DomainBundlePackageBuilderTest {
     builder.withArchiver(archiverMock);
   }
 
+  @Test
+  public void parallelCompressionStoresTheBundledJars() throws IOException {
+    Files.write(fakeTargetFolder.toPath().resolve(APPLICATIONS.value()).resolve("app.jar"), new byte[] {1, 2, 3});
+
+    new DomainBundlePackageBuilder().withParallelCompression(true, emptyList())
+        .createPackage(fakeTargetFolder.toPath(), destinationFile.toPath());
+
+    try (ZipFile bundle = new ZipFile(destinationFile)) {
+      ZipEntry application = bundle.getEntry(APPLICATIONS.value() + "/app.jar");
+      assertThat(application).isNotNull();
+      assertThat(application.getMethod()).isEqualTo(ZipEntry.STORED);
+    }
+  }
+
   @Test
   public void setNullArchiver() {
     assertThatThrownBy(() -> this.builder.withArchiver(null)).isExactlyInstanceOf(IllegalArgumentException.class);
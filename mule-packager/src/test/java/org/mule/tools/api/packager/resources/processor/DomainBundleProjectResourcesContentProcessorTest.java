@@ -11,14 +11,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mule.tools.api.classloader.model.Artifact;
+import org.mule.tools.api.classloader.model.ArtifactCoordinates;
+import org.mule.tools.api.packager.resources.content.DomainBundleProjectResourcesContent;
 import org.mule.tools.api.packager.resources.content.ResourcesContent;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -57,4 +61,42 @@ public class DomainBundleProjectResourcesContentProcessorTest {
     verify(contentProcessorSpy, times(3)).copyAsDomainOrApplication(any());
   }
 
+  @Test
+  public void artifactsArePlacedConcurrentlyTest(@TempDir Path repository) throws IOException {
+    Files.createDirectories(domainFolder.toPath());
+    Files.createDirectories(applicationsFolder.toPath());
+    ResourcesContent resources = new DomainBundleProjectResourcesContent();
+    resources.add(artifact(repository, "domain", "mule-domain"));
+    for (int i = 0; i < 5; i++) {
+      resources.add(artifact(repository, "app-" + i, "mule-application"));
+    }
+
+    new DomainBundleProjectResourcesContentProcessor(targetFolder.toAbsolutePath(), 3).process(resources);
+
+    assertThat(domainFolder.toPath().resolve("domain.jar")).hasContent("domain");
+    for (int i = 0; i < 5; i++) {
+      assertThat(applicationsFolder.toPath().resolve("app-" + i + ".jar")).hasContent("app-" + i);
+    }
+  }
+
+  @Test
+  public void repositoryFilesAreNotSharedWithTheBundleTest(@TempDir Path repository) throws IOException {
+    Files.createDirectories(applicationsFolder.toPath());
+    ResourcesContent resources = new DomainBundleProjectResourcesContent();
+    resources.add(artifact(repository, "app", "mule-application"));
+
+    contentProcessor.process(resources);
+
+    Path placed = applicationsFolder.toPath().resolve("app.jar");
+    assertThat(Files.isSameFile(placed, repository.resolve("app.jar"))).isFalse();
+    // Rewriting the bundle folders in place leaves the repository untouched
+    Files.write(placed, "changed".getBytes());
+    assertThat(repository.resolve("app.jar")).hasContent("app");
+  }
+
+  private Artifact artifact(Path repository, String artifactId, String classifier) throws IOException {
+    Path file = Files.write(repository.resolve(artifactId + ".jar"), artifactId.getBytes());
+    return new Artifact(new ArtifactCoordinates("group", artifactId, "1.0.0", "jar", classifier), file.toUri());
+  }
+
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.repository;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DependencyResolutionCacheTest {
+
+  private DependencyResolutionCache cache;
+
+  @BeforeEach
+  public void before() {
+    cache = new DependencyResolutionCache();
+  }
+
+  @Test
+  public void sameKeyIsResolvedOnceTest() {
+    AtomicInteger resolutions = new AtomicInteger();
+    String first = cache.get(asList("group", "artifact", "1.0.0"), () -> "resolved-" + resolutions.incrementAndGet());
+    String second = cache.get(asList("group", "artifact", "1.0.0"), () -> "resolved-" + resolutions.incrementAndGet());
+
+    assertThat(first).isEqualTo("resolved-1");
+    assertThat(second).isEqualTo(first);
+    assertThat(cache.getMisses()).isEqualTo(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void differentKeysAreResolvedIndependentlyTest() {
+    cache.get(asList("group", "artifact", "1.0.0"), () -> "a");
+    cache.get(asList("group", "artifact", "2.0.0"), () -> "b");
+
+    assertThat(cache.getMisses()).isEqualTo(2);
+    assertThat(cache.getHits()).isEqualTo(0);
+  }
+
+  @Test
+  public void failedResolutionIsNotCachedTest() {
+    assertThatThrownBy(() -> cache.get("key", () -> {
+      throw new IllegalArgumentException("Could not resolve");
+    })).isExactlyInstanceOf(IllegalArgumentException.class);
+
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat((String) cache.get("key", () -> "resolved")).isEqualTo("resolved");
+  }
+}
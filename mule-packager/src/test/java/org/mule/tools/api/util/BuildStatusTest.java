@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BuildStatusTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  private BuildStatus status;
+  private Path output;
+  private List<Path> outputs;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    status = new BuildStatus(temporaryFolder.resolve("status"), "package");
+    output = Files.write(temporaryFolder.resolve("app.jar"), "package".getBytes());
+    outputs = singletonList(output);
+  }
+
+  @Test
+  public void neverExecutedStepIsNotUpToDate() throws Exception {
+    assertThat(status.isUpToDate(inputs("1"), outputs)).isFalse();
+    assertThat(status.getChangedInputs(inputs("1"))).isEmpty();
+  }
+
+  @Test
+  public void recordedStepIsUpToDate() throws Exception {
+    status.record(inputs("1"), outputs);
+
+    assertThat(status.isUpToDate(inputs("1"), outputs)).isTrue();
+  }
+
+  @Test
+  public void changedInputsAreNotUpToDate() throws Exception {
+    status.record(inputs("1"), outputs);
+
+    assertThat(status.isUpToDate(inputs("2"), outputs)).isFalse();
+    assertThat(status.getChangedInputs(inputs("2")))
+        .hasValueSatisfying(changed -> assertThat(changed).containsExactly("version"));
+  }
+
+  @Test
+  public void deletedOutputIsNotUpToDate() throws Exception {
+    status.record(inputs("1"), outputs);
+    Files.delete(output);
+
+    assertThat(status.isUpToDate(inputs("1"), outputs)).isFalse();
+  }
+
+  @Test
+  public void modifiedOutputIsNotUpToDate() throws Exception {
+    status.record(inputs("1"), outputs);
+    Files.write(output, "modified package".getBytes());
+    Files.setLastModifiedTime(output, FileTime.fromMillis(Files.getLastModifiedTime(output).toMillis() + 1000));
+
+    assertThat(status.isUpToDate(inputs("1"), outputs)).isFalse();
+  }
+
+  @Test
+  public void invalidatedStepIsNotUpToDate() throws Exception {
+    status.record(inputs("1"), outputs);
+    status.invalidate();
+
+    assertThat(status.isUpToDate(inputs("1"), outputs)).isFalse();
+  }
+
+  @Test
+  public void outputFoldersAreChecked() throws Exception {
+    Path folder = Files.createDirectories(temporaryFolder.resolve("repository"));
+    Files.write(folder.resolve("library.jar"), "library".getBytes());
+    status.record(inputs("1"), singletonList(folder));
+
+    Files.write(folder.resolve("other.jar"), "other".getBytes());
+
+    assertThat(status.isUpToDate(inputs("1"), singletonList(folder))).isFalse();
+  }
+
+  private Fingerprint inputs(String version) {
+    return new Fingerprint().with("version", version);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FingerprintTest {
+
+  @TempDir
+  Path temporaryFolder;
+
+  private Path configs;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    configs = Files.createDirectories(temporaryFolder.resolve("configs"));
+    Files.write(configs.resolve("app.xml"), "<mule/>".getBytes());
+    Files.write(Files.createDirectories(configs.resolve("nested")).resolve("other.xml"), "<mule/>".getBytes());
+  }
+
+  @Test
+  public void sameInputsHaveSameFingerprint() throws Exception {
+    assertThat(fingerprint()).isEqualTo(fingerprint());
+  }
+
+  @Test
+  public void changedFileIsReported() throws Exception {
+    Fingerprint before = fingerprint();
+    Files.write(configs.resolve("nested").resolve("other.xml"), "<mule></mule>".getBytes());
+
+    Fingerprint after = fingerprint();
+
+    assertThat(after).isNotEqualTo(before);
+    assertThat(after.getChangedKeys(before)).containsExactly("configs/nested/other.xml");
+  }
+
+  @Test
+  public void addedAndRemovedFilesAreReported() throws Exception {
+    Fingerprint before = fingerprint();
+    Files.delete(configs.resolve("app.xml"));
+    Files.write(configs.resolve("new.xml"), "<mule/>".getBytes());
+
+    assertThat(fingerprint().getChangedKeys(before)).containsExactlyInAnyOrder("configs/app.xml", "configs/new.xml");
+  }
+
+  @Test
+  public void directoryStampsLeaveOutFilteredFolders() throws Exception {
+    Path excluded = Files.createDirectories(configs.resolve("excluded"));
+    Files.write(excluded.resolve("ignored.xml"), "<mule/>".getBytes());
+
+    Fingerprint fingerprint =
+        new Fingerprint().withDirectoryStamps("configs", configs, file -> !file.getFileName().toString().equals("excluded"));
+
+    assertThat(fingerprint.getEntries()).containsOnlyKeys("configs/app.xml", "configs/nested/other.xml");
+  }
+
+  @Test
+  public void changedFileInDirectoryDependencyIsReported() throws Exception {
+    Fingerprint before = new Fingerprint().withPathStamps("dependency", configs.toFile());
+    Path config = configs.resolve("app.xml");
+    Files.write(config, "<mule><flow name=\"changed\"/></mule>".getBytes());
+
+    Fingerprint after = new Fingerprint().withPathStamps("dependency", configs.toFile());
+
+    assertThat(after.getChangedKeys(before)).containsExactly("dependency/app.xml");
+  }
+
+  @Test
+  public void writtenFingerprintIsRead() throws Exception {
+    Path file = temporaryFolder.resolve("status").resolve("fingerprint");
+    Fingerprint fingerprint = fingerprint();
+
+    fingerprint.write(file);
+
+    assertThat(Fingerprint.read(file)).contains(fingerprint);
+  }
+
+  @Test
+  public void missingFingerprintIsEmpty() {
+    assertThat(Fingerprint.read(temporaryFolder.resolve("missing"))).isEmpty();
+  }
+
+  private Fingerprint fingerprint() throws Exception {
+    return new Fingerprint().with("version", "4.4.0").withDirectory("configs", configs, file -> true);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class MemoizerTest {
+
+  @Test
+  public void concurrentCallersShareTheValue() throws Exception {
+    Memoizer<String, Integer> memoizer = new Memoizer<>();
+    AtomicInteger computations = new AtomicInteger();
+    CountDownLatch computing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Integer> first = executor.submit(() -> memoizer.get("key", () -> {
+        computing.countDown();
+        await(release);
+        return computations.incrementAndGet();
+      }));
+      assertThat(computing.await(5, SECONDS)).isTrue();
+      // Keys that are not being computed do not wait for the ones that are
+      assertThat(memoizer.get("other", () -> 0)).isZero();
+      release.countDown();
+
+      assertThat(memoizer.get("key", computations::incrementAndGet)).isEqualTo(first.get(5, SECONDS)).isEqualTo(1);
+      assertThat(computations).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void removedValuesAreComputedAgain() {
+    Memoizer<String, Integer> memoizer = new Memoizer<>();
+    AtomicInteger computations = new AtomicInteger();
+    memoizer.get("key", computations::incrementAndGet);
+
+    memoizer.removeIf("key"::equals);
+
+    assertThat(memoizer.get("key", computations::incrementAndGet)).isEqualTo(2);
+    assertThat(memoizer.getMisses()).isEqualTo(2);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.tools.api.classloader.model.Artifact;
+import org.mule.tools.api.classloader.model.ArtifactCoordinates;
+import org.mule.tools.api.classloader.model.ClassLoaderModel;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+public class MemoizingJarExplorerTest {
+
+  private static final URI LIBRARY = URI.create("file:/repository/library.jar");
+
+  @Test
+  public void libraryIsExploredOnce() {
+    JarExplorer delegate = mock(JarExplorer.class);
+    when(delegate.explore(LIBRARY)).thenReturn(new JarInfo(singleton("org.mule"), singleton("resource.txt")));
+    MemoizingJarExplorer explorer = new MemoizingJarExplorer(delegate);
+
+    JarInfo first = explorer.explore(LIBRARY);
+    JarInfo second = explorer.explore(LIBRARY);
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.getPackagesArray()).isSameAs(first.getPackagesArray()).containsExactly("org.mule");
+    assertThat(second.getResourcesArray()).isSameAs(first.getResourcesArray()).containsExactly("resource.txt");
+    verify(delegate, times(1)).explore(LIBRARY);
+  }
+
+  @Test
+  public void modelsKeepTheArraysOfTheLibrary() {
+    JarExplorer delegate = mock(JarExplorer.class);
+    when(delegate.explore(LIBRARY)).thenReturn(new JarInfo(singleton("org.mule"), singleton("resource.txt")));
+    MemoizingJarExplorer explorer = new MemoizingJarExplorer(delegate);
+    Artifact artifact = new Artifact(new ArtifactCoordinates("org.mule", "library", "1.0.0"), LIBRARY);
+    ClassLoaderModel model = new ClassLoaderModel("1.2.0", artifact.getArtifactCoordinates());
+
+    artifact.setPackages(explorer.explore(LIBRARY).getPackagesArray());
+    model.setPackages(explorer.explore(LIBRARY).getPackagesArray());
+
+    assertThat(artifact.getPackages()).isSameAs(model.getPackages()).isSameAs(explorer.explore(LIBRARY).getPackagesArray());
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.tools.api.util;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.mule.tools.api.packager.ProjectInformation;
+import org.mule.tools.client.authentication.model.Credentials;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProjectInformationCacheTest {
+
+  private ProjectInformationCache cache;
+  private MavenProject project;
+  private AtomicInteger builds;
+
+  @BeforeEach
+  public void setUp() {
+    cache = new ProjectInformationCache();
+    project = new MavenProject();
+    project.setGroupId("group");
+    project.setArtifactId("artifact");
+    project.setVersion("1.0.0");
+    project.setFile(new File("pom.xml"));
+    builds = new AtomicInteger();
+  }
+
+  @Test
+  public void equalInputsShareTheEntry() {
+    ProjectInformation first = cache.get(project, asList("mule-application", "app"), this::build);
+    ProjectInformation second = cache.get(project, asList("mule-application", "app"), this::build);
+
+    assertThat(second).isSameAs(first);
+    assertThat(builds).hasValue(1);
+  }
+
+  @Test
+  public void changedInputsRebuildTheEntry() {
+    ProjectInformation first = cache.get(project, asList("mule-application", "app"), this::build);
+    ProjectInformation second = cache.get(project, asList("mule-application", "other-app"), this::build);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(builds).hasValue(2);
+  }
+
+  @Test
+  public void generatedGroupIdIsLookedUpOncePerOrganizationAndCredentials() {
+    AtomicInteger lookups = new AtomicInteger();
+    Supplier<String> lookup = () -> "group-" + lookups.incrementAndGet();
+    String uri = "https://anypoint.mulesoft.com/";
+    Credentials credentials = new Credentials("user", "password");
+
+    String first = cache.getGeneratedGroupId(uri, "org", credentials, lookup);
+    String second = cache.getGeneratedGroupId(uri, "org", new Credentials("user", "password"), lookup);
+    String otherPassword = cache.getGeneratedGroupId(uri, "org", new Credentials("user", "other"), lookup);
+    String otherOrganization = cache.getGeneratedGroupId(uri, "other-org", credentials, lookup);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(otherPassword).isNotEqualTo(first);
+    assertThat(otherOrganization).isNotEqualTo(first).isNotEqualTo(otherPassword);
+    assertThat(lookups).hasValue(3);
+  }
+
+  @Test
+  public void concurrentRequestsBuildTheEntryOnce() throws Exception {
+    CountDownLatch building = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<ProjectInformation> first = executor.submit(() -> cache.get(project, asList("inputs"), () -> {
+        building.countDown();
+        await(release);
+        return build();
+      }));
+      assertThat(building.await(10, SECONDS)).isTrue();
+
+      // Other projects are not blocked while the entry of the first one is being built
+      MavenProject other = new MavenProject();
+      other.setArtifactId("other");
+      assertThat(cache.get(other, asList("inputs"), this::build)).isNotNull();
+
+      Future<ProjectInformation> second = executor.submit(() -> cache.get(project, asList("inputs"), this::build));
+      release.countDown();
+
+      assertThat(second.get(10, SECONDS)).isSameAs(first.get(10, SECONDS));
+      assertThat(builds).hasValue(2);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private ProjectInformation build() {
+    builds.incrementAndGet();
+    return mock(ProjectInformation.class);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
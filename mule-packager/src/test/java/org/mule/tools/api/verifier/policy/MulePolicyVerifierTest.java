@@ -49,6 +49,15 @@ public class MulePolicyVerifierTest {
         .hasMessageContaining("The file mule-artifact.json should be present.");
   }
 
+  @Test
+  public void everyMissingFileIsReported() {
+    assertThatThrownBy(() -> getVerifier(getTestResourceFolder(MISSING_MULE_ARTIFACT)).verify())
+        .isExactlyInstanceOf(ValidationException.class)
+        .hasMessageContaining("The file mule-artifact.json should be present.")
+        .hasMessageContaining("The file " + concatPath("src", "main", "mule", "template.xml") + " should be present.")
+        .hasMessageContaining("The file " + ARTIFACT_ID + ".yaml should be present.");
+  }
+
   @Test
   public void isPolicyProjectStructureIsInvalidWithoutTemplateXML() {
     assertThatThrownBy(() -> getVerifier(getTestResourceFolder(MISSING_TEMPLATE_XML)).verify())
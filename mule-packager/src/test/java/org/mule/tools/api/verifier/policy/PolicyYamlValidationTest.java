@@ -74,6 +74,13 @@ public class PolicyYamlValidationTest {
         .hasMessageContaining(expectMissingProperty("propertyName"));
   }
 
+  @Test
+  public void yamlParsesCorrectlyAfterAFailedOne() throws ValidationException {
+    // A failed validation leaves nothing behind that breaks the next one
+    assertThatThrownBy(() -> testYaml("missing-id.yaml")).isExactlyInstanceOf(ValidationException.class);
+    testYaml("caching-yaml-example.yaml");
+  }
+
   private String expectMissingProperty(String property) {
     return "Missing required creator property '" + property + "'";
   }
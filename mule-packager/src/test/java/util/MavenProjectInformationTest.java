@@ -24,6 +24,7 @@ import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 
 class MavenProjectInformationTest {
 
@@ -82,4 +83,26 @@ class MavenProjectInformationTest {
     assertThat(mavenProjectInformation.isDeployment()).as("The project information is for a deploy goal").isFalse();
   }
 
+  @Test
+  void projectInformationIsMemoizedPerSession(@TempDir Path tempDir) {
+    when(buildMock.getDirectory()).thenReturn(tempDir.toAbsolutePath().toString());
+    when(mavenSessionMock.getGoals()).thenReturn(newArrayList("verify"));
+    when(mavenSessionMock.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession());
+
+    MavenProjectInformation first = getProjectInformation(mavenSessionMock, mavenProjectMock,
+                                                          tempDir.toAbsolutePath().toFile(), false, newArrayList(),
+                                                          "mule-application");
+    MavenProjectInformation second = getProjectInformation(mavenSessionMock, mavenProjectMock,
+                                                           tempDir.toAbsolutePath().toFile(), false, newArrayList(),
+                                                           "mule-application");
+    MavenProjectInformation testJar = getProjectInformation(mavenSessionMock, mavenProjectMock,
+                                                            tempDir.toAbsolutePath().toFile(), true, newArrayList(),
+                                                            "mule-application");
+
+    assertThat(second.getProject()).as("The project information was rebuilt").isSameAs(first.getProject());
+    assertThat(testJar.getProject()).as("The project information was not rebuilt").isNotSameAs(first.getProject());
+    assertThat(testJar.isTestProject()).isTrue();
+    assertThat(first.isTestProject()).isFalse();
+  }
+
 }